@@ -25,18 +25,126 @@ repositories {
 }
 
 dependencies {
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	implementation("org.springframework.boot:spring-boot-starter-aop")
 	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
 	implementation("org.springframework.boot:spring-boot-starter-security")
 	implementation("org.springframework.boot:spring-boot-starter-web")
 	implementation("org.springframework.boot:spring-boot-starter-validation")
+	implementation("org.hibernate.orm:hibernate-micrometer")
+	implementation("net.ttddyy:datasource-proxy:1.9")
+	implementation("io.projectreactor:reactor-core")
 	compileOnly("org.projectlombok:lombok")
 	runtimeOnly("com.h2database:h2")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 	annotationProcessor("org.projectlombok:lombok")
 	testImplementation("org.springframework.boot:spring-boot-starter-test")
 	testImplementation("org.springframework.security:spring-security-test")
+	testImplementation("io.projectreactor:reactor-test")
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+tasks.test {
+	useJUnitPlatform {
+		excludeTags("benchmark", "loadtest", "integration")
+	}
+}
+
+// -D 로 지정한 prefix 의 system property 를 테스트 JVM 으로 전달
+fun Test.forwardSystemProperties(prefix: String) {
+	systemProperties(System.getProperties().entries
+		.filter { it.key.toString().startsWith(prefix) }
+		.associate { it.key.toString() to it.value })
+}
+
+// @Tag("benchmark") 테스트는 ./gradlew benchmark 로만 실행
+tasks.register<Test>("benchmark") {
+	description = "Runs tests tagged as benchmark."
+	group = "verification"
+	testClassesDirs = sourceSets.test.get().output.classesDirs
+	classpath = sourceSets.test.get().runtimeClasspath
+	useJUnitPlatform {
+		includeTags("benchmark")
+	}
+	forwardSystemProperties("catalog.bench.")
+	forwardSystemProperties("startup.")
+	forwardSystemProperties("checkout.allocation.")
+	testLogging {
+		showStandardStreams = true
+	}
+}
+
+// @Tag("integration") 테스트 (애플리케이션을 여러 개 띄우는 테스트) 는 별도 JVM 에서 실행하고 check 에 포함
+val integrationTest by tasks.registering(Test::class) {
+	description = "Runs tests tagged as integration."
+	group = "verification"
+	testClassesDirs = sourceSets.test.get().output.classesDirs
+	classpath = sourceSets.test.get().runtimeClasspath
+	useJUnitPlatform {
+		includeTags("integration")
+	}
+	shouldRunAfter(tasks.test)
+}
+
+tasks.check {
+	dependsOn(integrationTest)
+}
+
+// REST API 부하 테스트: ./gradlew loadTest -Dloadtest.clients=128 -Dloadtest.duration-seconds=60
+// 설정은 LoadTestSettings 참고, 결과는 build/loadtest/loadtest-*.csv, *.json
+tasks.register<Test>("loadTest") {
+	description = "Runs the REST API load test and writes per-endpoint latency reports."
+	group = "verification"
+	testClassesDirs = sourceSets.test.get().output.classesDirs
+	classpath = sourceSets.test.get().runtimeClasspath
+	useJUnitPlatform {
+		includeTags("loadtest")
+	}
+	forwardSystemProperties("loadtest.")
+	outputs.upToDateWhen { false }
+	testLogging {
+		showStandardStreams = true
+	}
+}
+
+// AppCDS: ./gradlew cdsArchive 후
+// java -XX:SharedArchiveFile=build/cds/application.jsa -jar build/cds/<jar> --spring.profiles.active=prod
+val cdsDir = layout.buildDirectory.dir("cds")
+val cdsJava = javaToolchains.launcherFor {
+	languageVersion = JavaLanguageVersion.of(17)
+}
+
+val cdsExtract by tasks.registering(Exec::class) {
+	description = "Extracts the boot jar into the layout required for class data sharing."
+	group = "build"
+	dependsOn(tasks.bootJar)
+	doFirst {
+		delete(cdsDir)
+		commandLine(
+			cdsJava.get().executablePath.asFile.absolutePath,
+			"-Djarmode=tools", "-jar", tasks.bootJar.get().archiveFile.get().asFile.absolutePath,
+			"extract", "--destination", cdsDir.get().asFile.absolutePath
+		)
+	}
+}
+
+tasks.register<Exec>("cdsArchive") {
+	description = "Creates an AppCDS archive from a training run of the prod profile."
+	group = "build"
+	dependsOn(cdsExtract)
+	doFirst {
+		workingDir = cdsDir.get().asFile
+		commandLine(
+			cdsJava.get().executablePath.asFile.absolutePath,
+			"-XX:ArchiveClassesAtExit=application.jsa",
+			"-Dspring.context.exit=onRefresh",
+			"-jar", tasks.bootJar.get().archiveFileName.get(),
+			"--spring.profiles.active=prod",
+			"--spring.sql.init.mode=always"
+		)
+	}
+}
@@ -0,0 +1,21 @@
+package com.seowon.coding.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * HTTP Basic 인증 결과 캐시 설정 (security.auth-cache.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "security.auth-cache")
+public class AuthCacheProperties {
+
+    private boolean enabled = true;
+
+    /** 성공한 인증을 재사용할 시간. 비밀번호 변경/계정 잠금이 반영되는 최대 지연이기도 하다. */
+    private Duration ttl = Duration.ofSeconds(60);
+
+    private int maxSize = 1_000;
+}
@@ -0,0 +1,30 @@
+package com.seowon.coding.config;
+
+import com.seowon.coding.domain.model.PolicyIndex;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * API 권한 정책 (authz.*). 기동 시 {@link PolicyIndex} 로 컴파일된다.
+ */
+@Data
+@ConfigurationProperties(prefix = "authz")
+public class AuthorizationProperties {
+
+    /** userId -> groupIds */
+    private Map<String, List<String>> users = new LinkedHashMap<>();
+
+    /** groupId -> policyIds */
+    private Map<String, List<String>> groups = new LinkedHashMap<>();
+
+    /** policyId -> statements */
+    private Map<String, List<PolicyIndex.StatementDefinition>> policies = new LinkedHashMap<>();
+
+    public PolicyIndex compile() {
+        return PolicyIndex.compile(users, groups, policies);
+    }
+}
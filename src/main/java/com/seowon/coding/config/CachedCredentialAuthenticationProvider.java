@@ -0,0 +1,106 @@
+package com.seowon.coding.config;
+
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 성공한 username/password 검증 결과를 짧은 TTL 동안 재사용하는 AuthenticationProvider.
+ * BCrypt 검증은 요청마다 수십 ms 의 CPU 를 쓰므로, 같은 자격증명이 반복되는 HTTP Basic 에서는 최초 1회만 검증한다.
+ * - 캐시 key 는 기동 시 생성한 임의 키로 만든 HMAC-SHA256(username, password) 이라 메모리에 평문/역산 가능한 해시가 남지 않는다.
+ * - 실패한 인증은 캐시하지 않는다.
+ */
+public class CachedCredentialAuthenticationProvider implements AuthenticationProvider {
+
+    private static final String HMAC = "HmacSHA256";
+
+    private final AuthenticationProvider delegate;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final Map<String, Entry> cache;
+    private final ThreadLocal<Mac> mac;
+
+    public CachedCredentialAuthenticationProvider(AuthenticationProvider delegate, AuthCacheProperties properties) {
+        this(delegate, properties, Clock.systemUTC());
+    }
+
+    CachedCredentialAuthenticationProvider(AuthenticationProvider delegate, AuthCacheProperties properties, Clock clock) {
+        this.delegate = delegate;
+        this.ttlMillis = properties.getTtl().toMillis();
+        this.clock = clock;
+        int maxSize = properties.getMaxSize();
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        SecretKeySpec key = new SecretKeySpec(secret, HMAC);
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac m = Mac.getInstance(HMAC);
+                m.init(key);
+                return m;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        if (authentication.getCredentials() == null) {
+            return delegate.authenticate(authentication);
+        }
+        String key = cacheKey(authentication.getName(), authentication.getCredentials().toString());
+        long now = clock.millis();
+
+        Entry cached = get(key);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.authentication;
+        }
+
+        Authentication result = delegate.authenticate(authentication);
+        if (result != null && result.isAuthenticated()) {
+            put(key, new Entry(result, now + ttlMillis));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
+    }
+
+    private String cacheKey(String username, String password) {
+        Mac m = mac.get();
+        m.update(username.getBytes(StandardCharsets.UTF_8));
+        m.update((byte) 0);
+        return Base64.getEncoder().encodeToString(m.doFinal(password.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private synchronized Entry get(String key) {
+        return cache.get(key);
+    }
+
+    private synchronized void put(String key, Entry entry) {
+        cache.put(key, entry);
+    }
+
+    private record Entry(Authentication authentication, long expiresAt) {
+    }
+}
@@ -0,0 +1,114 @@
+package com.seowon.coding.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.seowon.coding.domain.dto.OrderItemResponse;
+import com.seowon.coding.domain.dto.OrderResponse;
+import com.seowon.coding.domain.dto.ProductResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 자주 쓰이는 응답 타입은 bean introspection 없이 필드를 직접 쓰는 serializer 로 직렬화한다.
+ * Spring Boot 가 Module bean 을 자동 등록하므로 기본 ObjectMapper 설정은 그대로 유지된다.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module responseModule() {
+        SimpleModule module = new SimpleModule("responses");
+        module.addSerializer(ProductResponse.class, new ProductResponseSerializer());
+        module.addSerializer(OrderItemResponse.class, new OrderItemResponseSerializer());
+        module.addSerializer(OrderResponse.class, new OrderResponseSerializer());
+        return module;
+    }
+
+    static class ProductResponseSerializer extends StdSerializer<ProductResponse> {
+
+        ProductResponseSerializer() {
+            super(ProductResponse.class);
+        }
+
+        @Override
+        public void serialize(ProductResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject();
+            writeLong(gen, "id", value.id());
+            gen.writeStringField("name", value.name());
+            gen.writeStringField("description", value.description());
+            writeDecimal(gen, "price", value.price());
+            gen.writeNumberField("stockQuantity", value.stockQuantity());
+            gen.writeStringField("category", value.category());
+            gen.writeStringField("lastModified", value.lastModified() == null ? null : value.lastModified().toString());
+            gen.writeEndObject();
+        }
+    }
+
+    static class OrderItemResponseSerializer extends StdSerializer<OrderItemResponse> {
+
+        OrderItemResponseSerializer() {
+            super(OrderItemResponse.class);
+        }
+
+        @Override
+        public void serialize(OrderItemResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject();
+            writeLong(gen, "id", value.id());
+            writeLong(gen, "productId", value.productId());
+            gen.writeStringField("productName", value.productName());
+            gen.writeNumberField("quantity", value.quantity());
+            writeDecimal(gen, "price", value.price());
+            gen.writeEndObject();
+        }
+    }
+
+    static class OrderResponseSerializer extends StdSerializer<OrderResponse> {
+
+        private final OrderItemResponseSerializer itemSerializer = new OrderItemResponseSerializer();
+
+        OrderResponseSerializer() {
+            super(OrderResponse.class);
+        }
+
+        @Override
+        public void serialize(OrderResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject();
+            writeLong(gen, "id", value.id());
+            gen.writeStringField("customerName", value.customerName());
+            gen.writeStringField("customerEmail", value.customerEmail());
+            gen.writeStringField("status", value.status() == null ? null : value.status().name());
+            gen.writeStringField("orderDate",
+                    value.orderDate() == null ? null : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value.orderDate()));
+            writeDecimal(gen, "totalAmount", value.totalAmount());
+            gen.writeArrayFieldStart("items");
+            for (OrderItemResponse item : value.items()) {
+                itemSerializer.serialize(item, gen, provider);
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+    }
+
+    private static void writeLong(JsonGenerator gen, String name, Long value) throws IOException {
+        if (value == null) {
+            gen.writeNullField(name);
+        } else {
+            gen.writeNumberField(name, value.longValue());
+        }
+    }
+
+    private static void writeDecimal(JsonGenerator gen, String name, BigDecimal value) throws IOException {
+        if (value == null) {
+            gen.writeNullField(name);
+        } else {
+            gen.writeNumberField(name, value);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.seowon.coding.config;
+
+import com.seowon.coding.domain.model.ProcessingStatus;
+import com.seowon.coding.domain.repository.ProcessingStatusRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요청 처리 경로 밖에서 scrape 시점에만 계산되는 gauge.
+ * 커넥션 풀(hikaricp.*), Hibernate(hibernate.*), HTTP(http.server.requests) 메트릭은 Spring Boot 가 자동 등록한다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder processingJobMetrics(ProcessingStatusRepository processingStatusRepository) {
+        return registry -> Gauge.builder("jobs.running", processingStatusRepository,
+                        repository -> repository.countByStatus(ProcessingStatus.Status.RUNNING))
+                .description("ProcessingStatus jobs currently in RUNNING state")
+                .strongReference(true)
+                .register(registry);
+    }
+}
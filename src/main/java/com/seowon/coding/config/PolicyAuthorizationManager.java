@@ -0,0 +1,91 @@
+package com.seowon.coding.config;
+
+import com.seowon.coding.domain.model.PolicyIndex;
+import com.seowon.coding.profiling.PermissionCheckEvent;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.function.Supplier;
+
+/**
+ * 요청(HTTP method + path)을 action/resource 로 변환해서 {@link PolicyIndex} 로 인가한다.
+ * - /api/orders/**   -> resource "orders"
+ * - /api/products/** -> resource "products"
+ * - /api/profiling/** -> resource "profiling"
+ * - GET/HEAD/OPTIONS 는 "{resource}:Read", 나머지는 "{resource}:Write"
+ */
+public class PolicyAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private static final String ORDERS = "orders";
+    private static final String PRODUCTS = "products";
+    private static final String PROFILING = "profiling";
+    private static final String ORDERS_READ = "orders:Read";
+    private static final String ORDERS_WRITE = "orders:Write";
+    private static final String PRODUCTS_READ = "products:Read";
+    private static final String PRODUCTS_WRITE = "products:Write";
+    private static final String PROFILING_READ = "profiling:Read";
+    private static final String PROFILING_WRITE = "profiling:Write";
+
+    private final PolicyIndex policyIndex;
+
+    public PolicyAuthorizationManager(PolicyIndex policyIndex) {
+        this.policyIndex = policyIndex;
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        PermissionCheckEvent event = new PermissionCheckEvent();
+        event.begin();
+        String resource = null;
+        String action = null;
+        boolean granted = false;
+        Authentication auth = authentication.get();
+        if (auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken)) {
+            HttpServletRequest request = context.getRequest();
+            resource = resourceOf(request);
+            if (resource != null) {
+                action = actionOf(resource, request.getMethod());
+                granted = policyIndex.isAllowed(auth.getName(), action, resource);
+            }
+        }
+        event.complete(action, resource, granted);
+        return granted ? GRANTED : DENIED;
+    }
+
+    static String resourceOf(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (isUnder(path, "/api/orders")) {
+            return ORDERS;
+        }
+        if (isUnder(path, "/api/products")) {
+            return PRODUCTS;
+        }
+        if (isUnder(path, "/api/profiling")) {
+            return PROFILING;
+        }
+        return null;
+    }
+
+    // 요청마다 문자열을 만들지 않도록 상수로 반환
+    static String actionOf(String resource, String method) {
+        boolean read = "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+        if (ORDERS.equals(resource)) {
+            return read ? ORDERS_READ : ORDERS_WRITE;
+        }
+        if (PROFILING.equals(resource)) {
+            return read ? PROFILING_READ : PROFILING_WRITE;
+        }
+        return read ? PRODUCTS_READ : PRODUCTS_WRITE;
+    }
+
+    private static boolean isUnder(String path, String prefix) {
+        return path.startsWith(prefix) && (path.length() == prefix.length() || path.charAt(prefix.length()) == '/');
+    }
+}
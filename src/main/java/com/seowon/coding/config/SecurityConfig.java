@@ -1,10 +1,19 @@
 package com.seowon.coding.config;
 
+import jakarta.servlet.DispatcherType;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 
 @Configuration
@@ -12,11 +21,15 @@ import org.springframework.security.web.SecurityFilterChain;
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   PolicyAuthorizationManager policyAuthorizationManager) throws Exception {
         http
             .csrf(AbstractHttpConfigurer::disable) // Disable CSRF
             .authorizeHttpRequests(auth -> auth
+                // 스트리밍 응답의 async dispatch 는 최초 요청에서 이미 인가됨
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/h2-console/**").permitAll()
+                .requestMatchers("/api/orders/**", "/api/products/**", "/api/profiling/**").access(policyAuthorizationManager)
                 .anyRequest().authenticated()
             )
             .headers(headers -> headers
@@ -26,4 +39,37 @@ public class SecurityConfig {
 
         return http.build();
     }
-}
\ No newline at end of file
+
+    // authz.* 정책은 기동 시 한 번만 인덱스로 컴파일
+    @Bean
+    public PolicyAuthorizationManager policyAuthorizationManager(AuthorizationProperties authorizationProperties) {
+        return new PolicyAuthorizationManager(authorizationProperties.compile());
+    }
+
+    // AuthenticationProvider bean 을 직접 등록하면 Boot 의 기본 사용자 설정이 빠지므로 spring.security.user 로 직접 생성
+    @Bean
+    public UserDetailsService userDetailsService(SecurityProperties properties) {
+        SecurityProperties.User user = properties.getUser();
+        return new InMemoryUserDetailsManager(User.withUsername(user.getName())
+                .password(user.getPassword())
+                .roles(user.getRoles().toArray(String[]::new))
+                .build());
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    }
+
+    @Bean
+    public AuthenticationProvider authenticationProvider(UserDetailsService userDetailsService,
+                                                         PasswordEncoder passwordEncoder,
+                                                         AuthCacheProperties authCacheProperties) {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+        if (!authCacheProperties.isEnabled()) {
+            return provider;
+        }
+        return new CachedCredentialAuthenticationProvider(provider, authCacheProperties);
+    }
+}
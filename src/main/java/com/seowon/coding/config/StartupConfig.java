@@ -0,0 +1,38 @@
+package com.seowon.coding.config;
+
+import com.seowon.coding.inventory.CategoryAggregateStore;
+import com.seowon.coding.inventory.StockRiskMonitor;
+import com.seowon.coding.outbox.OrderOutboxDispatcher;
+import com.seowon.coding.service.BulkShipWorker;
+import com.seowon.coding.service.OrderArchiveJob;
+import com.seowon.coding.service.pricing.PricingEngine;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+import org.springframework.security.web.SecurityFilterChain;
+
+/**
+ * spring.main.lazy-initialization=true (prod) 에서도 기동 시 바로 만들어야 하는 bean.
+ * - EntityManagerFactory: 스키마 검증 실패를 첫 요청이 아니라 기동 시점에 발견
+ * - SecurityFilterChain, PolicyAuthorizationManager, PricingEngine: 설정 오류를 기동 시점에 발견하고 첫 요청 지연 방지
+ * - OrderOutboxDispatcher, OrderArchiveJob, BulkShipWorker: @Scheduled bean 은 생성되어야 스케줄이 등록된다
+ * - StockRiskMonitor, CategoryAggregateStore: 기동 시 재고 위험 인덱스/카테고리 집계를 만들고 gauge (카테고리 집계는 주기적 rebuild 도) 를 등록
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerCriticalBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                AbstractEntityManagerFactoryBean.class,
+                SecurityFilterChain.class,
+                PolicyAuthorizationManager.class,
+                PricingEngine.class,
+                OrderOutboxDispatcher.class,
+                OrderArchiveJob.class,
+                BulkShipWorker.class,
+                StockRiskMonitor.class,
+                CategoryAggregateStore.class);
+    }
+}
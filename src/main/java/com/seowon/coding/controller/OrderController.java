@@ -1,12 +1,32 @@
 package com.seowon.coding.controller;
 
+import com.seowon.coding.domain.dto.CustomerOrderHistory;
+import com.seowon.coding.domain.dto.CustomerOrderSummaryResponse;
+import com.seowon.coding.domain.dto.OrderResponse;
+import com.seowon.coding.domain.dto.ProcessingStatusResponse;
+import com.seowon.coding.domain.model.BulkOrderReq;
+import com.seowon.coding.domain.model.BulkShipReq;
+import com.seowon.coding.domain.model.BulkStatusChangeReq;
 import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.OrderPatchReq;
+import com.seowon.coding.domain.model.OrderReq;
+import com.seowon.coding.domain.model.QuoteReq;
+import com.seowon.coding.service.BulkOrderResult;
+import com.seowon.coding.service.BulkShipJobService;
+import com.seowon.coding.service.BulkStatusChangeResult;
+import com.seowon.coding.service.CustomerOrderService;
+import com.seowon.coding.service.IdempotencyService;
+import com.seowon.coding.service.OrderArchiveService;
+import com.seowon.coding.service.OrderBatchService;
 import com.seowon.coding.service.OrderService;
+import com.seowon.coding.service.pricing.PriceQuote;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -15,24 +35,88 @@ import java.util.List;
 public class OrderController {
     
     private final OrderService orderService;
+    private final OrderBatchService orderBatchService;
+    private final IdempotencyService idempotencyService;
+    private final CustomerOrderService customerOrderService;
+    private final OrderArchiveService orderArchiveService;
+    private final BulkShipJobService bulkShipJobService;
     
     @GetMapping
-    public ResponseEntity<List<Order>> getAllOrders() {
-        return ResponseEntity.ok(orderService.getAllOrders());
+    public ResponseEntity<List<OrderResponse>> getAllOrders() {
+        return ResponseEntity.ok(orderService.getAllOrderResponses());
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<Order> getOrderById(@PathVariable Long id) {
-        return orderService.getOrderById(id)
+    public ResponseEntity<OrderResponse> getOrderById(@PathVariable Long id) {
+        return orderService.getOrderResponseById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * 주문일 기간 조회 (주문 항목 제외). 보관 기간 이전이 포함된 기간만 archive 테이블까지 조회한다.
+     * 예: /api/orders/range?from=2025-01-01T00:00:00&to=2025-01-31T23:59:59
+     */
+    @GetMapping("/range")
+    public ResponseEntity<List<OrderResponse>> getOrdersBetween(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            return ResponseEntity.ok(orderArchiveService.findOrdersBetween(from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 고객 주문 요약 (주문 수, 누적 결제 금액, 마지막 주문일). 미리 집계된 값을 반환한다.
+     */
+    @GetMapping("/customers/summary")
+    public ResponseEntity<CustomerOrderSummaryResponse> getCustomerSummary(@RequestParam String email) {
+        try {
+            return customerOrderService.getSummary(email)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 고객 주문 이력 (최신순, 페이지 단위). 주문 항목은 포함하지 않는다.
+     */
+    @GetMapping("/customers/history")
+    public ResponseEntity<CustomerOrderHistory> getCustomerHistory(@RequestParam String email,
+                                                                   @RequestParam(defaultValue = "0") int page,
+                                                                   @RequestParam(defaultValue = "50") int size) {
+        try {
+            return ResponseEntity.ok(customerOrderService.getHistory(email, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PutMapping("/{id}")
-    public ResponseEntity<Order> updateOrder(@PathVariable Long id, @RequestBody Order order) {
+    public ResponseEntity<OrderResponse> updateOrder(@PathVariable Long id, @RequestBody Order order) {
         try {
             Order updatedOrder = orderService.updateOrder(id, order);
-            return ResponseEntity.ok(updatedOrder);
+            return ResponseEntity.ok(OrderResponse.from(updatedOrder));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    /**
+     * 요청에 있는 필드만 수정. PUT 과 달리 주문 항목/상태를 덮어쓰지 않는다.
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<OrderResponse> patchOrder(@PathVariable Long id, @RequestBody OrderPatchReq patch) {
+        try {
+            return ResponseEntity.ok(orderService.patchOrder(id, patch));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -55,6 +139,8 @@ public class OrderController {
      * 2. orderService.placeOrder 호출
      * 3. 주문 생성시 HTTP 201 CREATED 반환
      * 4. 필요한 DTO 생성
+     *
+     * Idempotency-Key 헤더가 있으면 같은 key 로 재시도된 요청은 새 주문을 만들지 않고 처음 생성된 주문을 반환
      * 
      * Request body 예시:
      * {
@@ -67,12 +153,71 @@ public class OrderController {
      * }
      */
     @PostMapping("/orders")
-    public ResponseEntity<Order> createOrder(@RequestBody OrderReq orderReq){
+    public ResponseEntity<OrderResponse> createOrder(@RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                             @RequestBody OrderReq orderReq){
         try {
-            Order createOrder = orderService.placeOrder(orderReq.getCustomerName(), orderReq.getCustomerEmail(), orderReq.getProductIds(), orderReq.getQuantoties());
+            OrderResponse createOrder = idempotencyService.execute(idempotencyKey, () ->
+                    orderService.placeOrder(orderReq.getCustomerName(), orderReq.getCustomerEmail(), orderReq.getProductIds(), orderReq.getQuantoties()));
             return ResponseEntity.status(HttpStatus.CREATED).body(createOrder);
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 주문을 생성하지 않고 checkout 가격(소계, 배송비, 할인, 세금, 합계)만 계산
+     */
+    @PostMapping("/quote")
+    public ResponseEntity<PriceQuote> quoteOrder(@RequestBody QuoteReq quoteReq) {
+        try {
+            return ResponseEntity.ok(orderService.quoteOrder(quoteReq.getProducts(), quoteReq.getCouponCode()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 여러 주문을 한 번에 접수. 주문별 성공/실패를 요청 순서대로 반환하며 일부 실패가 전체를 실패시키지 않는다.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<BulkOrderResult>> createOrders(@RequestBody List<BulkOrderReq> orderReqs) {
+        try {
+            return ResponseEntity.ok(orderBatchService.placeOrders(orderReqs));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 여러 주문의 상태를 한 번에 변경. 존재하지 않거나 전이할 수 없는 주문은 건너뛰고 rejectedIds 로 반환한다.
+     */
+    @PostMapping("/status")
+    public ResponseEntity<BulkStatusChangeResult> changeStatuses(@RequestBody BulkStatusChangeReq req) {
+        try {
+            return ResponseEntity.ok(orderBatchService.changeStatuses(req.getOrderIds(), req.getStatus()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 일괄 배송 작업 등록. 주문은 chunk 로 나뉘어 각 노드의 worker 가 처리하고, 진행 상태는 GET /bulk-ship/{jobId} 로 조회한다.
+     * 같은 jobId 로 다시 요청하면 새로 만들지 않고 기존 작업 상태를 돌려준다.
+     */
+    @PostMapping("/bulk-ship")
+    public ResponseEntity<ProcessingStatusResponse> submitBulkShip(@RequestBody BulkShipReq req) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(bulkShipJobService.submit(req.getJobId(), req.getOrderIds()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/bulk-ship/{jobId}")
+    public ResponseEntity<ProcessingStatusResponse> getBulkShipStatus(@PathVariable String jobId) {
+        return bulkShipJobService.getStatus(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
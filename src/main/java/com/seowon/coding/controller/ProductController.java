@@ -1,44 +1,143 @@
 package com.seowon.coding.controller;
 
+import com.seowon.coding.domain.dto.CategoryAggregate;
+import com.seowon.coding.domain.dto.ProductResponse;
+import com.seowon.coding.domain.dto.StockLevel;
 import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.model.ProductPatchReq;
+import com.seowon.coding.domain.model.StockAdjustmentReq;
+import com.seowon.coding.inventory.CategoryAggregateStore;
+import com.seowon.coding.inventory.StockRiskMonitor;
 import com.seowon.coding.service.ProductService;
+import com.seowon.coding.service.ProductStreamService;
+import com.seowon.coding.service.StockAdjustmentResult;
+import com.seowon.coding.service.StockAdjustmentService;
+import com.seowon.coding.util.ETags;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/products")
 @RequiredArgsConstructor
 public class ProductController {
     
+    // 인증이 필요한 API 이므로 private, 매번 ETag 로 재검증
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final ProductService productService;
-    
+    private final ProductStreamService productStreamService;
+    private final StockRiskMonitor stockRiskMonitor;
+    private final CategoryAggregateStore categoryAggregateStore;
+    private final StockAdjustmentService stockAdjustmentService;
+
     @GetMapping
-    public ResponseEntity<List<Product>> getAllProducts() {
-        return ResponseEntity.ok(productService.getAllProducts());
+    public ResponseEntity<List<ProductResponse>> getAllProducts(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = productService.getCatalogETag();
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CACHE_CONTROL).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CACHE_CONTROL)
+                .body(productService.getAllProductResponses());
+    }
+    
+    /**
+     * 전체 상품을 Server-Sent Events 로 스트리밍. 클라이언트가 읽는 속도에 맞춰 페이지 단위로 조회하며,
+     * 응답을 보내는 동안 요청 스레드와 DB 커넥션을 점유하지 않는다.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ProductResponse>> streamProducts(@RequestParam(defaultValue = "500") int pageSize) {
+        try {
+            return ResponseEntity.ok().cacheControl(CACHE_CONTROL).body(productStreamService.streamProducts(pageSize));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    /**
+     * 재주문 기준 이하 상품을 품절에 가까운 순서로 최대 limit 건. DB 조회 없이 메모리 인덱스에서 응답한다.
+     */
+    @GetMapping("/at-risk")
+    public ResponseEntity<List<StockLevel>> getAtRiskProducts(@RequestParam(defaultValue = "20") int limit) {
+        try {
+            return ResponseEntity.ok(stockRiskMonitor.topAtRisk(limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    /**
+     * 카테고리별 상품 수, 재고 있는 상품 수, 가격 범위. DB 조회 없이 메모리 집계에서 응답한다.
+     */
+    @GetMapping("/categories")
+    public ResponseEntity<List<CategoryAggregate>> getCategories() {
+        return ResponseEntity.ok(categoryAggregateStore.aggregates());
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<Product> getProductById(@PathVariable Long id) {
-        return productService.getProductById(id)
-                .map(ResponseEntity::ok)
+    public ResponseEntity<ProductResponse> getProductById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Optional<String> etag = productService.getProductETag(id);
+            if (etag.isPresent() && ETags.matches(ifNoneMatch, etag.get())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag.get()).cacheControl(CACHE_CONTROL).build();
+            }
+        }
+        return productService.getProductResponseById(id)
+                .map(product -> ResponseEntity.ok().eTag(product.eTag()).cacheControl(CACHE_CONTROL).body(product))
                 .orElse(ResponseEntity.notFound().build());
     }
     
     @PostMapping
-    public ResponseEntity<Product> createProduct(@RequestBody Product product) {
+    public ResponseEntity<ProductResponse> createProduct(@RequestBody Product product) {
         Product createdProduct = productService.createProduct(product);
-        return ResponseEntity.status(HttpStatus.CREATED).body(createdProduct);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ProductResponse.from(createdProduct));
+    }
+    
+    /**
+     * 재고 증감을 한 번에 반영. 줄별 결과를 요청 순서대로 반환하며, 재고가 부족하거나 없는 상품의 줄은 건너뛴다.
+     */
+    @PostMapping("/stock-adjustments")
+    public ResponseEntity<List<StockAdjustmentResult>> adjustStock(@RequestBody List<StockAdjustmentReq> adjustments) {
+        try {
+            return ResponseEntity.ok(stockAdjustmentService.adjustStock(adjustments));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
     
     @PutMapping("/{id}")
-    public ResponseEntity<Product> updateProduct(@PathVariable Long id, @RequestBody Product product) {
+    public ResponseEntity<ProductResponse> updateProduct(@PathVariable Long id, @RequestBody Product product) {
         try {
             Product updatedProduct = productService.updateProduct(id, product);
-            return ResponseEntity.ok(updatedProduct);
+            return ResponseEntity.ok(ProductResponse.from(updatedProduct));
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    /**
+     * 요청에 있는 필드만 수정. 변경된 상품과 새 ETag 를 반환한다.
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<ProductResponse> patchProduct(@PathVariable Long id, @RequestBody ProductPatchReq patch) {
+        try {
+            ProductResponse product = productService.patchProduct(id, patch);
+            return ResponseEntity.ok().eTag(product.eTag()).cacheControl(CACHE_CONTROL).body(product);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
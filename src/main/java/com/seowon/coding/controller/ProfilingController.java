@@ -0,0 +1,81 @@
+package com.seowon.coding.controller;
+
+import com.seowon.coding.profiling.FlightRecordingManager;
+import com.seowon.coding.profiling.RecordingInfo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * JFR recording 시작/조회/다운로드. 다운로드한 .jfr 은 JDK Mission Control 또는 jfr print 로 본다.
+ */
+@RestController
+@RequestMapping("/api/profiling/recordings")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "profiling.jfr", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProfilingController {
+
+    private final FlightRecordingManager flightRecordingManager;
+
+    /**
+     * durationSeconds 동안 recording 한다 (생략하면 profiling.jfr.default-duration). 한 번에 하나만 실행된다.
+     */
+    @PostMapping
+    public ResponseEntity<RecordingInfo> startRecording(@RequestParam(required = false) Long durationSeconds,
+                                                        @RequestParam(required = false) String settings) {
+        try {
+            Duration duration = durationSeconds == null ? null : Duration.ofSeconds(durationSeconds);
+            return ResponseEntity.status(HttpStatus.CREATED).body(flightRecordingManager.start(duration, settings));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping
+    public List<RecordingInfo> getRecordings() {
+        return flightRecordingManager.list();
+    }
+
+    /**
+     * .jfr 파일 다운로드. 아직 실행 중이면 지금까지 기록된 부분만 내려준다.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<Resource> downloadRecording(@PathVariable long id) {
+        try {
+            Path file = flightRecordingManager.file(id);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                            .filename(file.getFileName().toString())
+                            .build()
+                            .toString())
+                    .body(new FileSystemResource(file));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @PostMapping("/{id}/stop")
+    public ResponseEntity<RecordingInfo> stopRecording(@PathVariable long id) {
+        try {
+            return ResponseEntity.ok(flightRecordingManager.stop(id));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.seowon.coding.domain.dto;
+
+import com.seowon.coding.util.ETags;
+
+import java.time.Instant;
+
+/**
+ * 상품 목록 전체의 버전. 추가/수정은 lastModified 로, 삭제는 count 로 감지한다.
+ */
+public record CatalogVersion(Long count, Instant lastModified) {
+
+    public String eTag() {
+        return ETags.of("catalog", count, lastModified);
+    }
+}
@@ -0,0 +1,13 @@
+package com.seowon.coding.domain.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 카테고리별 상품 수, 재고 있는 상품 수, 가격 범위. 가격이 있는 상품이 없으면 min/max 는 null.
+ */
+public record CategoryAggregate(String category,
+                                long productCount,
+                                long inStockCount,
+                                BigDecimal minPrice,
+                                BigDecimal maxPrice) {
+}
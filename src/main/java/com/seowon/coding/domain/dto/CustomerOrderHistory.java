@@ -0,0 +1,13 @@
+package com.seowon.coding.domain.dto;
+
+import java.util.List;
+
+/**
+ * 고객 주문 이력 한 페이지. 전체 건수 count 쿼리 없이 다음 페이지 존재 여부만 알려준다.
+ */
+public record CustomerOrderHistory(String customerEmail,
+                                   int page,
+                                   int size,
+                                   boolean hasNext,
+                                   List<OrderHistoryItem> orders) {
+}
@@ -0,0 +1,10 @@
+package com.seowon.coding.domain.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record CustomerOrderSummaryResponse(String customerEmail,
+                                           long orderCount,
+                                           BigDecimal lifetimeSpend,
+                                           LocalDateTime lastOrderDate) {
+}
@@ -0,0 +1,15 @@
+package com.seowon.coding.domain.dto;
+
+import com.seowon.coding.domain.model.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 고객 주문 이력 한 줄. 주문 헤더 컬럼만 읽고 items 는 로딩하지 않는다.
+ */
+public record OrderHistoryItem(Long id,
+                               Order.OrderStatus status,
+                               LocalDateTime orderDate,
+                               BigDecimal totalAmount) {
+}
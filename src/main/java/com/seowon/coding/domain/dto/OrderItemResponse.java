@@ -0,0 +1,23 @@
+package com.seowon.coding.domain.dto;
+
+import com.seowon.coding.domain.model.OrderItem;
+
+import java.math.BigDecimal;
+
+/**
+ * 주문 라인 응답. orderId 는 주문별로 묶기 위해 조회 시에만 사용하고 JSON 에는 쓰지 않는다.
+ */
+public record OrderItemResponse(Long orderId,
+                                Long id,
+                                Long productId,
+                                String productName,
+                                int quantity,
+                                BigDecimal price) {
+
+    public static OrderItemResponse from(OrderItem item) {
+        Long orderId = item.getOrder() == null ? null : item.getOrder().getId();
+        Long productId = item.getProduct() == null ? null : item.getProduct().getId();
+        String productName = item.getProduct() == null ? null : item.getProduct().getName();
+        return new OrderItemResponse(orderId, item.getId(), productId, productName, item.getQuantity(), item.getPrice());
+    }
+}
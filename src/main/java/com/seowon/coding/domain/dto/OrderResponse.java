@@ -0,0 +1,41 @@
+package com.seowon.coding.domain.dto;
+
+import com.seowon.coding.domain.model.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 응답. 주문 헤더는 constructor expression 으로 조회하고 items 는 별도 projection 으로 채운다.
+ */
+public record OrderResponse(Long id,
+                            String customerName,
+                            String customerEmail,
+                            Order.OrderStatus status,
+                            LocalDateTime orderDate,
+                            BigDecimal totalAmount,
+                            List<OrderItemResponse> items) {
+
+    /**
+     * JPQL constructor expression 용 (items 제외)
+     */
+    public OrderResponse(Long id,
+                         String customerName,
+                         String customerEmail,
+                         Order.OrderStatus status,
+                         LocalDateTime orderDate,
+                         BigDecimal totalAmount) {
+        this(id, customerName, customerEmail, status, orderDate, totalAmount, List.of());
+    }
+
+    public OrderResponse withItems(List<OrderItemResponse> items) {
+        return new OrderResponse(id, customerName, customerEmail, status, orderDate, totalAmount, items);
+    }
+
+    public static OrderResponse from(Order order) {
+        return new OrderResponse(order.getId(), order.getCustomerName(), order.getCustomerEmail(),
+                order.getStatus(), order.getOrderDate(), order.getTotalAmount(),
+                order.getItems().stream().map(OrderItemResponse::from).toList());
+    }
+}
@@ -0,0 +1,17 @@
+package com.seowon.coding.domain.dto;
+
+import com.seowon.coding.domain.model.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 상태 전이 검증용 projection. 주문 엔티티와 items 를 로딩하지 않는다.
+ * 고객 요약 갱신에 필요한 customerEmail, totalAmount, orderDate 를 함께 읽는다.
+ */
+public record OrderStatusView(Long id,
+                              Order.OrderStatus status,
+                              String customerEmail,
+                              BigDecimal totalAmount,
+                              LocalDateTime orderDate) {
+}
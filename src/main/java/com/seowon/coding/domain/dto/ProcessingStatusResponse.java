@@ -0,0 +1,22 @@
+package com.seowon.coding.domain.dto;
+
+import com.seowon.coding.domain.model.ProcessingStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일괄 작업 진행 상태. processed 는 처리가 commit 된 chunk 의 주문 수 (rejected 포함).
+ */
+public record ProcessingStatusResponse(String jobId,
+                                       ProcessingStatus.Status status,
+                                       int total,
+                                       int processed,
+                                       int rejected,
+                                       LocalDateTime updatedAt,
+                                       LocalDateTime heartbeatAt) {
+
+    public static ProcessingStatusResponse from(ProcessingStatus status) {
+        return new ProcessingStatusResponse(status.getJobId(), status.getStatus(), status.getTotal(),
+                status.getProcessed(), status.getRejected(), status.getUpdatedAt(), status.getHeartbeatAt());
+    }
+}
@@ -0,0 +1,34 @@
+package com.seowon.coding.domain.dto;
+
+import com.seowon.coding.domain.model.Product;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 카테고리 집계용 projection. 상품 엔티티를 로딩하지 않는다.
+ * lastModified 는 값의 버전으로, 집계가 늦게 도착한 이전 값을 걸러내는 데 쓴다 (null 이면 항상 반영).
+ */
+public record ProductFacet(Long productId,
+                           String category,
+                           BigDecimal price,
+                           int stockQuantity,
+                           Instant lastModified) {
+
+    public ProductFacet(Long productId, String category, BigDecimal price, int stockQuantity) {
+        this(productId, category, price, stockQuantity, null);
+    }
+
+    public static ProductFacet from(Product product) {
+        return new ProductFacet(product.getId(), product.getCategory(), product.getPrice(), product.getStockQuantity(),
+                product.getLastModified());
+    }
+
+    public boolean isInStock() {
+        return stockQuantity > 0;
+    }
+
+    public ProductFacet withStockQuantity(int stockQuantity, Instant lastModified) {
+        return new ProductFacet(productId, category, price, stockQuantity, lastModified);
+    }
+}
@@ -0,0 +1,28 @@
+package com.seowon.coding.domain.dto;
+
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.util.ETags;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 상품 응답. repository 의 constructor expression 으로 바로 생성되므로 영속성 컨텍스트를 거치지 않는다.
+ */
+public record ProductResponse(Long id,
+                              String name,
+                              String description,
+                              BigDecimal price,
+                              int stockQuantity,
+                              String category,
+                              Instant lastModified) {
+
+    public static ProductResponse from(Product product) {
+        return new ProductResponse(product.getId(), product.getName(), product.getDescription(),
+                product.getPrice(), product.getStockQuantity(), product.getCategory(), product.getLastModified());
+    }
+
+    public String eTag() {
+        return ETags.of("product", id, lastModified);
+    }
+}
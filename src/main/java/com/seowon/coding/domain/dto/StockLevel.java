@@ -0,0 +1,36 @@
+package com.seowon.coding.domain.dto;
+
+import com.seowon.coding.domain.model.Product;
+
+import java.time.Instant;
+
+/**
+ * 재고 위험도 계산용 projection. 상품 엔티티를 로딩하지 않는다.
+ * lastModified 는 값의 버전으로, 인덱스가 늦게 도착한 이전 값을 걸러내는 데 쓴다 (null 이면 항상 반영).
+ */
+public record StockLevel(Long productId,
+                         String name,
+                         int stockQuantity,
+                         int reorderThreshold,
+                         Instant lastModified) {
+
+    public StockLevel(Long productId, String name, int stockQuantity, int reorderThreshold) {
+        this(productId, name, stockQuantity, reorderThreshold, null);
+    }
+
+    public static StockLevel from(Product product) {
+        return new StockLevel(product.getId(), product.getName(), product.getStockQuantity(), product.getReorderThreshold(),
+                product.getLastModified());
+    }
+
+    public boolean isBelowReorderThreshold() {
+        return stockQuantity <= reorderThreshold;
+    }
+
+    /**
+     * 재주문 기준 대비 남은 재고 비율. 작을수록 품절에 가깝다 (기준이 0 이면 품절일 때만 at-risk 이므로 0).
+     */
+    public double coverage() {
+        return reorderThreshold <= 0 ? 0.0 : (double) stockQuantity / reorderThreshold;
+    }
+}
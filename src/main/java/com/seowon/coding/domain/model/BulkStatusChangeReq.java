@@ -0,0 +1,18 @@
+package com.seowon.coding.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkStatusChangeReq {
+    private List<Long> orderIds;
+
+    private Order.OrderStatus status;
+}
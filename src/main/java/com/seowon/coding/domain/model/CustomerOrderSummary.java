@@ -0,0 +1,34 @@
+package com.seowon.coding.domain.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 고객별 주문 요약. 주문 상태 변경 시 증분으로 갱신되며, 접수된(PROCESSING/SHIPPED/DELIVERED) 주문만 집계한다.
+ * 취소 시 건수/금액은 차감하지만 lastOrderDate 는 되돌리지 않는다.
+ */
+@Entity
+@Table(name = "customer_order_summary")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerOrderSummary {
+
+    @Id
+    private String customerEmail;
+
+    private long orderCount;
+
+    private BigDecimal lifetimeSpend;
+
+    private LocalDateTime lastOrderDate;
+}
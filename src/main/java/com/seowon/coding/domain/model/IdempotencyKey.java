@@ -0,0 +1,33 @@
+package com.seowon.coding.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency-Key 헤더로 생성된 주문 기록. requestKey 의 unique 제약이 중복 생성을 막는 최종 방어선이다.
+ */
+@Entity
+@Table(name = "idempotency_key")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyKey {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String requestKey;
+
+    @Column(nullable = false)
+    private Long orderId;
+
+    private LocalDateTime createdAt;
+}
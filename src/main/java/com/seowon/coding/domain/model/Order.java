@@ -1,45 +1,82 @@
 package com.seowon.coding.domain.model;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.DynamicUpdate;
+import org.springframework.data.domain.AbstractAggregateRoot;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Entity
-@Table(name = "orders") // "order" is a reserved keyword in SQL
+@DynamicUpdate
+@Table(name = "orders", // "order" is a reserved keyword in SQL
+        indexes = {
+                @Index(name = "idx_orders_customer_email_date", columnList = "customer_email, order_date, id"),
+                @Index(name = "idx_orders_status_date", columnList = "status, order_date"),
+                @Index(name = "idx_orders_order_date", columnList = "order_date")
+        })
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
 @Setter
-public class Order {
+public class Order extends AbstractAggregateRoot<Order> {
     
+    // IDENTITY 는 insert 마다 키를 받아와야 해서 JDBC batch 가 불가능하므로 pooled sequence 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
     
     private String customerName;
     
     private String customerEmail;
     
+    // 상태는 transitionTo 로만 바꾼다 (전이 표 검사 + 상태 변경 이벤트)
     @Enumerated(EnumType.STRING)
+    @Setter(AccessLevel.NONE)
     private OrderStatus status;
     
     private LocalDateTime orderDate;
     
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
+    @ToString.Exclude // OrderItem.order 로 되돌아오므로 출력하지 않는다 (지연 로딩도 유발)
     private List<OrderItem> items = new ArrayList<>();
     
     private BigDecimal totalAmount;
     
+    /**
+     * 신규 PENDING 주문. checkout hot path 에서 builder 를 거치지 않고 items 를 라인 수만큼 미리 잡는다.
+     */
+    public static Order create(String customerName, String customerEmail, LocalDateTime orderDate, int expectedItems) {
+        Order order = new Order();
+        order.customerName = customerName;
+        order.customerEmail = customerEmail;
+        order.status = OrderStatus.PENDING;
+        order.orderDate = orderDate;
+        order.items = new ArrayList<>(expectedItems);
+        order.totalAmount = BigDecimal.ZERO;
+        return order;
+    }
+    
     // Business logic
     public void addItem(OrderItem item) {
         items.add(item);
@@ -53,6 +90,18 @@ public class Order {
         recalculateTotalAmount();
     }
     
+    /**
+     * 항목 전체 교체. 기존 항목은 orphanRemoval 로 삭제되고, 주어진 항목은 새 항목으로 저장된다.
+     */
+    public void replaceItems(List<OrderItem> newItems) {
+        items.forEach(item -> item.setOrder(null));
+        items.clear();
+        for (OrderItem item : newItems) {
+            item.setId(null);
+            addItem(item);
+        }
+    }
+    
     public void recalculateTotalAmount() {
         this.totalAmount = items.stream()
                 .map(OrderItem::getSubtotal)
@@ -60,22 +109,86 @@ public class Order {
     }
     
     public void markAsProcessing() {
-        this.status = OrderStatus.PROCESSING;
+        transitionTo(OrderStatus.PROCESSING);
     }
     
     public void markAsShipped() {
-        this.status = OrderStatus.SHIPPED;
+        transitionTo(OrderStatus.SHIPPED);
     }
     
     public void markAsDelivered() {
-        this.status = OrderStatus.DELIVERED;
+        transitionTo(OrderStatus.DELIVERED);
     }
     
     public void markAsCancelled() {
-        this.status = OrderStatus.CANCELLED;
+        transitionTo(OrderStatus.CANCELLED);
+    }
+    
+    /**
+     * 전이 표에 허용된 경우에만 상태를 바꾼다. 상태가 아직 없는 신규 주문은 어떤 상태로든 시작할 수 있다.
+     * 상태 변경 이벤트는 repository save 시점에 발행되어 같은 트랜잭션에서 outbox 에 기록된다.
+     */
+    public void transitionTo(OrderStatus next) {
+        OrderStatus previous = this.status;
+        if (previous != null && !previous.canTransitionTo(next)) {
+            throw new IllegalStateException("invalid order status transition: " + previous + " -> " + next);
+        }
+        this.status = next;
+        registerEvent(new OrderStatusChangedEvent(this, previous, next, Instant.now()));
+    }
+    
+    /**
+     * 엔티티 동일성은 id 로만 판단한다. Lombok 기본 구현은 items -> OrderItem.order 를 따라 순환하고
+     * 값이 바뀌면 hashCode 도 바뀌므로 사용하지 않는다. 저장 전(id 없음)에는 같은 인스턴스만 같다.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Order other && id != null && id.equals(other.getId());
+    }
+    
+    @Override
+    public int hashCode() {
+        return Order.class.hashCode();
     }
     
     public enum OrderStatus {
-        PENDING, PROCESSING, SHIPPED, DELIVERED, CANCELLED
+        PENDING, PROCESSING, SHIPPED, DELIVERED, CANCELLED;
+        
+        // 상태별 허용되는 다음 상태 bitmask (bit = ordinal). DELIVERED, CANCELLED 는 종료 상태
+        private static final int[] NEXT = new int[values().length];
+        // bulk update 의 where 조건으로 쓰는 역방향 표: 이 상태로 올 수 있는 이전 상태들
+        private static final Map<OrderStatus, Set<OrderStatus>> SOURCES = new EnumMap<>(OrderStatus.class);
+        
+        static {
+            allow(PENDING, PROCESSING, CANCELLED);
+            allow(PROCESSING, SHIPPED, CANCELLED);
+            allow(SHIPPED, DELIVERED);
+            for (OrderStatus next : values()) {
+                EnumSet<OrderStatus> sources = EnumSet.noneOf(OrderStatus.class);
+                for (OrderStatus from : values()) {
+                    if (from.canTransitionTo(next)) {
+                        sources.add(from);
+                    }
+                }
+                SOURCES.put(next, Collections.unmodifiableSet(sources));
+            }
+        }
+        
+        private static void allow(OrderStatus from, OrderStatus... targets) {
+            for (OrderStatus next : targets) {
+                NEXT[from.ordinal()] |= 1 << next.ordinal();
+            }
+        }
+        
+        public boolean canTransitionTo(OrderStatus next) {
+            return next != null && (NEXT[ordinal()] & (1 << next.ordinal())) != 0;
+        }
+        
+        public static Set<OrderStatus> sourcesOf(OrderStatus next) {
+            return SOURCES.get(next);
+        }
     }
 }
\ No newline at end of file
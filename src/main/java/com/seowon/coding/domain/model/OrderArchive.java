@@ -0,0 +1,40 @@
+package com.seowon.coding.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 DELIVERED/CANCELLED 주문. id 는 원래 주문 id 를 그대로 쓰고 읽기 전용으로만 사용한다.
+ */
+@Entity
+@Table(name = "order_archive",
+        indexes = @Index(name = "idx_order_archive_order_date", columnList = "order_date"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderArchive {
+
+    @Id
+    private Long id;
+
+    private String customerName;
+
+    private String customerEmail;
+
+    @Enumerated(EnumType.STRING)
+    private Order.OrderStatus status;
+
+    private LocalDateTime orderDate;
+
+    private BigDecimal totalAmount;
+
+    private Instant archivedAt;
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.math.BigDecimal;
 
@@ -16,23 +17,52 @@ import java.math.BigDecimal;
 public class OrderItem {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_item_seq")
+    @SequenceGenerator(name = "order_item_seq", sequenceName = "order_item_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "order_id")
+    @ToString.Exclude
     private Order order;
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id")
+    @ToString.Exclude
     private Product product;
     
     private int quantity;
     
     private BigDecimal price; // Price at the time of order
     
+    /**
+     * 주문 시점 상품 가격으로 라인 생성 (checkout hot path 에서 builder 없이 사용)
+     */
+    public static OrderItem create(Order order, Product product, int quantity) {
+        OrderItem item = new OrderItem();
+        item.order = order;
+        item.product = product;
+        item.quantity = quantity;
+        item.price = product.getPrice();
+        return item;
+    }
+    
     // Business logic
     public BigDecimal getSubtotal() {
         return price.multiply(BigDecimal.valueOf(quantity));
     }
+    
+    // Order 와 같은 이유로 id 기준 (Lombok 기본 구현은 order, product 그래프를 따라간다)
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof OrderItem other && id != null && id.equals(other.getId());
+    }
+    
+    @Override
+    public int hashCode() {
+        return OrderItem.class.hashCode();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.seowon.coding.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 보관된 주문의 항목. 상품이 삭제되어도 남도록 FK 없이 id 만 보관한다.
+ */
+@Entity
+@Table(name = "order_item_archive",
+        indexes = @Index(name = "idx_order_item_archive_order_id", columnList = "order_id"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderItemArchive {
+
+    @Id
+    private Long id;
+
+    private Long orderId;
+
+    private Long productId;
+
+    private int quantity;
+
+    private BigDecimal price;
+}
@@ -0,0 +1,49 @@
+package com.seowon.coding.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 주문 상태 변경 outbox. 주문 변경과 같은 트랜잭션에서 insert 되고, dispatcher 가 id 순으로 읽어 전송 후 삭제한다.
+ */
+@Entity
+@Table(name = "order_outbox")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderOutboxEvent {
+
+    // 주문 insert 와 함께 JDBC batch 로 묶이도록 pooled sequence 사용
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_outbox_seq")
+    @SequenceGenerator(name = "order_outbox_seq", sequenceName = "order_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long orderId;
+
+    @Enumerated(EnumType.STRING)
+    private Order.OrderStatus previousStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Order.OrderStatus status;
+
+    @Column(nullable = false)
+    private Instant occurredAt;
+
+    public static OrderOutboxEvent from(OrderStatusChangedEvent event) {
+        return OrderOutboxEvent.builder()
+                .orderId(event.order().getId())
+                .previousStatus(event.previousStatus())
+                .status(event.status())
+                .occurredAt(event.occurredAt())
+                .build();
+    }
+}
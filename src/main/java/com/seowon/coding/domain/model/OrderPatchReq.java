@@ -0,0 +1,24 @@
+package com.seowon.coding.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 부분 수정 요청. null 인 필드는 변경하지 않는다.
+ * 상태 변경은 전이 검증과 outbox 기록이 필요하므로 여기서 받지 않고 POST /api/orders/status 로 한다.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderPatchReq {
+    private String customerName;
+
+    private String customerEmail;
+
+    public boolean isEmpty() {
+        return customerName == null && customerEmail == null;
+    }
+}
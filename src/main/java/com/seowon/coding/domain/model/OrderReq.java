@@ -1,7 +1,13 @@
 package com.seowon.coding.domain.model;
 
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
 import java.util.List;
-import com.seowon.coding.service.OrderProduct;
 
 @Data
 @Builder
@@ -0,0 +1,12 @@
+package com.seowon.coding.domain.model;
+
+import java.time.Instant;
+
+/**
+ * 주문 상태 변경 도메인 이벤트. Order 를 그대로 참조해서 신규 주문도 save 이후 발급된 id 를 읽을 수 있다.
+ */
+public record OrderStatusChangedEvent(Order order,
+                                      Order.OrderStatus previousStatus,
+                                      Order.OrderStatus status,
+                                      Instant occurredAt) {
+}
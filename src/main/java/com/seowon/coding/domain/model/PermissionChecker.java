@@ -3,13 +3,19 @@ package com.seowon.coding.domain.model;
 
 import lombok.Builder;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 class PermissionChecker {
 
     /**
      * TODO #7: 코드를 최적화하세요
      * 테스트 코드`PermissionCheckerTest`를 활용하시면 리펙토링에 도움이 됩니다.
+     *
+     * 한 번의 확인에는 대상 사용자의 그룹 id, 그 그룹의 정책 id 만 해시로 모은 뒤 목록을 한 번씩만 훑는다 (O(U + G + P)).
+     * 다른 사용자/그룹/정책은 펼치지 않으며, 일치하는 statement 를 찾으면 바로 끝낸다.
+     * 같은 목록으로 반복 확인하는 경우에는 {@link PolicyIndex} 를 한 번 만들어 재사용하는 것이 좋다.
      */
     public static boolean hasPermission(
             String userId,
@@ -19,25 +25,35 @@ class PermissionChecker {
             List<UserGroup> groups,
             List<Policy> policies
     ) {
-        for (User user : users) {
-            if (user.id.equals(userId)) {
-                for (String groupId : user.groupIds) {
-                    for (UserGroup group : groups) {
-                        if (group.id.equals(groupId)) {
-                            for (String policyId : group.policyIds) {
-                                for (Policy policy : policies) {
-                                    if (policy.id.equals(policyId)) {
-                                        for (Statement statement : policy.statements) {
-                                            if (statement.actions.contains(targetAction) &&
-                                                statement.resources.contains(targetResource)) {
-                                                return true;
-                                            }
-                                        }
-                                    }
-                                }
-                            }
-                        }
-                    }
+        User user = null;
+        for (User candidate : users) {
+            if (candidate.id.equals(userId)) {
+                user = candidate;
+                break;
+            }
+        }
+        if (user == null || user.groupIds.isEmpty()) {
+            return false;
+        }
+
+        Set<String> groupIds = new HashSet<>(user.groupIds);
+        Set<String> policyIds = new HashSet<>();
+        for (UserGroup group : groups) {
+            if (groupIds.contains(group.id)) {
+                policyIds.addAll(group.policyIds);
+            }
+        }
+        if (policyIds.isEmpty()) {
+            return false;
+        }
+
+        for (Policy policy : policies) {
+            if (!policyIds.contains(policy.id)) {
+                continue;
+            }
+            for (Statement statement : policy.statements) {
+                if (statement.actions.contains(targetAction) && statement.resources.contains(targetResource)) {
+                    return true;
                 }
             }
         }
@@ -0,0 +1,96 @@
+package com.seowon.coding.domain.model;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * User -> Group -> Policy -> Statement 관계를 미리 펼쳐 둔 권한 인덱스.
+ * 기동 시 한 번 compile 해두면 권한 확인은 해시 조회 3번 (user, action, resource) 으로 끝난다.
+ */
+public final class PolicyIndex {
+
+    private static final PolicyIndex EMPTY = new PolicyIndex(Map.of());
+
+    // userId -> action -> resources
+    private final Map<String, Map<String, Set<String>>> grants;
+
+    private PolicyIndex(Map<String, Map<String, Set<String>>> grants) {
+        this.grants = grants;
+    }
+
+    public static PolicyIndex empty() {
+        return EMPTY;
+    }
+
+    static PolicyIndex compile(List<User> users, List<UserGroup> groups, List<Policy> policies) {
+        Map<String, UserGroup> groupById = new HashMap<>(groups.size() * 2);
+        for (UserGroup group : groups) {
+            groupById.put(group.id, group);
+        }
+        Map<String, Policy> policyById = new HashMap<>(policies.size() * 2);
+        for (Policy policy : policies) {
+            policyById.put(policy.id, policy);
+        }
+
+        Map<String, Map<String, Set<String>>> grants = new HashMap<>(users.size() * 2);
+        for (User user : users) {
+            Map<String, Set<String>> byAction = grants.computeIfAbsent(user.id, id -> new HashMap<>());
+            for (String groupId : user.groupIds) {
+                UserGroup group = groupById.get(groupId);
+                if (group == null) {
+                    continue;
+                }
+                for (String policyId : group.policyIds) {
+                    Policy policy = policyById.get(policyId);
+                    if (policy == null) {
+                        continue;
+                    }
+                    for (Statement statement : policy.statements) {
+                        for (String action : statement.actions) {
+                            byAction.computeIfAbsent(action, a -> new HashSet<>()).addAll(statement.resources);
+                        }
+                    }
+                }
+            }
+        }
+        return new PolicyIndex(grants);
+    }
+
+    /**
+     * 설정 파일 등 원시 정의에서 인덱스를 만든다.
+     * @param userGroups   userId -> groupIds
+     * @param groupPolicies groupId -> policyIds
+     * @param policyStatements policyId -> statements
+     */
+    public static PolicyIndex compile(Map<String, List<String>> userGroups,
+                                      Map<String, List<String>> groupPolicies,
+                                      Map<String, List<StatementDefinition>> policyStatements) {
+        List<User> users = userGroups.entrySet().stream()
+                .map(e -> new User(e.getKey(), e.getValue()))
+                .toList();
+        List<UserGroup> groups = groupPolicies.entrySet().stream()
+                .map(e -> new UserGroup(e.getKey(), e.getValue()))
+                .toList();
+        List<Policy> policies = policyStatements.entrySet().stream()
+                .map(e -> new Policy(e.getKey(), e.getValue().stream()
+                        .map(s -> new Statement(s.actions(), s.resources()))
+                        .toList()))
+                .toList();
+        return compile(users, groups, policies);
+    }
+
+    public boolean isAllowed(String userId, String action, String resource) {
+        Map<String, Set<String>> byAction = grants.get(userId);
+        if (byAction == null) {
+            return false;
+        }
+        Set<String> resources = byAction.get(action);
+        return resources != null && resources.contains(resource);
+    }
+
+    public record StatementDefinition(List<String> actions, List<String> resources) {
+    }
+}
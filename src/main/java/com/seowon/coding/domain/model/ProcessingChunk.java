@@ -0,0 +1,75 @@
+package com.seowon.coding.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일괄 작업 (ProcessingStatus) 을 나눈 처리 단위. 노드는 lease 를 잡은 chunk 만 처리하고,
+ * lease 가 만료된 chunk 는 다른 노드가 가져갈 수 있다.
+ */
+@Entity
+@Table(name = "processing_chunk",
+        uniqueConstraints = @UniqueConstraint(name = "uk_processing_chunk_job_chunk", columnNames = {"job_id", "chunk_no"}),
+        indexes = @Index(name = "idx_processing_chunk_status", columnList = "status, id"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProcessingChunk {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String jobId;
+
+    private int chunkNo;
+
+    private int orderCount;
+
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    // claim 마다 새로 발급되는 값 (노드 id + 순번). 완료 update 는 이 값이 그대로일 때만 반영된다
+    private String leaseOwner;
+
+    private LocalDateTime leaseExpiresAt;
+
+    private int attempts;
+
+    private LocalDateTime completedAt;
+
+    @ElementCollection
+    @CollectionTable(name = "processing_chunk_order",
+            joinColumns = @JoinColumn(name = "chunk_id"),
+            foreignKey = @ForeignKey(name = "fk_processing_chunk_order_chunk"),
+            indexes = @Index(name = "idx_processing_chunk_order_chunk_id", columnList = "chunk_id"))
+    @Column(name = "order_id", nullable = false)
+    @Builder.Default
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private List<Long> orderIds = new ArrayList<>();
+
+    public enum Status {
+        PENDING, DONE, FAILED
+    }
+
+    public static ProcessingChunk pending(String jobId, int chunkNo, List<Long> orderIds) {
+        return ProcessingChunk.builder()
+                .jobId(jobId)
+                .chunkNo(chunkNo)
+                .orderCount(orderIds.size())
+                .status(Status.PENDING)
+                .orderIds(new ArrayList<>(orderIds))
+                .build();
+    }
+}
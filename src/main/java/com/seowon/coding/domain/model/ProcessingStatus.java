@@ -23,12 +23,17 @@ public class ProcessingStatus {
 
     private int total;
     private int processed;
+    // processed 중 상태를 바꿀 수 없어서 건너뛴 주문 수
+    private int rejected;
 
     @Enumerated(EnumType.STRING)
     private Status status;
 
     private LocalDateTime updatedAt;
 
+    // 어느 노드든 마지막으로 chunk 를 가져가거나 끝낸 시각. RUNNING 인데 오래됐다면 처리 중인 노드가 없다
+    private LocalDateTime heartbeatAt;
+
     public enum Status {
         RUNNING, COMPLETED, FAILED
     }
@@ -37,6 +42,7 @@ public class ProcessingStatus {
         this.total = total;
         this.status = Status.RUNNING;
         this.updatedAt = LocalDateTime.now();
+        this.heartbeatAt = this.updatedAt;
     }
 
     public void updateProgress(int processed, int total) {
@@ -1,19 +1,31 @@
 package com.seowon.coding.domain.model;
 
+import com.seowon.coding.inventory.ProductStockListener;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 
 @Entity
+@DynamicUpdate // 재고 차감처럼 일부 컬럼만 바뀌는 update 는 변경된 컬럼만 쓴다
+@Table(indexes = @Index(name = "idx_product_last_modified", columnList = "last_modified"))
+@EntityListeners(ProductStockListener.class)
 @Data
 @Builder
 @NoArgsConstructor
@@ -33,8 +45,14 @@ public class Product {
     private BigDecimal price;
     
     private int stockQuantity;
+
+    // 재고가 이 값 이하가 되면 재주문 대상(at-risk). 0 이면 품절일 때만 해당
+    private int reorderThreshold;
     
     private String category;
+
+    // ETag 계산용. DB(TIMESTAMP(6)) 정밀도에 맞춰 마이크로초 단위로 저장
+    private Instant lastModified;
     
     // Business logic
     public boolean isInStock() {
@@ -54,4 +72,17 @@ public class Product {
         }
         stockQuantity += quantity;
     }
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        lastModified = currentTimestamp();
+    }
+
+    /**
+     * lastModified 에 저장할 현재 시각. JPQL/Criteria bulk update 는 @PreUpdate 를 거치지 않으므로 직접 사용한다.
+     */
+    public static Instant currentTimestamp() {
+        return Instant.now().truncatedTo(ChronoUnit.MICROS);
+    }
 }
\ No newline at end of file
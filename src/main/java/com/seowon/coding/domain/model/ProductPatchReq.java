@@ -0,0 +1,34 @@
+package com.seowon.coding.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 상품 부분 수정 요청. null 인 필드는 변경하지 않는다.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductPatchReq {
+    private String name;
+
+    private String description;
+
+    private BigDecimal price;
+
+    private Integer stockQuantity;
+
+    private Integer reorderThreshold;
+
+    private String category;
+
+    public boolean isEmpty() {
+        return name == null && description == null && price == null && stockQuantity == null
+                && reorderThreshold == null && category == null;
+    }
+}
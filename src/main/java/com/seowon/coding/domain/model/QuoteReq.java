@@ -0,0 +1,19 @@
+package com.seowon.coding.domain.model;
+
+import com.seowon.coding.service.OrderProduct;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class QuoteReq {
+    private List<OrderProduct> products;
+
+    private String couponCode;
+}
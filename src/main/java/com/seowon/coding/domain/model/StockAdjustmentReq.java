@@ -0,0 +1,19 @@
+package com.seowon.coding.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재고 조정 한 줄. delta 만큼 현재 재고에 더한다 (음수면 차감).
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class StockAdjustmentReq {
+    private Long productId;
+
+    private Integer delta;
+}
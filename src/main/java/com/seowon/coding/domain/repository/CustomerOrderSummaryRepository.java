@@ -0,0 +1,60 @@
+package com.seowon.coding.domain.repository;
+
+import com.seowon.coding.domain.dto.CustomerOrderSummaryResponse;
+import com.seowon.coding.domain.model.CustomerOrderSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+public interface CustomerOrderSummaryRepository extends JpaRepository<CustomerOrderSummary, String> {
+
+    @Query("select new com.seowon.coding.domain.dto.CustomerOrderSummaryResponse(s.customerEmail, s.orderCount, s.lifetimeSpend, s.lastOrderDate) " +
+            "from CustomerOrderSummary s where s.customerEmail = :email")
+    Optional<CustomerOrderSummaryResponse> findResponseByEmail(@Param("email") String email);
+
+    /**
+     * 요약 row 가 없으면 만들고, 있으면 건수/금액에 delta 를 더한다 (statement 하나, 조회 없음).
+     * lastOrderDate 가 null 이면 기존 값을 유지한다.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "merge into customer_order_summary s " +
+            "using (values (cast(:email as varchar(255)), cast(:count as bigint), cast(:spend as numeric(38, 2)), cast(:lastOrderDate as timestamp(6)))) " +
+            "v (customer_email, order_count, lifetime_spend, last_order_date) " +
+            "on s.customer_email = v.customer_email " +
+            "when matched then update set " +
+            "order_count = s.order_count + v.order_count, " +
+            "lifetime_spend = s.lifetime_spend + v.lifetime_spend, " +
+            "last_order_date = case when v.last_order_date is null or s.last_order_date >= v.last_order_date " +
+            "then s.last_order_date else v.last_order_date end " +
+            "when not matched then insert (customer_email, order_count, lifetime_spend, last_order_date) " +
+            "values (v.customer_email, v.order_count, v.lifetime_spend, v.last_order_date)")
+    int applyDelta(@Param("email") String email,
+                   @Param("count") long count,
+                   @Param("spend") BigDecimal spend,
+                   @Param("lastOrderDate") LocalDateTime lastOrderDate);
+
+    @Modifying
+    @Query("delete from CustomerOrderSummary")
+    int deleteAllSummaries();
+
+    /**
+     * orders 와 order_archive 에서 요약을 다시 계산한다 (JDBC 로 적재한 데이터나 도입 이전 주문 반영용).
+     * 보관된 주문도 고객 요약에는 남아 있어야 하므로 두 테이블을 합쳐서 집계한다. statuses 는 enum 이름.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "insert into customer_order_summary (customer_email, order_count, lifetime_spend, last_order_date) " +
+            "select customer_email, count(*), coalesce(sum(total_amount), 0), max(order_date) from (" +
+            "select customer_email, total_amount, order_date from orders " +
+            "where customer_email is not null and status in (:statuses) " +
+            "union all " +
+            "select customer_email, total_amount, order_date from order_archive " +
+            "where customer_email is not null and status in (:statuses)" +
+            ") o group by customer_email")
+    int insertFromOrders(@Param("statuses") Collection<String> statuses);
+}
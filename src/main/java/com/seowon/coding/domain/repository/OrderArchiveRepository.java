@@ -0,0 +1,33 @@
+package com.seowon.coding.domain.repository;
+
+import com.seowon.coding.domain.dto.OrderResponse;
+import com.seowon.coding.domain.model.OrderArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OrderArchiveRepository extends JpaRepository<OrderArchive, Long> {
+
+    @Query("select new com.seowon.coding.domain.dto.OrderResponse(a.id, a.customerName, a.customerEmail, a.status, a.orderDate, a.totalAmount) " +
+            "from OrderArchive a where a.orderDate between :start and :end order by a.orderDate, a.id")
+    List<OrderResponse> findResponsesByOrderDateBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    /**
+     * 주문 헤더를 hot 테이블에서 보관 테이블로 복사 (insert-select, 엔티티 로딩 없음)
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "insert into order_archive (id, customer_name, customer_email, status, order_date, total_amount, archived_at) " +
+            "select id, customer_name, customer_email, status, order_date, total_amount, current_timestamp " +
+            "from orders where id in (:ids)")
+    int copyOrders(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(nativeQuery = true, value = "insert into order_item_archive (id, order_id, product_id, quantity, price) " +
+            "select id, order_id, product_id, quantity, price from order_item where order_id in (:ids)")
+    int copyItems(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,28 @@
+package com.seowon.coding.domain.repository;
+
+import com.seowon.coding.domain.dto.OrderItemResponse;
+import com.seowon.coding.domain.model.OrderItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
+
+    @Query("select new com.seowon.coding.domain.dto.OrderItemResponse(i.order.id, i.id, p.id, p.name, i.quantity, i.price) " +
+            "from OrderItem i left join i.product p order by i.order.id, i.id")
+    List<OrderItemResponse> findAllResponses();
+
+    @Query("select new com.seowon.coding.domain.dto.OrderItemResponse(i.order.id, i.id, p.id, p.name, i.quantity, i.price) " +
+            "from OrderItem i left join i.product p where i.order.id = :orderId order by i.id")
+    List<OrderItemResponse> findResponsesByOrderId(@Param("orderId") Long orderId);
+
+    @Modifying
+    @Query("delete from OrderItem i where i.order.id in :orderIds")
+    int deleteByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+}
@@ -0,0 +1,13 @@
+package com.seowon.coding.domain.repository;
+
+import com.seowon.coding.domain.model.OrderOutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface OrderOutboxRepository extends JpaRepository<OrderOutboxEvent, Long> {
+
+    // 기록 순서(id) 대로 읽어야 같은 주문의 이벤트 순서가 유지된다
+    List<OrderOutboxEvent> findAllByOrderByIdAsc(Limit limit);
+}
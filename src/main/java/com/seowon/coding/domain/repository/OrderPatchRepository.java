@@ -0,0 +1,12 @@
+package com.seowon.coding.domain.repository;
+
+import com.seowon.coding.domain.model.OrderPatchReq;
+
+public interface OrderPatchRepository {
+
+    /**
+     * 요청에 있는 컬럼만 update 한다 (엔티티/items 조회 없음).
+     * @return 갱신된 row 수. 0 이면 주문이 없다
+     */
+    int patch(Long id, OrderPatchReq patch);
+}
@@ -0,0 +1,30 @@
+package com.seowon.coding.domain.repository;
+
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.OrderPatchReq;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+
+class OrderPatchRepositoryImpl implements OrderPatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int patch(Long id, OrderPatchReq patch) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Order> update = cb.createCriteriaUpdate(Order.class);
+        Root<Order> order = update.from(Order.class);
+        if (patch.getCustomerName() != null) {
+            update.set(order.<String>get("customerName"), patch.getCustomerName());
+        }
+        if (patch.getCustomerEmail() != null) {
+            update.set(order.<String>get("customerEmail"), patch.getCustomerEmail());
+        }
+        update.where(cb.equal(order.get("id"), id));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
@@ -1,18 +1,83 @@
 package com.seowon.coding.domain.repository;
 
+import com.seowon.coding.domain.dto.OrderHistoryItem;
+import com.seowon.coding.domain.dto.OrderResponse;
+import com.seowon.coding.domain.dto.OrderStatusView;
 import com.seowon.coding.domain.model.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderPatchRepository {
     
     List<Order> findByCustomerEmail(String email);
     
     List<Order> findByStatus(Order.OrderStatus status);
     
     List<Order> findByOrderDateBetween(LocalDateTime start, LocalDateTime end);
-}
\ No newline at end of file
+
+    @Query("select new com.seowon.coding.domain.dto.OrderResponse(o.id, o.customerName, o.customerEmail, o.status, o.orderDate, o.totalAmount) " +
+            "from Order o order by o.id")
+    List<OrderResponse> findAllResponses();
+
+    @Query("select new com.seowon.coding.domain.dto.OrderResponse(o.id, o.customerName, o.customerEmail, o.status, o.orderDate, o.totalAmount) " +
+            "from Order o where o.id = :id")
+    Optional<OrderResponse> findResponseById(@Param("id") Long id);
+
+    /**
+     * 고객 주문 이력 (최신순). idx_orders_customer_email_date 인덱스 범위 스캔으로 읽고, Slice 라서 count 쿼리가 없다.
+     */
+    @Query("select new com.seowon.coding.domain.dto.OrderHistoryItem(o.id, o.status, o.orderDate, o.totalAmount) " +
+            "from Order o where o.customerEmail = :email order by o.orderDate desc, o.id desc")
+    Slice<OrderHistoryItem> findHistoryByCustomerEmail(@Param("email") String email, Pageable pageable);
+
+    @Query("select new com.seowon.coding.domain.dto.OrderResponse(o.id, o.customerName, o.customerEmail, o.status, o.orderDate, o.totalAmount) " +
+            "from Order o where o.orderDate between :start and :end order by o.orderDate, o.id")
+    List<OrderResponse> findResponsesByOrderDateBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    /**
+     * 보관 대상 주문 id. idx_orders_status_date 인덱스로 종료 상태의 오래된 주문만 읽는다.
+     */
+    @Query("select o.id from Order o where o.status in :statuses and o.orderDate < :cutoff order by o.id")
+    List<Long> findArchivableIds(@Param("statuses") Collection<Order.OrderStatus> statuses,
+                                 @Param("cutoff") LocalDateTime cutoff,
+                                 Limit limit);
+
+    @Modifying
+    @Query("delete from Order o where o.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select new com.seowon.coding.domain.dto.OrderStatusView(o.id, o.status, o.customerEmail, o.totalAmount, o.orderDate) " +
+            "from Order o where o.id = :id")
+    Optional<OrderStatusView> findStatusViewById(@Param("id") Long id);
+
+    @Query("select new com.seowon.coding.domain.dto.OrderStatusView(o.id, o.status, o.customerEmail, o.totalAmount, o.orderDate) " +
+            "from Order o where o.id in :ids")
+    List<OrderStatusView> findStatusesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * id 오름차순으로 주문 row lock 을 잡는다. 상태를 읽고 바꾸는 사이에 다른 트랜잭션이 끼어들지 못하게 한다.
+     */
+    @Query(nativeQuery = true, value = "select id from orders where id in (:ids) order by id for update")
+    List<Long> lockByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * from 상태인 주문만 to 로 바꾼다. 조회 이후 다른 트랜잭션이 상태를 바꿨다면 갱신되지 않는다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.status = :to where o.id in :ids and o.status in :from")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("from") Collection<Order.OrderStatus> from,
+                     @Param("to") Order.OrderStatus to);
+}
@@ -0,0 +1,68 @@
+package com.seowon.coding.domain.repository;
+
+import com.seowon.coding.domain.model.ProcessingChunk;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ProcessingChunkRepository extends JpaRepository<ProcessingChunk, Long> {
+
+    /**
+     * lease 를 잡을 수 있는 (대기 중이고 lease 가 없거나 만료된) chunk id. 여러 노드가 같은 목록을 볼 수 있으므로 claim 으로 확정한다.
+     */
+    @Query("select c.id from ProcessingChunk c " +
+            "where c.status = :pending and (c.leaseExpiresAt is null or c.leaseExpiresAt < :now) order by c.id")
+    List<Long> findClaimableIds(@Param("pending") ProcessingChunk.Status pending,
+                                @Param("now") LocalDateTime now,
+                                Limit limit);
+
+    @Query("select c.id from ProcessingChunk c " +
+            "where c.jobId = :jobId and c.status = :pending and (c.leaseExpiresAt is null or c.leaseExpiresAt < :now) " +
+            "order by c.chunkNo")
+    List<Long> findClaimableIdsByJobId(@Param("jobId") String jobId,
+                                       @Param("pending") ProcessingChunk.Status pending,
+                                       @Param("now") LocalDateTime now,
+                                       Limit limit);
+
+    /**
+     * 조회 시점 이후 다른 노드가 먼저 잡지 않았을 때만 lease 를 잡는다 (조건부 update, 1 이면 성공).
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update ProcessingChunk c set c.leaseOwner = :owner, c.leaseExpiresAt = :expiresAt, c.attempts = c.attempts + 1 " +
+            "where c.id = :id and c.status = :pending and (c.leaseExpiresAt is null or c.leaseExpiresAt < :now)")
+    int claim(@Param("id") Long id,
+              @Param("owner") String owner,
+              @Param("pending") ProcessingChunk.Status pending,
+              @Param("now") LocalDateTime now,
+              @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * lease 를 아직 가지고 있을 때만 chunk 를 끝낸다 (DONE/FAILED). 0 이면 lease 가 만료되어 다른 노드가 가져갔다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update ProcessingChunk c set c.status = :status, c.leaseExpiresAt = null, c.completedAt = :now " +
+            "where c.id = :id and c.leaseOwner = :owner and c.status = :pending")
+    int complete(@Param("id") Long id,
+                 @Param("owner") String owner,
+                 @Param("pending") ProcessingChunk.Status pending,
+                 @Param("status") ProcessingChunk.Status status,
+                 @Param("now") LocalDateTime now);
+
+    /**
+     * 처리에 실패한 chunk 의 lease 를 바로 풀어서 만료를 기다리지 않고 재시도하게 한다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update ProcessingChunk c set c.leaseOwner = null, c.leaseExpiresAt = null " +
+            "where c.id = :id and c.leaseOwner = :owner")
+    int release(@Param("id") Long id, @Param("owner") String owner);
+
+    @Query("select o from ProcessingChunk c join c.orderIds o where c.id = :id")
+    List<Long> findOrderIds(@Param("id") Long id);
+
+    long countByJobIdAndStatus(String jobId, ProcessingChunk.Status status);
+}
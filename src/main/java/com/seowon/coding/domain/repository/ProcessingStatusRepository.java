@@ -2,9 +2,38 @@ package com.seowon.coding.domain.repository;
 
 import com.seowon.coding.domain.model.ProcessingStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface ProcessingStatusRepository extends JpaRepository<ProcessingStatus, Long> {
     Optional<ProcessingStatus> findByJobId(String jobId);
+
+    long countByStatus(ProcessingStatus.Status status);
+
+    /**
+     * 여러 노드가 같은 작업의 chunk 를 동시에 끝내므로 읽고 쓰지 않고 DB 에서 더한다. 작업 행에 lock 이 걸린다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update ProcessingStatus p set p.processed = p.processed + :processed, p.rejected = p.rejected + :rejected, " +
+            "p.updatedAt = :now, p.heartbeatAt = :now where p.jobId = :jobId")
+    int addProgress(@Param("jobId") String jobId,
+                    @Param("processed") int processed,
+                    @Param("rejected") int rejected,
+                    @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update ProcessingStatus p set p.heartbeatAt = :now where p.jobId = :jobId")
+    int heartbeat(@Param("jobId") String jobId, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update ProcessingStatus p set p.status = :status, p.updatedAt = :now " +
+            "where p.jobId = :jobId and p.status = :running")
+    int finish(@Param("jobId") String jobId,
+               @Param("running") ProcessingStatus.Status running,
+               @Param("status") ProcessingStatus.Status status,
+               @Param("now") LocalDateTime now);
 }
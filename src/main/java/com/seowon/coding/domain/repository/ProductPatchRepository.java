@@ -0,0 +1,12 @@
+package com.seowon.coding.domain.repository;
+
+import com.seowon.coding.domain.model.ProductPatchReq;
+
+public interface ProductPatchRepository {
+
+    /**
+     * 요청에 있는 컬럼만 update 한다 (엔티티 조회/merge 없음).
+     * @return 갱신된 row 수. 0 이면 상품이 없다
+     */
+    int patch(Long id, ProductPatchReq patch);
+}
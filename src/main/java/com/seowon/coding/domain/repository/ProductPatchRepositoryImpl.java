@@ -0,0 +1,47 @@
+package com.seowon.coding.domain.repository;
+
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.model.ProductPatchReq;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+class ProductPatchRepositoryImpl implements ProductPatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int patch(Long id, ProductPatchReq patch) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Product> update = cb.createCriteriaUpdate(Product.class);
+        Root<Product> product = update.from(Product.class);
+        if (patch.getName() != null) {
+            update.set(product.<String>get("name"), patch.getName());
+        }
+        if (patch.getDescription() != null) {
+            update.set(product.<String>get("description"), patch.getDescription());
+        }
+        if (patch.getPrice() != null) {
+            update.set(product.<BigDecimal>get("price"), patch.getPrice());
+        }
+        if (patch.getStockQuantity() != null) {
+            update.set(product.<Integer>get("stockQuantity"), patch.getStockQuantity());
+        }
+        if (patch.getReorderThreshold() != null) {
+            update.set(product.<Integer>get("reorderThreshold"), patch.getReorderThreshold());
+        }
+        if (patch.getCategory() != null) {
+            update.set(product.<String>get("category"), patch.getCategory());
+        }
+        // bulk update 는 @PreUpdate 를 거치지 않으므로 ETag 용 lastModified 를 직접 갱신
+        update.set(product.<Instant>get("lastModified"), Product.currentTimestamp());
+        update.where(cb.equal(product.get("id"), id));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
@@ -1,17 +1,72 @@
 package com.seowon.coding.domain.repository;
 
+import com.seowon.coding.domain.dto.CatalogVersion;
+import com.seowon.coding.domain.dto.ProductFacet;
+import com.seowon.coding.domain.dto.ProductResponse;
+import com.seowon.coding.domain.dto.StockLevel;
 import com.seowon.coding.domain.model.Product;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductPatchRepository {
     
     List<Product> findByCategory(String category);
     
     List<Product> findByNameContainingIgnoreCase(String name);
     
     List<Product> findByStockQuantityGreaterThan(int minStock);
+
+    /**
+     * id 오름차순으로 row lock 을 잡아서 동시에 들어온 batch 끼리 deadlock 이 나지 않도록 한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Product p where p.id in :ids order by p.id")
+    List<Product> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Query("select new com.seowon.coding.domain.dto.ProductResponse(p.id, p.name, p.description, p.price, p.stockQuantity, p.category, p.lastModified) " +
+            "from Product p order by p.id")
+    List<ProductResponse> findAllResponses();
+
+    @Query("select new com.seowon.coding.domain.dto.ProductResponse(p.id, p.name, p.description, p.price, p.stockQuantity, p.category, p.lastModified) " +
+            "from Product p where p.id = :id")
+    Optional<ProductResponse> findResponseById(@Param("id") Long id);
+
+    /**
+     * keyset 페이지: afterId 다음부터 id 순으로 limit 건. offset 없이 PK 인덱스로 바로 이어서 읽는다.
+     */
+    @Query("select new com.seowon.coding.domain.dto.ProductResponse(p.id, p.name, p.description, p.price, p.stockQuantity, p.category, p.lastModified) " +
+            "from Product p where p.id > :afterId order by p.id")
+    List<ProductResponse> findResponsesAfter(@Param("afterId") long afterId, Limit limit);
+
+    @Query("select new com.seowon.coding.domain.dto.StockLevel(p.id, p.name, p.stockQuantity, p.reorderThreshold, p.lastModified) " +
+            "from Product p where p.stockQuantity <= p.reorderThreshold")
+    List<StockLevel> findStockLevelsBelowReorderThreshold();
+
+    @Query("select new com.seowon.coding.domain.dto.StockLevel(p.id, p.name, p.stockQuantity, p.reorderThreshold, p.lastModified) " +
+            "from Product p where p.id in :ids")
+    List<StockLevel> findStockLevelsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select new com.seowon.coding.domain.dto.ProductFacet(p.id, p.category, p.price, p.stockQuantity, p.lastModified) from Product p")
+    List<ProductFacet> findFacets();
+
+    @Query("select new com.seowon.coding.domain.dto.ProductFacet(p.id, p.category, p.price, p.stockQuantity, p.lastModified) " +
+            "from Product p where p.id in :ids")
+    List<ProductFacet> findFacetsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select p.lastModified from Product p where p.id = :id")
+    Optional<Instant> findLastModifiedById(@Param("id") Long id);
+
+    @Query("select new com.seowon.coding.domain.dto.CatalogVersion(count(p), max(p.lastModified)) from Product p")
+    CatalogVersion findCatalogVersion();
 }
\ No newline at end of file
@@ -0,0 +1,160 @@
+package com.seowon.coding.inventory;
+
+import com.seowon.coding.domain.dto.CategoryAggregate;
+import com.seowon.coding.domain.dto.ProductFacet;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 카테고리별 집계를 증분으로 유지하는 인덱스.
+ * 상품별 마지막 값을 보관해서 변경 전 기여분을 빼고 새 값을 더한다. min/max 가격은 삭제/가격 변경에도 유지되도록
+ * 카테고리별 가격 multiset(TreeMap) 으로 관리한다. 갱신은 O(log n), 전체 조회는 카테고리 수에 비례한다.
+ * category 가 없는 상품은 집계하지 않는다.
+ * 보관 중인 값보다 lastModified 가 오래된 값과 삭제된 상품의 값은 무시한다 (commit 순서와 반영 순서가 다를 수 있음).
+ */
+class CategoryAggregateIndex {
+
+    private final Map<Long, ProductFacet> facets = new HashMap<>();
+    private final TreeMap<String, Bucket> buckets = new TreeMap<>();
+    // 삭제된 상품. 늦게 도착한 이전 값으로 되살아나지 않게 한다 (DB 에서도 사라진 것을 확인하면 잊는다)
+    private final Set<Long> removed = new HashSet<>();
+
+    synchronized void update(ProductFacet facet) {
+        if (removed.contains(facet.productId()) || isOlder(facet, facets.get(facet.productId()))) {
+            return;
+        }
+        ProductFacet previous = facets.put(facet.productId(), facet);
+        if (previous != null) {
+            subtract(previous);
+        }
+        add(facet);
+    }
+
+    /**
+     * 재고만 바뀐 경우. 모르는 상품(아직 반영 전이거나 삭제됨)이면 무시한다.
+     */
+    synchronized void updateStock(Long productId, int stockQuantity, Instant lastModified) {
+        ProductFacet previous = facets.get(productId);
+        if (previous != null) {
+            update(previous.withStockQuantity(stockQuantity, lastModified));
+        }
+    }
+
+    synchronized void remove(Long productId) {
+        removed.add(productId);
+        ProductFacet previous = facets.remove(productId);
+        if (previous != null) {
+            subtract(previous);
+        }
+    }
+
+    /**
+     * DB 에서 읽은 전체 값으로 다시 만든다. 읽은 값보다 새로 반영된 값, 읽기 시작한 뒤에 반영된 값은 유지하고
+     * (replica 지연, 읽는 동안 commit 된 변경), 그 밖에 DB 에 없는 상품은 버린다.
+     */
+    synchronized void reconcile(Collection<ProductFacet> all, Instant readStartedAt) {
+        Map<Long, ProductFacet> latest = new HashMap<>(all.size() * 2);
+        Set<Long> stored = new HashSet<>(all.size() * 2);
+        for (ProductFacet facet : all) {
+            stored.add(facet.productId());
+            if (removed.contains(facet.productId())) {
+                continue;
+            }
+            ProductFacet current = facets.get(facet.productId());
+            latest.put(facet.productId(), current != null && isOlder(facet, current) ? current : facet);
+        }
+        for (ProductFacet current : facets.values()) {
+            if (!latest.containsKey(current.productId()) && current.lastModified() != null
+                    && current.lastModified().isAfter(readStartedAt)) {
+                latest.put(current.productId(), current);
+            }
+        }
+        removed.retainAll(stored);
+        facets.clear();
+        buckets.clear();
+        latest.values().forEach(this::update);
+    }
+
+    private static boolean isOlder(ProductFacet facet, ProductFacet current) {
+        return current != null && facet.lastModified() != null && current.lastModified() != null
+                && facet.lastModified().isBefore(current.lastModified());
+    }
+
+    synchronized List<CategoryAggregate> aggregates() {
+        List<CategoryAggregate> result = new ArrayList<>(buckets.size());
+        buckets.values().forEach(bucket -> result.add(bucket.aggregate));
+        return result;
+    }
+
+    synchronized int size() {
+        return buckets.size();
+    }
+
+    private void add(ProductFacet facet) {
+        if (facet.category() != null) {
+            buckets.computeIfAbsent(facet.category(), Bucket::new).add(facet);
+        }
+    }
+
+    private void subtract(ProductFacet facet) {
+        if (facet.category() == null) {
+            return;
+        }
+        Bucket bucket = buckets.get(facet.category());
+        if (bucket != null && bucket.subtract(facet) == 0) {
+            buckets.remove(facet.category());
+        }
+    }
+
+    private static class Bucket {
+
+        private final String category;
+        private final TreeMap<BigDecimal, Integer> prices = new TreeMap<>();
+        private long productCount;
+        private long inStockCount;
+        // 조회가 카테고리 수에 비례하도록 갱신 시점에 만들어 둔다
+        private CategoryAggregate aggregate;
+
+        Bucket(String category) {
+            this.category = category;
+        }
+
+        void add(ProductFacet facet) {
+            productCount++;
+            if (facet.isInStock()) {
+                inStockCount++;
+            }
+            if (facet.price() != null) {
+                prices.merge(facet.price(), 1, Integer::sum);
+            }
+            refresh();
+        }
+
+        long subtract(ProductFacet facet) {
+            productCount--;
+            if (facet.isInStock()) {
+                inStockCount--;
+            }
+            if (facet.price() != null) {
+                prices.computeIfPresent(facet.price(), (price, count) -> count == 1 ? null : count - 1);
+            }
+            refresh();
+            return productCount;
+        }
+
+        private void refresh() {
+            aggregate = new CategoryAggregate(category, productCount, inStockCount,
+                    prices.isEmpty() ? null : prices.firstKey(),
+                    prices.isEmpty() ? null : prices.lastKey());
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.seowon.coding.inventory;
+
+import com.seowon.coding.domain.dto.CategoryAggregate;
+import com.seowon.coding.domain.dto.ProductFacet;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.util.TransactionScopedBuffer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리별 상품 수/재고 있는 상품 수/가격 범위를 메모리에 유지해서 전체 상품 조회 없이 응답한다.
+ * 상품 변경은 {@link ProductStockListener} (엔티티 변경), {@link #refresh} (bulk update), {@link #recordStock} (JDBC 재고 조정) 로 들어오며,
+ * {@link StockRiskMonitor} 와 같이 트랜잭션 안에서는 상품별 마지막 값만 모아 두었다가 commit 후에 반영하고,
+ * lastModified 가 더 오래된 값은 무시한다. 집계는 노드마다 메모리에 있으므로 다른 노드의 변경은 주기적인 rebuild 로 맞춘다.
+ */
+@Slf4j
+@Component
+public class CategoryAggregateStore {
+
+    private final ProductRepository productRepository;
+    private final CategoryAggregateIndex index = new CategoryAggregateIndex();
+    private final TransactionScopedBuffer<Pending> pendingChanges =
+            new TransactionScopedBuffer<>(TransactionScopedBuffer.Phase.AFTER_COMMIT, Pending::new, this::apply);
+
+    public CategoryAggregateStore(ProductRepository productRepository, MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        Gauge.builder("products.categories", index, CategoryAggregateIndex::size)
+                .description("Categories with at least one product")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기동 시(합성 데이터 적재 후) DB 에서 전체 상품의 카테고리/가격/재고를 읽어 집계를 만든다.
+     * 이후에는 inventory.category-aggregates.rebuild-interval-ms 마다 다시 읽어 다른 노드의 변경과 놓친 변경을 맞춘다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public int rebuild() {
+        Instant readStartedAt = Product.currentTimestamp();
+        List<ProductFacet> all = productRepository.findFacets();
+        index.reconcile(all, readStartedAt);
+        log.info("Category aggregates built: {} products in {} categories", all.size(), index.size());
+        return index.size();
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.category-aggregates.rebuild-interval-ms:300000}",
+            initialDelayString = "${inventory.category-aggregates.rebuild-interval-ms:300000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * 카테고리 이름순. 카테고리 수에 비례하는 비용으로 응답한다.
+     */
+    public List<CategoryAggregate> aggregates() {
+        return index.aggregates();
+    }
+
+    public void record(ProductFacet facet) {
+        Pending pending = pendingChanges.current();
+        if (pending == null) {
+            index.update(facet);
+        } else {
+            pending.facets.put(facet.productId(), facet);
+            pending.stocks.remove(facet.productId());
+        }
+    }
+
+    /**
+     * 재고만 바뀐 경우. 카테고리/가격은 반영 시점의 인덱스 값을 그대로 쓰므로 다시 조회하지 않는다.
+     */
+    public void recordStock(Long productId, int stockQuantity, Instant lastModified) {
+        Pending pending = pendingChanges.current();
+        if (pending == null) {
+            index.updateStock(productId, stockQuantity, lastModified);
+        } else if (pending.facets.containsKey(productId)) {
+            ProductFacet facet = pending.facets.get(productId);
+            if (facet != null) {
+                pending.facets.put(productId, facet.withStockQuantity(stockQuantity, lastModified));
+            }
+        } else {
+            pending.stocks.put(productId, new StockChange(stockQuantity, lastModified));
+        }
+    }
+
+    public void remove(Long productId) {
+        Pending pending = pendingChanges.current();
+        if (pending == null) {
+            index.remove(productId);
+        } else {
+            pending.facets.put(productId, null);
+            pending.stocks.remove(productId);
+        }
+    }
+
+    /**
+     * 엔티티를 거치지 않는 bulk update 후에 호출. 현재 트랜잭션에서 값을 다시 읽어 commit 후 반영한다.
+     */
+    public void refresh(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        productRepository.findFacetsByIdIn(productIds).forEach(this::record);
+    }
+
+    private void apply(Pending changes) {
+        changes.facets.forEach((productId, facet) -> {
+            if (facet == null) {
+                index.remove(productId);
+            } else {
+                index.update(facet);
+            }
+        });
+        changes.stocks.forEach((productId, change) ->
+                index.updateStock(productId, change.stockQuantity(), change.lastModified()));
+    }
+
+    // 상품별 마지막 값 (삭제는 null) 과 재고만 바뀐 상품의 마지막 재고
+    private static class Pending {
+        private final Map<Long, ProductFacet> facets = new HashMap<>();
+        private final Map<Long, StockChange> stocks = new HashMap<>();
+    }
+
+    private record StockChange(int stockQuantity, Instant lastModified) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.seowon.coding.inventory;
+
+/**
+ * 상품 재고가 재주문 기준(reorderThreshold) 이하로 내려갔을 때 commit 후 한 번 발행된다.
+ * 기준 위로 회복된 뒤 다시 내려가면 또 발행된다.
+ */
+public record LowStockEvent(Long productId,
+                            String name,
+                            int stockQuantity,
+                            int reorderThreshold) {
+}
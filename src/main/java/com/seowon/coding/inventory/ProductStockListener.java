@@ -0,0 +1,40 @@
+package com.seowon.coding.inventory;
+
+import com.seowon.coding.domain.dto.ProductFacet;
+import com.seowon.coding.domain.dto.StockLevel;
+import com.seowon.coding.domain.model.Product;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 상품 엔티티의 insert/update/delete (decreaseStock, increaseStock 포함) 를 {@link StockRiskMonitor} 와
+ * {@link CategoryAggregateStore} 에 전달한다.
+ * Hibernate 가 Spring bean container 로 생성한다. EntityManagerFactory 생성 중에 만들어지므로
+ * repository 에 의존하는 monitor/store 는 사용 시점에 조회한다.
+ */
+public class ProductStockListener {
+
+    private final ObjectProvider<StockRiskMonitor> stockRiskMonitor;
+    private final ObjectProvider<CategoryAggregateStore> categoryAggregateStore;
+
+    public ProductStockListener(ObjectProvider<StockRiskMonitor> stockRiskMonitor,
+                                ObjectProvider<CategoryAggregateStore> categoryAggregateStore) {
+        this.stockRiskMonitor = stockRiskMonitor;
+        this.categoryAggregateStore = categoryAggregateStore;
+    }
+
+    @PostPersist
+    @PostUpdate
+    void changed(Product product) {
+        stockRiskMonitor.ifAvailable(monitor -> monitor.record(StockLevel.from(product)));
+        categoryAggregateStore.ifAvailable(store -> store.record(ProductFacet.from(product)));
+    }
+
+    @PostRemove
+    void removed(Product product) {
+        stockRiskMonitor.ifAvailable(monitor -> monitor.remove(product.getId()));
+        categoryAggregateStore.ifAvailable(store -> store.remove(product.getId()));
+    }
+}
@@ -0,0 +1,92 @@
+package com.seowon.coding.inventory;
+
+import com.seowon.coding.domain.dto.StockLevel;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 재주문 기준 이하인 상품만 품절에 가까운 순서로 보관하는 인덱스.
+ * 기준 위에 있는 상품은 보관하지 않으므로 정렬 구조는 at-risk 상품 수에 비례하고,
+ * 갱신은 O(log n), 상위 N 조회는 O(N) 이다.
+ * 변경된 상품마다 마지막에 반영한 lastModified 만 따로 기억해서 그보다 오래된 값은 무시한다
+ * (commit 순서와 반영 순서가 다를 수 있음).
+ */
+class StockRiskIndex {
+
+    static final Comparator<StockLevel> RISK_ORDER = Comparator.comparingDouble(StockLevel::coverage)
+            .thenComparingInt(StockLevel::stockQuantity)
+            .thenComparing(StockLevel::productId);
+
+    private final Map<Long, StockLevel> levels = new HashMap<>();
+    private final TreeSet<StockLevel> ordered = new TreeSet<>(RISK_ORDER);
+    // 기준 위로 올라가 levels 에서 빠진 상품도 버전은 유지한다. 삭제된 상품은 Instant.MAX
+    private final Map<Long, Instant> versions = new HashMap<>();
+
+    /**
+     * @return 이번 갱신으로 기준 이하로 새로 내려갔으면 true. 이미 반영한 값보다 오래된 값이면 무시하고 false
+     */
+    synchronized boolean update(StockLevel level) {
+        if (isStale(level)) {
+            return false;
+        }
+        StockLevel previous = levels.remove(level.productId());
+        if (previous != null) {
+            ordered.remove(previous);
+        }
+        if (!level.isBelowReorderThreshold()) {
+            return false;
+        }
+        levels.put(level.productId(), level);
+        ordered.add(level);
+        return previous == null;
+    }
+
+    synchronized void remove(Long productId) {
+        versions.put(productId, Instant.MAX);
+        StockLevel previous = levels.remove(productId);
+        if (previous != null) {
+            ordered.remove(previous);
+        }
+    }
+
+    synchronized void reset(Collection<StockLevel> atRisk) {
+        levels.clear();
+        ordered.clear();
+        versions.clear();
+        atRisk.forEach(this::update);
+    }
+
+    synchronized List<StockLevel> top(int limit) {
+        List<StockLevel> result = new ArrayList<>(Math.min(limit, ordered.size()));
+        for (StockLevel level : ordered) {
+            if (result.size() == limit) {
+                break;
+            }
+            result.add(level);
+        }
+        return result;
+    }
+
+    private boolean isStale(StockLevel level) {
+        if (level.lastModified() == null) {
+            return false;
+        }
+        Instant applied = versions.get(level.productId());
+        if (applied != null && level.lastModified().isBefore(applied)) {
+            return true;
+        }
+        versions.put(level.productId(), level.lastModified());
+        return false;
+    }
+
+    synchronized int size() {
+        return levels.size();
+    }
+}
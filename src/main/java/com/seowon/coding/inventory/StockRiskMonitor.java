@@ -0,0 +1,110 @@
+package com.seowon.coding.inventory;
+
+import com.seowon.coding.domain.dto.StockLevel;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.util.TransactionScopedBuffer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재주문 기준 이하 상품을 메모리 인덱스로 유지해서 "품절 위험 상위 N" 을 테이블 조회 없이 응답한다.
+ * 상품 재고/기준 변경은 {@link ProductStockListener} (엔티티 변경) 와 {@link #refresh} (bulk update) 로 들어오며,
+ * 트랜잭션 안에서는 상품별 마지막 값만 모아 두었다가 commit 후에 반영한다. 롤백되면 반영되지 않는다.
+ * 동시에 commit 된 트랜잭션의 반영 순서가 뒤바뀌어도 lastModified 가 더 오래된 값은 무시한다.
+ * 기준 이하로 새로 내려간 상품은 {@link LowStockEvent} 로 발행한다.
+ */
+@Slf4j
+@Component
+public class StockRiskMonitor {
+
+    static final int MAX_LIMIT = 1000;
+
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StockRiskIndex index = new StockRiskIndex();
+    private final Counter lowStockAlerts;
+    // 상품별 마지막 값, 삭제는 null
+    private final TransactionScopedBuffer<Map<Long, StockLevel>> pendingLevels =
+            new TransactionScopedBuffer<>(TransactionScopedBuffer.Phase.AFTER_COMMIT, HashMap::new,
+                    levels -> levels.forEach(this::apply));
+
+    public StockRiskMonitor(ProductRepository productRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.eventPublisher = eventPublisher;
+        this.lowStockAlerts = Counter.builder("products.low_stock.alerts")
+                .description("Products that dropped to or below their reorder threshold")
+                .register(meterRegistry);
+        Gauge.builder("products.stock.at_risk", index, StockRiskIndex::size)
+                .description("Products currently at or below their reorder threshold")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기동 시(합성 데이터 적재 후) 한 번 DB 에서 at-risk 상품을 읽어 인덱스를 만든다. 이미 기준 이하인 상품은 이벤트를 발행하지 않는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public int rebuild() {
+        List<StockLevel> atRisk = productRepository.findStockLevelsBelowReorderThreshold();
+        index.reset(atRisk);
+        log.info("Stock risk index built: {} products at or below reorder threshold", atRisk.size());
+        return atRisk.size();
+    }
+
+    public List<StockLevel> topAtRisk(int limit) {
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        return index.top(limit);
+    }
+
+    public void record(StockLevel level) {
+        Map<Long, StockLevel> pending = pendingLevels.current();
+        if (pending == null) {
+            apply(level.productId(), level);
+        } else {
+            pending.put(level.productId(), level);
+        }
+    }
+
+    public void remove(Long productId) {
+        Map<Long, StockLevel> pending = pendingLevels.current();
+        if (pending == null) {
+            apply(productId, null);
+        } else {
+            pending.put(productId, null);
+        }
+    }
+
+    /**
+     * 엔티티를 거치지 않는 bulk update 후에 호출. 현재 트랜잭션에서 값을 다시 읽어 commit 후 반영한다.
+     */
+    public void refresh(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        productRepository.findStockLevelsByIdIn(productIds).forEach(this::record);
+    }
+
+    private void apply(Long productId, StockLevel level) {
+        if (level == null) {
+            index.remove(productId);
+        } else if (index.update(level)) {
+            lowStockAlerts.increment();
+            eventPublisher.publishEvent(new LowStockEvent(
+                    level.productId(), level.name(), level.stockQuantity(), level.reorderThreshold()));
+        }
+    }
+}
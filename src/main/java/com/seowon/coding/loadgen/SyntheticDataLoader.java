@@ -0,0 +1,154 @@
+package com.seowon.coding.loadgen;
+
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.service.CustomerOrderService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Product / Order / OrderItem 합성 데이터를 JDBC batch 로 대량 생성한다 (loadgen.enabled=true 일 때 기동 직후 1회).
+ * JPA 를 거치지 않으므로 수백만 row 도 분 단위로 적재된다. 트래픽을 받기 전에 실행하는 것을 전제로 한다.
+ * 이미 상품이 있는 DB 는 loadgen.append=true 가 아니면 건너뛰므로 h2file profile 로 재시작해도 다시 적재되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "loadgen", name = "enabled", havingValue = "true")
+public class SyntheticDataLoader implements ApplicationRunner {
+
+    private static final Order.OrderStatus[] STATUSES = Order.OrderStatus.values();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final SyntheticDataProperties properties;
+    private final CustomerOrderService customerOrderService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Long existing = jdbcTemplate.queryForObject("select count(*) from product", Long.class);
+        if (existing != null && existing > 0 && !properties.isAppend()) {
+            log.info("Synthetic data skipped: database already has {} products (set loadgen.append=true to add more)", existing);
+            return;
+        }
+        long start = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(properties.getSeed());
+
+        long[] productRange = insertProducts(random);
+        long orderCount = insertOrders(random, productRange);
+        // JDBC 로 넣은 주문은 상태 변경 이벤트를 거치지 않으므로 고객 요약을 다시 계산
+        int customers = customerOrderService.rebuildSummaries();
+
+        log.info("Synthetic data loaded: {} products, {} orders, {} customer summaries in {} s",
+                productRange[1] - productRange[0] + 1, orderCount, customers, (System.nanoTime() - start) / 1_000_000_000);
+    }
+
+    /**
+     * @return 새로 생성된 product id 범위 [min, max]
+     */
+    private long[] insertProducts(SplittableRandom random) {
+        Long maxBefore = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from product", Long.class);
+        Timestamp now = Timestamp.from(Instant.now());
+        String sql = "insert into product (name, description, price, stock_quantity, reorder_threshold, category, last_modified) values (?, ?, ?, ?, ?, ?, ?)";
+
+        int total = properties.getProducts();
+        for (int from = 0; from < total; from += properties.getChunkSize()) {
+            int to = Math.min(total, from + properties.getChunkSize());
+            List<Object[]> rows = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                rows.add(new Object[]{
+                        "Product " + i,
+                        "Synthetic product " + i,
+                        BigDecimal.valueOf(100 + random.nextInt(100_000), 2),
+                        random.nextInt(500),
+                        random.nextInt(50),
+                        "Category " + random.nextInt(properties.getCategories()),
+                        now
+                });
+            }
+            inTransaction(() -> jdbcTemplate.batchUpdate(sql, rows));
+        }
+        Long max = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from product", Long.class);
+        return new long[]{maxBefore + 1, max};
+    }
+
+    private long insertOrders(SplittableRandom random, long[] productRange) {
+        int total = properties.getOrders();
+        if (total == 0 || productRange[1] < productRange[0]) {
+            return 0;
+        }
+        // id 는 시퀀스에서 한 번에 범위를 잡고, 적재 후 Hibernate pooled optimizer 가 겹치지 않도록 시퀀스를 뒤로 옮긴다
+        long nextOrderId = nextValue("orders_seq");
+        long nextItemId = nextValue("order_item_seq");
+
+        String orderSql = "insert into orders (id, customer_name, customer_email, status, order_date, total_amount) values (?, ?, ?, ?, ?, ?)";
+        String itemSql = "insert into order_item (id, order_id, product_id, quantity, price) values (?, ?, ?, ?, ?)";
+        long productSpan = productRange[1] - productRange[0] + 1;
+        LocalDateTime now = LocalDateTime.now();
+        long windowSeconds = properties.getDays() * 86_400L;
+
+        for (int from = 0; from < total; from += properties.getChunkSize()) {
+            int to = Math.min(total, from + properties.getChunkSize());
+            List<Object[]> orders = new ArrayList<>(to - from);
+            List<Object[]> items = new ArrayList<>((to - from) * properties.getMaxItemsPerOrder());
+            for (int i = from; i < to; i++) {
+                long orderId = nextOrderId++;
+                int customer = random.nextInt(Math.max(1, total / 20));
+                BigDecimal totalAmount = BigDecimal.ZERO;
+                int lines = 1 + random.nextInt(properties.getMaxItemsPerOrder());
+                for (int l = 0; l < lines; l++) {
+                    int quantity = 1 + random.nextInt(5);
+                    BigDecimal price = BigDecimal.valueOf(100 + random.nextInt(100_000), 2);
+                    items.add(new Object[]{nextItemId++, orderId, productRange[0] + random.nextLong(productSpan), quantity, price});
+                    totalAmount = totalAmount.add(price.multiply(BigDecimal.valueOf(quantity)));
+                }
+                orders.add(new Object[]{
+                        orderId,
+                        "Customer " + customer,
+                        "customer" + customer + "@example.com",
+                        STATUSES[random.nextInt(STATUSES.length)].name(),
+                        Timestamp.valueOf(now.minusSeconds(random.nextLong(windowSeconds))),
+                        totalAmount
+                });
+            }
+            inTransaction(() -> {
+                jdbcTemplate.batchUpdate(orderSql, orders);
+                jdbcTemplate.batchUpdate(itemSql, items);
+            });
+            if ((to / properties.getChunkSize()) % 20 == 0) {
+                log.info("Synthetic orders: {}/{}", to, total);
+            }
+        }
+
+        restartSequence("orders_seq", nextOrderId);
+        restartSequence("order_item_seq", nextItemId);
+        return total;
+    }
+
+    private long nextValue(String sequence) {
+        return jdbcTemplate.queryForObject("select next value for " + sequence, Long.class);
+    }
+
+    // pooled optimizer 는 시퀀스 값 v 를 받으면 (v - allocationSize, v] 를 사용하므로 allocationSize 만큼 여유를 둔다
+    private void restartSequence(String sequence, long nextId) {
+        jdbcTemplate.execute("alter sequence " + sequence + " restart with " + (nextId + 50));
+    }
+
+    private void inTransaction(Runnable work) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> work.run());
+    }
+}
@@ -0,0 +1,34 @@
+package com.seowon.coding.loadgen;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 부하 테스트용 합성 데이터 생성 설정 (loadgen.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "loadgen")
+public class SyntheticDataProperties {
+
+    private boolean enabled = false;
+
+    /** false 면 상품이 이미 있는 DB (재시작한 h2file 등) 에는 다시 적재하지 않는다. true 면 기존 데이터 뒤에 추가 */
+    private boolean append = false;
+
+    private int products = 100_000;
+
+    private int orders = 1_000_000;
+
+    /** 주문당 최대 라인 수 (1 ~ maxItemsPerOrder) */
+    private int maxItemsPerOrder = 5;
+
+    private int categories = 50;
+
+    /** orderDate 를 오늘로부터 며칠 전까지 분포시킬지 */
+    private int days = 730;
+
+    /** JDBC batch 및 커밋 단위 */
+    private int chunkSize = 5_000;
+
+    private long seed = 42L;
+}
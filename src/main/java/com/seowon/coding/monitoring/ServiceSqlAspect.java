@@ -0,0 +1,43 @@
+package com.seowon.coding.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @Service 메소드별 SQL statement 수 (다른 서비스 호출분 포함)
+ */
+@Aspect
+public class ServiceSqlAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public ServiceSqlAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@within(org.springframework.stereotype.Service)")
+    public Object count(ProceedingJoinPoint joinPoint) throws Throwable {
+        SqlStatementTracker.Snapshot start = SqlStatementTracker.snapshot();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            long statements = SqlStatementTracker.snapshot().since(start).statements();
+            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            summaries.computeIfAbsent(method, m -> DistributionSummary.builder("service.sql.statements")
+                            .description("SQL statements issued per service method call")
+                            .tag("class", m.getDeclaringClass().getSimpleName())
+                            .tag("method", m.getName())
+                            .register(meterRegistry))
+                    .record(statements);
+        }
+    }
+}
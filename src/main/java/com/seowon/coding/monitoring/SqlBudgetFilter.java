@@ -0,0 +1,63 @@
+package com.seowon.coding.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * HTTP 요청별 SQL statement 수/시간을 기록하고 budget 을 넘은 요청을 WARN 로그로 남긴다.
+ */
+@Slf4j
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final int requestBudget;
+    private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public SqlBudgetFilter(MeterRegistry meterRegistry, SqlMonitorProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.requestBudget = properties.getRequestBudget();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementTracker.Snapshot start = SqlStatementTracker.snapshot();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementTracker.Snapshot used = SqlStatementTracker.snapshot().since(start);
+            if (used.statements() > 0) {
+                // URI 는 path variable 이 치환되지 않은 mapping pattern 을 사용해서 태그 cardinality 를 제한
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                String uri = pattern == null ? UNKNOWN_URI : pattern.toString();
+                summary(request.getMethod(), uri).record(used.statements());
+
+                if (used.statements() > requestBudget) {
+                    log.warn("SQL budget exceeded: {} {} issued {} statements in {} ms (budget {})",
+                            request.getMethod(), request.getRequestURI(), used.statements(), used.millis(), requestBudget);
+                }
+            }
+        }
+    }
+
+    private DistributionSummary summary(String method, String uri) {
+        return summaries.computeIfAbsent(method + ' ' + uri, key -> DistributionSummary.builder("http.server.sql.statements")
+                .description("SQL statements issued per HTTP request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,51 @@
+package com.seowon.coding.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource 를 datasource-proxy 로 감싸서 SQL 실행을 집계한다.
+ * 쿼리 문장 출력(show-sql)은 기본으로 끄고, 필요하면 sql-debug profile 로 켠다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "sql.monitor", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMonitorConfig {
+
+    // 애플리케이션이 사용하는 (primary) DataSource 만 감싼다. read/write pool 을 따로 감싸면 routing 시 이중 집계된다
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor sqlMonitorDataSourcePostProcessor(ObjectProvider<SqlMonitorProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN.equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new SqlMonitorListener(properties.getObject()))
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public SqlBudgetFilter sqlBudgetFilter(MeterRegistry meterRegistry, SqlMonitorProperties properties) {
+        return new SqlBudgetFilter(meterRegistry, properties);
+    }
+
+    @Bean
+    public ServiceSqlAspect serviceSqlAspect(MeterRegistry meterRegistry) {
+        return new ServiceSqlAspect(meterRegistry);
+    }
+}
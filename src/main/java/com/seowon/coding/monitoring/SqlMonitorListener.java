@@ -0,0 +1,60 @@
+package com.seowon.coding.monitoring;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * datasource-proxy listener: statement 수/시간을 스레드별로 누적하고 느린 쿼리를 bind parameter 와 함께 기록한다.
+ * logParameters 가 false 면 parameter 값은 ? 로 가려서 개수만 남긴다.
+ */
+@Slf4j
+public class SqlMonitorListener implements QueryExecutionListener {
+
+    private final long slowQueryMillis;
+    private final boolean logParameters;
+
+    public SqlMonitorListener(SqlMonitorProperties properties) {
+        this.slowQueryMillis = properties.getSlowQueryThreshold().toMillis();
+        this.logParameters = properties.isLogParameters();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        int statements = execInfo.isBatch() ? Math.max(execInfo.getBatchSize(), 1) : queryInfoList.size();
+        SqlStatementTracker.record(statements, TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime()));
+
+        if (execInfo.getElapsedTime() >= slowQueryMillis) {
+            for (QueryInfo query : queryInfoList) {
+                log.warn("Slow query ({} ms): {} params={}", execInfo.getElapsedTime(), query.getQuery(),
+                        parameters(query, logParameters));
+            }
+        }
+    }
+
+    static String parameters(QueryInfo query, boolean showValues) {
+        StringBuilder sb = new StringBuilder();
+        for (List<ParameterSetOperation> parameters : query.getParametersList()) {
+            sb.append('[');
+            for (int i = 0; i < parameters.size(); i++) {
+                Object[] args = parameters.get(i).getArgs();
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                // args[0] 은 parameter index, args[1] 이 값
+                sb.append(showValues ? (args.length > 1 ? args[1] : null) : "?");
+            }
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,25 @@
+package com.seowon.coding.monitoring;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * SQL 실행 모니터링 설정 (sql.monitor.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "sql.monitor")
+public class SqlMonitorProperties {
+
+    private boolean enabled = true;
+
+    /** HTTP 요청 하나가 실행해도 되는 statement 수. 넘으면 WARN 로그 */
+    private int requestBudget = 20;
+
+    /** 이 시간 이상 걸린 statement 는 SQL 과 bind parameter 를 WARN 로그로 남긴다 */
+    private Duration slowQueryThreshold = Duration.ofMillis(200);
+
+    /** 느린 쿼리 로그에 bind parameter 값을 남길지. 고객 email 등 개인정보가 남으므로 기본은 false 이며 값 대신 ? 로 표시 */
+    private boolean logParameters = false;
+}
@@ -0,0 +1,40 @@
+package com.seowon.coding.monitoring;
+
+/**
+ * 현재 스레드에서 실행된 SQL statement 수와 시간을 누적한다.
+ * 값은 계속 증가만 하므로, 구간 측정은 시작/종료 시점 snapshot 의 차이로 계산한다 (중첩 측정 가능).
+ */
+public final class SqlStatementTracker {
+
+    private static final ThreadLocal<Counts> CURRENT = ThreadLocal.withInitial(Counts::new);
+
+    private SqlStatementTracker() {
+    }
+
+    static void record(int statements, long elapsedNanos) {
+        Counts counts = CURRENT.get();
+        counts.statements += statements;
+        counts.nanos += elapsedNanos;
+    }
+
+    public static Snapshot snapshot() {
+        Counts counts = CURRENT.get();
+        return new Snapshot(counts.statements, counts.nanos);
+    }
+
+    public record Snapshot(long statements, long nanos) {
+
+        public Snapshot since(Snapshot start) {
+            return new Snapshot(statements - start.statements, nanos - start.nanos);
+        }
+
+        public long millis() {
+            return nanos / 1_000_000;
+        }
+    }
+
+    private static final class Counts {
+        private long statements;
+        private long nanos;
+    }
+}
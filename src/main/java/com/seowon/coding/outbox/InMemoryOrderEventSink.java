@@ -0,0 +1,37 @@
+package com.seowon.coding.outbox;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 로컬/테스트용 sink. 크기가 제한된 queue 에 쌓고, 소비자가 drain 으로 가져간다.
+ * queue 에 batch 전체가 들어갈 공간이 없으면 거부해서 dispatcher 가 다음 poll 까지 전송을 멈추게 한다 (backpressure).
+ */
+public class InMemoryOrderEventSink implements OrderEventSink {
+
+    private final BlockingQueue<OrderEventMessage> queue;
+
+    public InMemoryOrderEventSink(int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public synchronized void publish(List<OrderEventMessage> batch) {
+        if (queue.remainingCapacity() < batch.size()) {
+            throw new IllegalStateException("order event sink is full: " + queue.size() + " pending");
+        }
+        queue.addAll(batch);
+    }
+
+    public List<OrderEventMessage> drain(int maxEvents) {
+        List<OrderEventMessage> events = new ArrayList<>(Math.min(maxEvents, queue.size()));
+        queue.drainTo(events, maxEvents);
+        return events;
+    }
+
+    public int size() {
+        return queue.size();
+    }
+}
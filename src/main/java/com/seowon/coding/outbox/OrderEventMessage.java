@@ -0,0 +1,21 @@
+package com.seowon.coding.outbox;
+
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.OrderOutboxEvent;
+
+import java.time.Instant;
+
+/**
+ * sink 로 전달되는 주문 상태 변경 메시지. eventId 는 outbox id 이며 at-least-once 전송이므로 수신측 중복 제거 키로 사용한다.
+ */
+public record OrderEventMessage(Long eventId,
+                                Long orderId,
+                                Order.OrderStatus previousStatus,
+                                Order.OrderStatus status,
+                                Instant occurredAt) {
+
+    public static OrderEventMessage from(OrderOutboxEvent event) {
+        return new OrderEventMessage(event.getId(), event.getOrderId(),
+                event.getPreviousStatus(), event.getStatus(), event.getOccurredAt());
+    }
+}
@@ -0,0 +1,12 @@
+package com.seowon.coding.outbox;
+
+import java.util.List;
+
+/**
+ * 주문 이벤트 전송 대상 (메시지 브로커, webhook 등).
+ * batch 는 outbox 기록 순서대로 전달된다. 예외를 던지면 batch 전체가 outbox 에 남아 다음 poll 에서 같은 순서로 재시도된다.
+ */
+public interface OrderEventSink {
+
+    void publish(List<OrderEventMessage> batch);
+}
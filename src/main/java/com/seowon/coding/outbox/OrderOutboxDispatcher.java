@@ -0,0 +1,84 @@
+package com.seowon.coding.outbox;
+
+import com.seowon.coding.domain.model.OrderOutboxEvent;
+import com.seowon.coding.domain.repository.OrderOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * outbox 에 쌓인 주문 이벤트를 batch 단위로 sink 에 전송한다.
+ * - 순서: 단일 스레드가 id 순으로 읽고, batch 가 실패하면 통째로 재시도하므로 같은 주문의 이벤트 순서가 유지된다
+ * - 전송 보장: sink 전송 후 같은 트랜잭션에서 삭제하므로 at-least-once (삭제 커밋 전 장애 시 재전송)
+ * - backpressure: sink 가 거부하면 이번 poll 을 중단하고, 밀린 이벤트는 메모리가 아니라 outbox 테이블에 남는다
+ * 여러 인스턴스에서 동시에 돌면 중복 전송될 수 있으므로 전송 인스턴스 외에는 orders.outbox.dispatcher-enabled=false 로 둔다.
+ */
+@Slf4j
+public class OrderOutboxDispatcher {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final OrderEventSink sink;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter dispatched;
+    private final Counter failures;
+
+    public OrderOutboxDispatcher(OrderOutboxRepository orderOutboxRepository,
+                                 OrderEventSink sink,
+                                 OutboxProperties properties,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this.orderOutboxRepository = orderOutboxRepository;
+        this.sink = sink;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dispatched = Counter.builder("orders.outbox.dispatched")
+                .description("Order events delivered to the sink")
+                .register(meterRegistry);
+        this.failures = Counter.builder("orders.outbox.dispatch.failures")
+                .description("Outbox batches rejected by the sink and left for retry")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${orders.outbox.poll-interval-ms:500}")
+    public void poll() {
+        for (int i = 0; i < properties.getMaxBatchesPerPoll(); i++) {
+            int sent;
+            try {
+                sent = dispatchBatch();
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.warn("order event dispatch failed, retrying on next poll: {}", e.getMessage());
+                return;
+            }
+            if (sent < properties.getBatchSize()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * batch 하나를 전송하고 outbox 에서 삭제한다.
+     * @return 전송한 이벤트 수
+     */
+    public int dispatchBatch() {
+        Integer sent = transactionTemplate.execute(status -> {
+            List<OrderOutboxEvent> batch = orderOutboxRepository.findAllByOrderByIdAsc(Limit.of(properties.getBatchSize()));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            sink.publish(batch.stream().map(OrderEventMessage::from).toList());
+            orderOutboxRepository.deleteAllByIdInBatch(batch.stream().map(OrderOutboxEvent::getId).toList());
+            return batch.size();
+        });
+        int count = sent == null ? 0 : sent;
+        dispatched.increment(count);
+        return count;
+    }
+}
@@ -0,0 +1,24 @@
+package com.seowon.coding.outbox;
+
+import com.seowon.coding.domain.model.OrderOutboxEvent;
+import com.seowon.coding.domain.model.OrderStatusChangedEvent;
+import com.seowon.coding.domain.repository.OrderOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Order 의 상태 변경 이벤트를 outbox 테이블에 기록한다.
+ * 동기 리스너라서 주문을 저장한 서비스 트랜잭션 안에서 실행되고, 주문이 롤백되면 outbox 기록도 함께 롤백된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderOutboxRecorder {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+
+    @EventListener
+    public void on(OrderStatusChangedEvent event) {
+        orderOutboxRepository.save(OrderOutboxEvent.from(event));
+    }
+}
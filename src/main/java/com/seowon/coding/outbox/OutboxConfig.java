@@ -0,0 +1,34 @@
+package com.seowon.coding.outbox;
+
+import com.seowon.coding.domain.repository.OrderOutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 주문 이벤트 outbox 전송 구성. 외부 sink 는 OrderEventSink bean 을 등록하면 기본 in-memory sink 를 대체한다.
+ */
+@Configuration
+@EnableScheduling
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(OrderEventSink.class)
+    public InMemoryOrderEventSink inMemoryOrderEventSink(OutboxProperties properties) {
+        return new InMemoryOrderEventSink(properties.getSinkCapacity());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "orders.outbox", name = "dispatcher-enabled", havingValue = "true", matchIfMissing = true)
+    public OrderOutboxDispatcher orderOutboxDispatcher(OrderOutboxRepository orderOutboxRepository,
+                                                       OrderEventSink sink,
+                                                       OutboxProperties properties,
+                                                       PlatformTransactionManager transactionManager,
+                                                       MeterRegistry meterRegistry) {
+        return new OrderOutboxDispatcher(orderOutboxRepository, sink, properties, transactionManager, meterRegistry);
+    }
+}
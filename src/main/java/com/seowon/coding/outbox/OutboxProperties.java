@@ -0,0 +1,27 @@
+package com.seowon.coding.outbox;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 주문 이벤트 outbox 전송 설정 (orders.outbox.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "orders.outbox")
+public class OutboxProperties {
+
+    /** false 면 outbox 기록만 하고 전송하지 않는다 (다른 인스턴스가 전송을 담당할 때) */
+    private boolean dispatcherEnabled = true;
+
+    /** 한 번에 읽어 sink 로 보내는 이벤트 수 */
+    private int batchSize = 500;
+
+    /** poll 한 번에 연속으로 보낼 최대 batch 수. 밀린 이벤트가 많아도 한 번의 poll 이 무한히 길어지지 않게 한다 */
+    private int maxBatchesPerPoll = 20;
+
+    /** poll 간격 (ms) */
+    private long pollIntervalMs = 500;
+
+    /** 기본(in-memory) sink 의 버퍼 크기. 가득 차면 전송이 멈추고 이벤트는 outbox 테이블에 남는다 */
+    private int sinkCapacity = 10000;
+}
@@ -0,0 +1,46 @@
+package com.seowon.coding.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 일괄 상태 변경 (배송 처리 등) 의 chunk 하나를 반영한 구간.
+ */
+@Name("com.seowon.coding.BulkShipChunk")
+@Label("Bulk Ship Chunk")
+@Category({"Coding", "Orders"})
+@Description("One chunk of a bulk order status change")
+@StackTrace(false)
+public class BulkShipChunkEvent extends Event {
+
+    @Label("Job Id")
+    @Description("Processing job id, empty for synchronous requests")
+    String jobId;
+
+    @Label("Status")
+    @Description("Target order status")
+    String status;
+
+    @Label("Chunk Size")
+    @Description("Order ids in the chunk")
+    int size;
+
+    @Label("Updated")
+    @Description("Orders actually changed")
+    int updated;
+
+    public void complete(String jobId, String status, int size, int updated) {
+        end();
+        if (shouldCommit()) {
+            this.jobId = jobId;
+            this.status = status;
+            this.size = size;
+            this.updated = updated;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.seowon.coding.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 주문 접수 (단건 checkout, 일괄 접수) 한 번. 트랜잭션 commit(flush) 시간은 포함하지 않는다.
+ */
+@Name("com.seowon.coding.Checkout")
+@Label("Checkout")
+@Category({"Coding", "Orders"})
+@Description("Order placement inside the service, excluding transaction commit")
+@StackTrace(false)
+public class CheckoutEvent extends Event {
+
+    @Label("Orders")
+    @Description("Orders requested")
+    int orders;
+
+    @Label("Accepted")
+    @Description("Orders accepted and saved")
+    int accepted;
+
+    @Label("Lines")
+    @Description("Order lines of accepted orders")
+    int lines;
+
+    public void complete(int orders, int accepted, int lines) {
+        end();
+        if (shouldCommit()) {
+            this.orders = orders;
+            this.accepted = accepted;
+            this.lines = lines;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.seowon.coding.profiling;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * 요청 시 시작하는 JFR recording 관리.
+ * - 한 번에 하나만 실행하고, 길이는 maxDuration 이하로 제한한다 (지나면 JFR 이 스스로 멈추고 파일을 쓴다)
+ * - JDK 기본 이벤트에 더해 checkout, 권한 확인, 일괄 배송 chunk, repository 호출 이벤트를 켠다
+ * - 최근 retained 개만 파일로 남기고 나머지는 삭제
+ */
+@Slf4j
+public class FlightRecordingManager implements DisposableBean {
+
+    static final Set<String> SETTINGS = Set.of("default", "profile");
+    static final List<Class<? extends Event>> EVENTS = List.of(
+            CheckoutEvent.class,
+            PermissionCheckEvent.class,
+            BulkShipChunkEvent.class,
+            RepositoryCallEvent.class);
+
+    private final ProfilingProperties properties;
+    private final Path directory;
+    private final boolean temporaryDirectory;
+    // 시작 순서 (오래된 것이 앞)
+    private final Deque<Recording> recordings = new ArrayDeque<>();
+
+    public FlightRecordingManager(ProfilingProperties properties) {
+        if (properties.getRetained() < 1) {
+            throw new IllegalArgumentException("profiling.jfr.retained must be positive: " + properties.getRetained());
+        }
+        this.properties = properties;
+        this.temporaryDirectory = properties.getDirectory() == null || properties.getDirectory().isBlank();
+        try {
+            this.directory = temporaryDirectory
+                    ? Files.createTempDirectory("coding-jfr")
+                    : Files.createDirectories(Path.of(properties.getDirectory()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param duration null 이면 defaultDuration
+     * @param settings null 이면 설정의 기본값. default 또는 profile
+     */
+    public synchronized RecordingInfo start(Duration duration, String settings) {
+        Duration length = duration == null ? properties.getDefaultDuration() : duration;
+        if (length.isZero() || length.isNegative() || length.compareTo(properties.getMaxDuration()) > 0) {
+            throw new IllegalArgumentException("duration must be positive and at most " + properties.getMaxDuration()
+                    + ": " + length);
+        }
+        String settingsName = settings == null ? properties.getSettings() : settings;
+        if (!SETTINGS.contains(settingsName)) {
+            throw new IllegalArgumentException("unknown settings: " + settingsName);
+        }
+        if (!FlightRecorder.isAvailable()) {
+            throw new IllegalStateException("flight recorder is not available in this JVM");
+        }
+        for (Recording recording : recordings) {
+            if (recording.getState() == RecordingState.RUNNING) {
+                throw new IllegalStateException("recording already running: " + recording.getId());
+            }
+        }
+
+        Recording recording = new Recording(configuration(settingsName));
+        for (Class<? extends Event> type : EVENTS) {
+            recording.enable(type);
+        }
+        recording.setName("coding-" + recording.getId() + "-" + settingsName);
+        recording.setToDisk(true);
+        recording.setDuration(length);
+        try {
+            recording.setDestination(directory.resolve(recording.getName() + ".jfr"));
+        } catch (IOException e) {
+            recording.close();
+            throw new UncheckedIOException(e);
+        }
+        recording.start();
+        recordings.addLast(recording);
+        log.info("JFR recording {} started for {} ({})", recording.getId(), length, settingsName);
+        evict();
+        return RecordingInfo.from(recording);
+    }
+
+    public synchronized List<RecordingInfo> list() {
+        return recordings.stream().map(RecordingInfo::from).toList();
+    }
+
+    /**
+     * 실행 중인 recording 을 길이가 끝나기 전에 멈춘다. 멈추면 .jfr 파일을 쓰고 CLOSED 가 된다.
+     */
+    public synchronized RecordingInfo stop(long id) {
+        Recording recording = find(id);
+        if (recording.getState() != RecordingState.RUNNING) {
+            throw new IllegalStateException("recording is not running: " + id);
+        }
+        recording.stop();
+        return RecordingInfo.from(recording);
+    }
+
+    /**
+     * 다운로드할 .jfr 파일. 실행 중이면 지금까지의 데이터를 별도 파일로 dump 한다.
+     */
+    public synchronized Path file(long id) {
+        Recording recording = find(id);
+        if (recording.getState() == RecordingState.RUNNING) {
+            Path partial = partialFile(recording);
+            try {
+                Files.deleteIfExists(partial);
+                recording.dump(partial);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return partial;
+        }
+        Path destination = recording.getDestination();
+        if (destination == null || !Files.exists(destination)) {
+            throw new IllegalStateException("recording has no data: " + id);
+        }
+        return destination;
+    }
+
+    @Override
+    public synchronized void destroy() {
+        while (!recordings.isEmpty()) {
+            close(recordings.removeFirst());
+        }
+        if (temporaryDirectory) {
+            try {
+                Files.deleteIfExists(directory);
+            } catch (IOException e) {
+                log.warn("failed to delete JFR directory {}", directory, e);
+            }
+        }
+    }
+
+    private Recording find(long id) {
+        for (Recording recording : recordings) {
+            if (recording.getId() == id) {
+                return recording;
+            }
+        }
+        throw new NoSuchElementException("recording not found: " + id);
+    }
+
+    // 실행 중인 recording 은 지우지 않는다 (한 번에 하나라서 항상 가장 최근 것)
+    private void evict() {
+        while (recordings.size() > properties.getRetained()
+                && recordings.peekFirst().getState() != RecordingState.RUNNING) {
+            close(recordings.removeFirst());
+        }
+    }
+
+    private void close(Recording recording) {
+        Path destination = recording.getDestination();
+        recording.close();
+        try {
+            if (destination != null) {
+                Files.deleteIfExists(destination);
+            }
+            Files.deleteIfExists(partialFile(recording));
+        } catch (IOException e) {
+            log.warn("failed to delete JFR recording {} files", recording.getId(), e);
+        }
+    }
+
+    private Path partialFile(Recording recording) {
+        return directory.resolve(recording.getName() + "-partial.jfr");
+    }
+
+    private static Configuration configuration(String name) {
+        try {
+            return Configuration.getConfiguration(name);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ParseException e) {
+            throw new IllegalStateException("invalid JFR settings: " + name, e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.seowon.coding.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 요청 하나의 정책 인가 확인. 매핑되지 않은 경로나 익명 요청은 action/resource 가 비어 있다.
+ */
+@Name("com.seowon.coding.PermissionCheck")
+@Label("Permission Check")
+@Category({"Coding", "Security"})
+@Description("Policy authorization of one request")
+@StackTrace(false)
+public class PermissionCheckEvent extends Event {
+
+    @Label("Action")
+    String action;
+
+    @Label("Resource")
+    String resource;
+
+    @Label("Granted")
+    boolean granted;
+
+    public void complete(String action, String resource, boolean granted) {
+        end();
+        if (shouldCommit()) {
+            this.action = action;
+            this.resource = resource;
+            this.granted = granted;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.seowon.coding.profiling;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요청 시 JFR recording 을 시작하고 (/api/profiling/recordings), 애플리케이션 이벤트를 기록한다.
+ * 이벤트는 recording 이 실행 중일 때만 켜지므로 평소에는 isEnabled 확인 비용만 든다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "profiling.jfr", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProfilingConfig {
+
+    @Bean
+    public FlightRecordingManager flightRecordingManager(ProfilingProperties properties) {
+        return new FlightRecordingManager(properties);
+    }
+
+    @Bean
+    public RepositoryCallAspect repositoryCallAspect() {
+        return new RepositoryCallAspect();
+    }
+}
@@ -0,0 +1,31 @@
+package com.seowon.coding.profiling;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 요청 시 시작하는 JFR recording 설정 (profiling.jfr.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "profiling.jfr")
+public class ProfilingProperties {
+
+    private boolean enabled = true;
+
+    /** 길이를 지정하지 않은 recording 의 길이 */
+    private Duration defaultDuration = Duration.ofSeconds(60);
+
+    /** 요청할 수 있는 최대 길이. 잊고 켜둔 recording 이 디스크를 계속 쓰지 않도록 제한 */
+    private Duration maxDuration = Duration.ofMinutes(10);
+
+    /** 기본 JFR 설정. default (오버헤드 약 1%) 또는 profile (더 자세하지만 약 2%) */
+    private String settings = "default";
+
+    /** 다운로드할 수 있게 남겨두는 recording 수. 넘으면 오래된 것부터 파일과 함께 삭제 */
+    private int retained = 5;
+
+    /** .jfr 파일 저장 위치. 비어 있으면 임시 디렉토리 */
+    private String directory;
+}
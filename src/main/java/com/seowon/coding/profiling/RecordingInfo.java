@@ -0,0 +1,49 @@
+package com.seowon.coding.profiling;
+
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * recording 상태. destination 이 있는 recording 은 멈추면 파일을 쓰고 바로 CLOSED 가 된다.
+ */
+public record RecordingInfo(
+        long id,
+        String name,
+        String state,
+        Instant startTime,
+        Instant stopTime,
+        Long durationSeconds,
+        long sizeBytes
+) {
+
+    static RecordingInfo from(Recording recording) {
+        Duration duration = recording.getDuration();
+        return new RecordingInfo(
+                recording.getId(),
+                recording.getName(),
+                recording.getState().name(),
+                recording.getStartTime(),
+                recording.getStopTime(),
+                duration == null ? null : duration.toSeconds(),
+                sizeOf(recording));
+    }
+
+    // 닫힌 recording 은 getSize() 가 0 이므로 써진 파일 크기
+    private static long sizeOf(Recording recording) {
+        Path destination = recording.getDestination();
+        if (recording.getState() != RecordingState.CLOSED || destination == null) {
+            return recording.getSize();
+        }
+        try {
+            return Files.exists(destination) ? Files.size(destination) : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
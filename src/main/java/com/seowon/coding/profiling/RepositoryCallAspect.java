@@ -0,0 +1,80 @@
+package com.seowon.coding.profiling;
+
+import com.seowon.coding.monitoring.SqlStatementTracker;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.BaseStream;
+
+/**
+ * repository 호출을 {@link RepositoryCallEvent} 로 기록한다.
+ * JFR recording 이 없으면 이벤트가 꺼져 있으므로 호출만 넘기고 아무것도 계산하지 않는다.
+ */
+@Aspect
+public class RepositoryCallAspect {
+
+    private static final int UNKNOWN = -1;
+
+    // repository proxy class -> repository interface 이름
+    private final Map<Class<?>, String> names = new ConcurrentHashMap<>();
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        SqlStatementTracker.Snapshot start = SqlStatementTracker.snapshot();
+        event.begin();
+        Object result = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } finally {
+            Object[] args = joinPoint.getArgs();
+            event.complete(repositoryName(joinPoint.getThis()),
+                    joinPoint.getSignature().getName(),
+                    args.length == 0 ? UNKNOWN : sizeOf(args[0]),
+                    sizeOf(result),
+                    SqlStatementTracker.snapshot().since(start).statements());
+        }
+    }
+
+    private String repositoryName(Object proxy) {
+        return names.computeIfAbsent(proxy.getClass(), type -> {
+            Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(proxy);
+            return interfaces.length == 0 ? type.getSimpleName() : interfaces[0].getSimpleName();
+        });
+    }
+
+    static int sizeOf(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (value instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (value instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (value instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        // update 건수, count, exists, Stream 등은 행 수로 볼 수 없다
+        if (value instanceof Number || value instanceof Boolean || value instanceof Iterable<?>
+                || value instanceof BaseStream<?, ?>) {
+            return UNKNOWN;
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,49 @@
+package com.seowon.coding.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Spring Data repository 메소드 호출 한 번. 크기를 알 수 없는 값은 -1.
+ */
+@Name("com.seowon.coding.RepositoryCall")
+@Label("Repository Call")
+@Category({"Coding", "Persistence"})
+@Description("One Spring Data repository method call")
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+    @Label("Repository")
+    String repository;
+
+    @Label("Method")
+    String method;
+
+    @Label("Argument Size")
+    @Description("Size of the first collection argument (saveAll, findAllById, in clauses)")
+    int argumentSize;
+
+    @Label("Result Size")
+    @Description("Rows or entities returned")
+    int resultSize;
+
+    @Label("SQL Statements")
+    @Description("Statements executed on this thread during the call")
+    long statements;
+
+    public void complete(String repository, String method, int argumentSize, int resultSize, long statements) {
+        end();
+        if (shouldCommit()) {
+            this.repository = repository;
+            this.method = method;
+            this.argumentSize = argumentSize;
+            this.resultSize = resultSize;
+            this.statements = statements;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.seowon.coding.service;
+
+/**
+ * batch 요청 안의 주문 한 건에 대한 처리 결과. index 는 요청 목록에서의 위치.
+ */
+public record BulkOrderResult(int index, Long orderId, boolean success, String error) {
+
+    public static BulkOrderResult created(int index, Long orderId) {
+        return new BulkOrderResult(index, orderId, true, null);
+    }
+
+    public static BulkOrderResult rejected(int index, String error) {
+        return new BulkOrderResult(index, null, false, error);
+    }
+}
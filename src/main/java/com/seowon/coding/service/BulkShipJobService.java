@@ -0,0 +1,275 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.dto.ProcessingStatusResponse;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.ProcessingChunk;
+import com.seowon.coding.domain.model.ProcessingStatus;
+import com.seowon.coding.domain.repository.ProcessingChunkRepository;
+import com.seowon.coding.domain.repository.ProcessingStatusRepository;
+import com.seowon.coding.profiling.BulkShipChunkEvent;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 여러 노드가 나눠서 처리하는 일괄 배송 작업.
+ * - 등록: 주문 id 를 정렬해서 chunkSize 단위 chunk 로 저장 (ProcessingStatus 1 + ProcessingChunk N)
+ * - claim: 대기 중이고 lease 가 없거나 만료된 chunk 를 조건부 update 로 잡는다. 노드마다 다른 chunk 를 가져가므로 작업이 노드 수만큼 나뉜다
+ * - 처리: chunk 하나 = 트랜잭션 하나 (주문 SHIPPED + chunk DONE + 진행률). lease 를 잃었으면 rollback 해서 같은 chunk 가 두 번 반영되지 않는다
+ * - 장애: 처리 중 죽은 노드의 chunk 는 commit 되지 않았으므로 lease 가 만료되면 다른 노드가 처음부터 다시 처리한다.
+ *   이미 commit 된 chunk 는 DONE 이므로 작업은 마지막으로 commit 된 chunk 다음부터 이어진다
+ * 노드 간 시간은 맞춰져 있다고 가정한다 (lease 만료를 각 노드 시계로 판단).
+ */
+@Slf4j
+@Service
+@Timed("service.method")
+public class BulkShipJobService {
+
+    // claim 할 때 한 번에 보는 후보 수
+    private static final int CLAIM_CANDIDATES = 16;
+
+    private final ProcessingStatusRepository processingStatusRepository;
+    private final ProcessingChunkRepository processingChunkRepository;
+    private final OrderBatchService orderBatchService;
+    private final BulkShipProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId;
+    private final AtomicLong claimSequence = new AtomicLong();
+
+    public BulkShipJobService(ProcessingStatusRepository processingStatusRepository,
+                              ProcessingChunkRepository processingChunkRepository,
+                              OrderBatchService orderBatchService,
+                              BulkShipProperties properties,
+                              PlatformTransactionManager transactionManager) {
+        if (properties.getChunkSize() <= 0 || properties.getChunkSize() > OrderBatchService.MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("orders.bulk-ship.chunk-size must be between 1 and "
+                    + OrderBatchService.MAX_BATCH_SIZE + ": " + properties.getChunkSize());
+        }
+        this.processingStatusRepository = processingStatusRepository;
+        this.processingChunkRepository = processingChunkRepository;
+        this.orderBatchService = orderBatchService;
+        this.properties = properties;
+        // 호출한 쪽에 트랜잭션이 있어도 chunk 마다 따로 commit 한다
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.nodeId = properties.getNodeId() == null || properties.getNodeId().isBlank()
+                ? UUID.randomUUID().toString().substring(0, 8)
+                : properties.getNodeId();
+    }
+
+    /**
+     * lease 를 잡은 chunk. owner 는 claim 마다 새로 만들어지므로 같은 노드의 다른 스레드와도 구분된다.
+     */
+    public record Claim(Long chunkId, String jobId, int chunkNo, String owner, int attempts) {
+    }
+
+    /**
+     * 작업을 등록한다. 같은 jobId 가 이미 있으면 (다른 노드가 먼저 등록한 경우 포함) 새로 만들지 않고 기존 작업을 돌려준다.
+     */
+    public ProcessingStatusResponse submit(String jobId, List<Long> orderIds) {
+        if (jobId == null || jobId.isBlank()) {
+            throw new IllegalArgumentException("jobId required");
+        }
+        if (orderIds == null || orderIds.isEmpty()) {
+            throw new IllegalArgumentException("empty orderIds");
+        }
+        if (orderIds.size() > properties.getMaxOrders()) {
+            throw new IllegalArgumentException("too many orders: " + orderIds.size() + " > " + properties.getMaxOrders());
+        }
+        TreeSet<Long> sorted = new TreeSet<>();
+        for (Long id : orderIds) {
+            if (id == null) {
+                throw new IllegalArgumentException("orderId required");
+            }
+            sorted.add(id);
+        }
+        List<Long> ids = new ArrayList<>(sorted);
+
+        try {
+            return transactionTemplate.execute(status -> processingStatusRepository.findByJobId(jobId)
+                    .map(ProcessingStatusResponse::from)
+                    .orElseGet(() -> create(jobId, ids)));
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 등록한 다른 노드가 먼저 commit
+            return transactionTemplate.execute(status -> processingStatusRepository.findByJobId(jobId)
+                    .map(ProcessingStatusResponse::from)
+                    .orElseThrow(() -> e));
+        }
+    }
+
+    // 정렬된 id 를 나누므로 chunk 하나의 update 는 인접한 주문 행을 id 순서로 잠근다
+    private ProcessingStatusResponse create(String jobId, List<Long> ids) {
+        ProcessingStatus job = ProcessingStatus.builder().jobId(jobId).build();
+        job.markRunning(ids.size());
+        processingStatusRepository.saveAndFlush(job);
+
+        int chunkSize = properties.getChunkSize();
+        List<ProcessingChunk> chunks = new ArrayList<>(ids.size() / chunkSize + 1);
+        for (int from = 0, chunkNo = 0; from < ids.size(); from += chunkSize, chunkNo++) {
+            chunks.add(ProcessingChunk.pending(jobId, chunkNo, ids.subList(from, Math.min(from + chunkSize, ids.size()))));
+        }
+        processingChunkRepository.saveAll(chunks);
+        log.info("bulk ship job {} submitted: {} orders in {} chunks", jobId, ids.size(), chunks.size());
+        return ProcessingStatusResponse.from(job);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ProcessingStatusResponse> getStatus(String jobId) {
+        return processingStatusRepository.findByJobId(jobId).map(ProcessingStatusResponse::from);
+    }
+
+    /**
+     * 이 작업의 chunk 를 더 가져갈 것이 없을 때까지 처리한다. 다른 노드가 lease 를 잡고 있는 chunk 가 남아 있으면
+     * 작업이 끝나기 전에 돌아올 수 있다 (그 chunk 는 해당 노드가 끝내거나, lease 만료 후 누군가 다시 가져간다).
+     * @return 이 노드가 처리한 chunk 수
+     */
+    public int runJob(String jobId) {
+        int processed = 0;
+        Optional<Claim> claim;
+        while ((claim = claimNext(jobId)).isPresent()) {
+            if (process(claim.get())) {
+                processed++;
+            }
+        }
+        return processed;
+    }
+
+    /**
+     * 어느 작업이든 가져갈 수 있는 chunk 를 최대 maxChunks 개 처리한다.
+     * @return 가져간 chunk 수. maxChunks 보다 작으면 지금은 남은 chunk 가 없다
+     */
+    public int runAvailable(int maxChunks) {
+        int claimed = 0;
+        Optional<Claim> claim;
+        while (claimed < maxChunks && (claim = claimNext(null)).isPresent()) {
+            claimed++;
+            process(claim.get());
+        }
+        return claimed;
+    }
+
+    /**
+     * chunk 하나의 lease 를 잡는다 (짧은 트랜잭션으로 바로 commit 해서 다른 노드에 보이게 한다).
+     * @param jobId null 이면 모든 작업
+     */
+    public Optional<Claim> claimNext(String jobId) {
+        return Optional.ofNullable(transactionTemplate.execute(status -> {
+            while (true) {
+                LocalDateTime now = LocalDateTime.now();
+                List<Long> candidates = jobId == null
+                        ? processingChunkRepository.findClaimableIds(ProcessingChunk.Status.PENDING, now,
+                                Limit.of(CLAIM_CANDIDATES))
+                        : processingChunkRepository.findClaimableIdsByJobId(jobId, ProcessingChunk.Status.PENDING, now,
+                                Limit.of(CLAIM_CANDIDATES));
+                if (candidates.isEmpty()) {
+                    return null;
+                }
+                // 노드들이 같은 순서로 시도하면 첫 후보에서 계속 부딪히므로 섞는다
+                List<Long> shuffled = new ArrayList<>(candidates);
+                Collections.shuffle(shuffled);
+                String owner = nodeId + ":" + claimSequence.incrementAndGet();
+                LocalDateTime expiresAt = now.plus(properties.getLeaseTtl());
+                for (Long id : shuffled) {
+                    if (processingChunkRepository.claim(id, owner, ProcessingChunk.Status.PENDING, now, expiresAt) == 1) {
+                        ProcessingChunk chunk = processingChunkRepository.findById(id).orElseThrow();
+                        processingStatusRepository.heartbeat(chunk.getJobId(), now);
+                        return new Claim(id, chunk.getJobId(), chunk.getChunkNo(), owner, chunk.getAttempts());
+                    }
+                }
+                // 후보를 모두 다른 노드가 먼저 잡았다. 다시 조회
+            }
+        }));
+    }
+
+    /**
+     * chunk 하나를 한 트랜잭션에서 처리한다: 주문 상태를 SHIPPED 로 (전이할 수 없는 주문은 rejected) + chunk DONE + 작업 진행률.
+     * 실패하면 lease 를 바로 풀어서 재시도하게 하고, maxAttempts 번째 실패면 chunk 를 FAILED 로 둔다.
+     * @return chunk 를 끝냈으면 true
+     */
+    public boolean process(Claim claim) {
+        BulkShipChunkEvent event = new BulkShipChunkEvent();
+        event.begin();
+        try {
+            BulkStatusChangeResult result = transactionTemplate.execute(status -> {
+                List<Long> orderIds = processingChunkRepository.findOrderIds(claim.chunkId());
+                BulkStatusChangeResult changed = orderBatchService.changeStatuses(orderIds, Order.OrderStatus.SHIPPED);
+                LocalDateTime now = LocalDateTime.now();
+                if (processingChunkRepository.complete(claim.chunkId(), claim.owner(), ProcessingChunk.Status.PENDING,
+                        ProcessingChunk.Status.DONE, now) == 0) {
+                    throw new LeaseLostException(claim);
+                }
+                processingStatusRepository.addProgress(claim.jobId(), changed.requested(), changed.rejectedIds().size(), now);
+                finishIfDone(claim.jobId(), now);
+                return changed;
+            });
+            event.complete(claim.jobId(), Order.OrderStatus.SHIPPED.name(), result.requested(), result.updated());
+            return true;
+        } catch (LeaseLostException e) {
+            log.warn("bulk ship job {} chunk {}: lease expired before commit, rolled back", claim.jobId(), claim.chunkNo());
+            return false;
+        } catch (RuntimeException e) {
+            log.warn("bulk ship job {} chunk {} failed (attempt {}): {}", claim.jobId(), claim.chunkNo(), claim.attempts(),
+                    e.getMessage());
+            fail(claim);
+            return false;
+        }
+    }
+
+    private void fail(Claim claim) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (claim.attempts() < properties.getMaxAttempts()) {
+                    processingChunkRepository.release(claim.chunkId(), claim.owner());
+                    return;
+                }
+                LocalDateTime now = LocalDateTime.now();
+                if (processingChunkRepository.complete(claim.chunkId(), claim.owner(), ProcessingChunk.Status.PENDING,
+                        ProcessingChunk.Status.FAILED, now) == 1) {
+                    processingStatusRepository.heartbeat(claim.jobId(), now);
+                    finishIfDone(claim.jobId(), now);
+                }
+            });
+        } catch (RuntimeException e) {
+            // lease 는 만료되면 풀린다
+            log.warn("bulk ship job {} chunk {}: failed to release lease: {}", claim.jobId(), claim.chunkNo(), e.getMessage());
+        }
+    }
+
+    /**
+     * 작업 행을 update 해서 lock 을 잡은 뒤에 호출해야 한다. 마지막 chunk 들을 여러 노드가 동시에 끝내도
+     * lock 순서대로 세므로 마지막으로 commit 하는 노드가 남은 chunk 0 을 보고 작업을 끝낸다.
+     */
+    private void finishIfDone(String jobId, LocalDateTime now) {
+        if (processingChunkRepository.countByJobIdAndStatus(jobId, ProcessingChunk.Status.PENDING) > 0) {
+            return;
+        }
+        ProcessingStatus.Status result =
+                processingChunkRepository.countByJobIdAndStatus(jobId, ProcessingChunk.Status.FAILED) > 0
+                        ? ProcessingStatus.Status.FAILED
+                        : ProcessingStatus.Status.COMPLETED;
+        if (processingStatusRepository.finish(jobId, ProcessingStatus.Status.RUNNING, result, now) == 1) {
+            log.info("bulk ship job {} {}", jobId, result);
+        }
+    }
+
+    private static final class LeaseLostException extends RuntimeException {
+        LeaseLostException(Claim claim) {
+            super("lease lost: " + claim.owner());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.seowon.coding.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 일괄 배송 작업 설정 (orders.bulk-ship.*). 여러 노드가 같은 DB 의 chunk 를 lease 로 나눠 처리한다.
+ */
+@Data
+@ConfigurationProperties(prefix = "orders.bulk-ship")
+public class BulkShipProperties {
+
+    /** false 면 이 노드는 작업을 등록만 하고 chunk 를 가져가지 않는다 */
+    private boolean workerEnabled = true;
+
+    /** lease 소유자 표시. 비어 있으면 기동 시 생성 (노드마다 달라야 한다) */
+    private String nodeId;
+
+    /** chunk 하나의 주문 수. chunk 하나가 트랜잭션 하나다 */
+    private int chunkSize = 500;
+
+    /** chunk 처리에 허용하는 시간. 이 시간 안에 끝내지 못하면 (노드 장애 등) 다른 노드가 가져간다 */
+    private Duration leaseTtl = Duration.ofSeconds(30);
+
+    private long pollIntervalMs = 1000;
+
+    /** poll 한 번에 처리하는 최대 chunk 수 */
+    private int maxChunksPerPoll = 20;
+
+    /** 이 횟수만큼 실패한 chunk 는 FAILED 로 두고 더 시도하지 않는다 */
+    private int maxAttempts = 3;
+
+    /** 작업 하나에 넣을 수 있는 주문 수 */
+    private int maxOrders = 100_000;
+}
@@ -0,0 +1,29 @@
+package com.seowon.coding.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드마다 주기적으로 일괄 배송 chunk 를 가져가 처리한다. 노드를 늘리면 같은 작업을 더 많은 노드가 나눠 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "orders.bulk-ship", name = "worker-enabled", havingValue = "true", matchIfMissing = true)
+public class BulkShipWorker {
+
+    private final BulkShipJobService bulkShipJobService;
+    private final BulkShipProperties properties;
+
+    @Scheduled(fixedDelayString = "${orders.bulk-ship.poll-interval-ms:1000}")
+    public void poll() {
+        try {
+            bulkShipJobService.runAvailable(properties.getMaxChunksPerPoll());
+        } catch (RuntimeException e) {
+            log.warn("bulk ship poll failed, retrying on next poll: {}", e.getMessage());
+        }
+    }
+}
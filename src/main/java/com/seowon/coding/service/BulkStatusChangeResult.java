@@ -0,0 +1,11 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.model.Order;
+
+import java.util.List;
+
+/**
+ * 일괄 상태 변경 결과. rejectedIds 는 존재하지 않거나 현재 상태에서 status 로 전이할 수 없는 주문 (요청 순서 유지).
+ */
+public record BulkStatusChangeResult(Order.OrderStatus status, int requested, int updated, List<Long> rejectedIds) {
+}
@@ -0,0 +1,59 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.dto.CustomerOrderHistory;
+import com.seowon.coding.domain.dto.CustomerOrderSummaryResponse;
+import com.seowon.coding.domain.dto.OrderHistoryItem;
+import com.seowon.coding.domain.repository.CustomerOrderSummaryRepository;
+import com.seowon.coding.domain.repository.OrderRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 고객별 주문 요약/이력 조회. 요약은 미리 집계된 테이블에서, 이력은 (customer_email, order_date) 인덱스로 페이지 단위 조회한다.
+ */
+@Service
+@Timed("service.method")
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CustomerOrderService {
+
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private final CustomerOrderSummaryRepository customerOrderSummaryRepository;
+    private final OrderRepository orderRepository;
+
+    public Optional<CustomerOrderSummaryResponse> getSummary(String email) {
+        if (email == null || email.isBlank()) {
+            throw new IllegalArgumentException("email required");
+        }
+        return customerOrderSummaryRepository.findResponseByEmail(email);
+    }
+
+    public CustomerOrderHistory getHistory(String email, int page, int size) {
+        if (email == null || email.isBlank()) {
+            throw new IllegalArgumentException("email required");
+        }
+        if (page < 0 || size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("invalid page: page=" + page + ", size=" + size);
+        }
+        Slice<OrderHistoryItem> slice = orderRepository.findHistoryByCustomerEmail(email, PageRequest.of(page, size));
+        return new CustomerOrderHistory(email, page, size, slice.hasNext(), slice.getContent());
+    }
+
+    /**
+     * 요약 테이블을 orders 와 order_archive 로부터 다시 만든다. JPA 를 거치지 않고 적재한 데이터가 있을 때 사용한다.
+     * @return 요약된 고객 수
+     */
+    @Transactional
+    public int rebuildSummaries() {
+        customerOrderSummaryRepository.deleteAllSummaries();
+        return customerOrderSummaryRepository.insertFromOrders(
+                CustomerOrderSummaryRecorder.COUNTED.stream().map(Enum::name).toList());
+    }
+}
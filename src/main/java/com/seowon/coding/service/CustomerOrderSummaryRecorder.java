@@ -0,0 +1,126 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.dto.OrderStatusView;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.OrderStatusChangedEvent;
+import com.seowon.coding.domain.repository.CustomerOrderSummaryRepository;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.util.TransactionScopedBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 주문 상태 변경을 고객별 요약(customer_order_summary)에 증분 반영한다.
+ * 트랜잭션 안에서는 고객별 delta 를 모아 두었다가 commit 직전에 고객당 merge 한 번으로 반영하므로,
+ * 같은 고객의 주문 수천 건을 한 번에 접수해도 요약 update 는 한 번이다. 롤백되면 반영되지 않는다.
+ * 상태 변경 없이 고객 email/금액이 바뀌거나 주문이 삭제되면 {@link #snapshot} 으로 읽어 둔 저장 값 기준으로
+ * 이전 기여분을 옮기거나 뺀다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CustomerOrderSummaryRecorder {
+
+    /** 요약에 집계되는 (접수된) 주문 상태 */
+    public static final Set<Order.OrderStatus> COUNTED = EnumSet.of(
+            Order.OrderStatus.PROCESSING, Order.OrderStatus.SHIPPED, Order.OrderStatus.DELIVERED);
+
+    private final CustomerOrderSummaryRepository customerOrderSummaryRepository;
+    private final OrderRepository orderRepository;
+    private final TransactionScopedBuffer<Map<String, Delta>> pendingDeltas =
+            new TransactionScopedBuffer<>(TransactionScopedBuffer.Phase.BEFORE_COMMIT, HashMap::new,
+                    deltas -> deltas.forEach(this::apply));
+
+    @EventListener
+    public void on(OrderStatusChangedEvent event) {
+        Order order = event.order();
+        record(order.getCustomerEmail(), order.getTotalAmount(), order.getOrderDate(),
+                event.previousStatus(), event.status());
+    }
+
+    public void record(String email,
+                       BigDecimal amount,
+                       LocalDateTime orderDate,
+                       Order.OrderStatus previous,
+                       Order.OrderStatus next) {
+        int count = weight(next) - weight(previous);
+        if (count > 0) {
+            add(email, amount, orderDate);
+        } else if (count < 0) {
+            subtract(email, amount);
+        }
+    }
+
+    /**
+     * 요약 계산에 쓰인 주문 값 (DB 에 저장된 값). 주문을 수정/삭제하기 전에 읽어 둔다.
+     */
+    public Optional<OrderStatusView> snapshot(Long orderId) {
+        return orderRepository.findStatusViewById(orderId);
+    }
+
+    /**
+     * 같은 상태에서 email, 금액 등이 바뀐 주문의 기여분을 이전 값에서 새 값으로 옮긴다.
+     */
+    public void moved(OrderStatusView before, OrderStatusView after) {
+        if (weight(before.status()) == 1) {
+            subtract(before.customerEmail(), before.totalAmount());
+        }
+        if (weight(after.status()) == 1) {
+            add(after.customerEmail(), after.totalAmount(), after.orderDate());
+        }
+    }
+
+    public void removed(OrderStatusView before) {
+        if (weight(before.status()) == 1) {
+            subtract(before.customerEmail(), before.totalAmount());
+        }
+    }
+
+    private void add(String email, BigDecimal amount, LocalDateTime orderDate) {
+        merge(email, new Delta(1, amount == null ? BigDecimal.ZERO : amount, orderDate));
+    }
+
+    private void subtract(String email, BigDecimal amount) {
+        merge(email, new Delta(-1, amount == null ? BigDecimal.ZERO : amount.negate(), null));
+    }
+
+    private void merge(String email, Delta delta) {
+        if (email == null) {
+            return;
+        }
+        Map<String, Delta> pending = pendingDeltas.current();
+        if (pending == null) {
+            apply(email, delta);
+        } else {
+            pending.merge(email, delta, Delta::plus);
+        }
+    }
+
+    private static int weight(Order.OrderStatus status) {
+        return status != null && COUNTED.contains(status) ? 1 : 0;
+    }
+
+    private void apply(String email, Delta delta) {
+        if (delta.count() != 0 || delta.spend().signum() != 0) {
+            customerOrderSummaryRepository.applyDelta(email, delta.count(), delta.spend(), delta.lastOrderDate());
+        }
+    }
+
+    private record Delta(long count, BigDecimal spend, LocalDateTime lastOrderDate) {
+
+        Delta plus(Delta other) {
+            LocalDateTime last = lastOrderDate == null
+                    || (other.lastOrderDate != null && other.lastOrderDate.isAfter(lastOrderDate))
+                    ? other.lastOrderDate : lastOrderDate;
+            return new Delta(count + other.count, spend.add(other.spend), last);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.dto.OrderResponse;
+import com.seowon.coding.domain.model.IdempotencyKey;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.repository.IdempotencyKeyRepository;
+import com.seowon.coding.domain.repository.OrderItemRepository;
+import com.seowon.coding.domain.repository.OrderRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 기반 주문 생성 중복 제거
+ * - 최근 key 는 메모리 LRU 에 처음 생성한 주문의 응답(불변 OrderResponse)을 보관해서, 재시도는 DB 를 조회하지 않고
+ *   최초 응답을 그대로 돌려준다. 엔티티는 트랜잭션 밖에 두지 않는다.
+ * - 처음 보는 key 는 주문 생성과 같은 트랜잭션에서 key row 를 insert 한다 (사전 select 없음).
+ * - 다른 요청(다른 노드, LRU 에서 밀려난 key)이 먼저 같은 key 를 기록했다면 unique 제약 위반으로 롤백되고,
+ *   기록된 주문을 조회해서 돌려준다. 이 조회는 읽기 전용 트랜잭션이 아니므로 replica 지연 없이 primary 에서 읽는다.
+ */
+@Service
+@Timed("service.method")
+public class IdempotencyService {
+
+    public static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, OrderResponse> recent;
+
+    public IdempotencyService(IdempotencyKeyRepository idempotencyKeyRepository,
+                              OrderRepository orderRepository,
+                              OrderItemRepository orderItemRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${orders.idempotency.cache-size:10000}") int cacheSize) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.orderRepository = orderRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.recent = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, OrderResponse> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * key 로 이미 생성된 주문이 있으면 그 주문의 응답을, 없으면 creator 를 실행해서 생성한 주문을 반환한다.
+     * key 가 null 이면 중복 제거 없이 creator 를 그대로 실행한다.
+     */
+    public OrderResponse execute(String key, Supplier<Order> creator) {
+        if (key == null) {
+            return OrderResponse.from(creator.get());
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("invalid Idempotency-Key");
+        }
+
+        OrderResponse cached = cached(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        OrderResponse order;
+        try {
+            order = transactionTemplate.execute(status -> {
+                Order created = creator.get();
+                idempotencyKeyRepository.saveAndFlush(IdempotencyKey.builder()
+                        .requestKey(key)
+                        .orderId(created.getId())
+                        .createdAt(LocalDateTime.now())
+                        .build());
+                // items 는 지연 로딩이므로 트랜잭션 안에서 응답으로 변환
+                return OrderResponse.from(created);
+            });
+        } catch (DataIntegrityViolationException e) {
+            IdempotencyKey stored = idempotencyKeyRepository.findByRequestKey(key)
+                    .orElseThrow(() -> new IllegalStateException("Idempotency-Key conflict: " + key));
+            order = load(stored.getOrderId());
+        }
+        remember(key, order);
+        return order;
+    }
+
+    private OrderResponse load(Long orderId) {
+        return transactionTemplate.execute(status -> orderRepository.findResponseById(orderId)
+                .map(order -> order.withItems(orderItemRepository.findResponsesByOrderId(orderId)))
+                .orElseThrow(() -> new IllegalStateException("Order not found with id: " + orderId)));
+    }
+
+    private synchronized OrderResponse cached(String key) {
+        return recent.get(key);
+    }
+
+    private synchronized void remember(String key, OrderResponse order) {
+        recent.put(key, order);
+    }
+}
@@ -0,0 +1,34 @@
+package com.seowon.coding.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주기적으로 보관 대상 주문을 batch 단위로 옮긴다. batch 마다 트랜잭션을 나눠서 lock 을 오래 잡지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "orders.archive", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OrderArchiveJob {
+
+    private final OrderArchiveService orderArchiveService;
+    private final OrderArchiveProperties properties;
+
+    @Scheduled(cron = "${orders.archive.cron:0 30 3 * * *}")
+    public void run() {
+        long start = System.nanoTime();
+        int total = 0;
+        int moved;
+        do {
+            moved = orderArchiveService.archiveBatch();
+            total += moved;
+        } while (moved >= properties.getBatchSize());
+        if (total > 0) {
+            log.info("archived {} orders in {} ms", total, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.seowon.coding.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 주문 보관(archive) 설정 (orders.archive.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "orders.archive")
+public class OrderArchiveProperties {
+
+    /** false 면 보관 작업을 스케줄하지 않는다 (조회 routing 은 그대로 동작) */
+    private boolean enabled = true;
+
+    /** 주문일 기준 이 기간이 지난 DELIVERED/CANCELLED 주문을 보관 테이블로 옮긴다 */
+    private Duration retention = Duration.ofDays(90);
+
+    /** 트랜잭션 하나에서 옮기는 주문 수 */
+    private int batchSize = 1000;
+
+    /** 보관 작업 실행 주기 (cron) */
+    private String cron = "0 30 3 * * *";
+}
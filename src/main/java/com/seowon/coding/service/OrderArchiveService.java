@@ -0,0 +1,87 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.dto.OrderResponse;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.repository.IdempotencyKeyRepository;
+import com.seowon.coding.domain.repository.OrderArchiveRepository;
+import com.seowon.coding.domain.repository.OrderItemRepository;
+import com.seowon.coding.domain.repository.OrderRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 오래된 종료 주문을 보관 테이블로 옮기고, 기간 조회를 hot(orders) / archive(order_archive) 로 나눠 보낸다.
+ * - hot 테이블에는 최근 주문과 진행 중인 주문만 남으므로 상태/기간 조회가 작은 인덱스만 읽는다
+ * - archive 에는 (now - retention) 이전 주문만 있으므로 시작일이 그 이후인 조회는 archive 를 읽지 않는다
+ * 보관된 주문은 단건/고객 이력 조회에서는 보이지 않고, 고객 요약(건수/금액)에는 계속 반영되어 있다 (요약 재계산도 archive 포함).
+ * 보관된 주문의 Idempotency-Key 는 함께 지운다. 보관 기간은 재시도 기간보다 훨씬 길어서 그 key 는 새 요청으로 취급한다.
+ */
+@Service
+@Timed("service.method")
+@RequiredArgsConstructor
+@Transactional
+public class OrderArchiveService {
+
+    static final Set<Order.OrderStatus> ARCHIVABLE = EnumSet.of(Order.OrderStatus.DELIVERED, Order.OrderStatus.CANCELLED);
+
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final OrderArchiveProperties properties;
+
+    /**
+     * 보관 대상 주문을 batch 하나만큼 옮긴다 (복사 후 hot 에서 삭제, 한 트랜잭션).
+     * @return 옮긴 주문 수. batchSize 보다 작으면 남은 대상이 없다
+     */
+    public int archiveBatch() {
+        List<Long> ids = orderRepository.findArchivableIds(ARCHIVABLE, cutoff(), Limit.of(properties.getBatchSize()));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        orderArchiveRepository.copyOrders(ids);
+        orderArchiveRepository.copyItems(ids);
+        // 없는 주문을 가리키는 key 가 남으면 재시도가 404 가 된다
+        idempotencyKeyRepository.deleteByOrderIdIn(ids);
+        orderItemRepository.deleteByOrderIdIn(ids);
+        return orderRepository.deleteByIdIn(ids);
+    }
+
+    /**
+     * 주문일이 [start, end] 인 주문 헤더 (주문일, id 순).
+     */
+    @Transactional(readOnly = true)
+    public List<OrderResponse> findOrdersBetween(LocalDateTime start, LocalDateTime end) {
+        if (start == null || end == null || start.isAfter(end)) {
+            throw new IllegalArgumentException("invalid range: " + start + " ~ " + end);
+        }
+        // 보관 작업이 아직 돌지 않았거나 진행 중인 오래된 주문이 있을 수 있으므로 hot 은 항상 조회한다 (order_date 인덱스 범위 스캔)
+        List<OrderResponse> hot = orderRepository.findResponsesByOrderDateBetween(start, end);
+        if (!start.isBefore(cutoff())) {
+            return hot;
+        }
+        List<OrderResponse> archived = orderArchiveRepository.findResponsesByOrderDateBetween(start, end);
+        if (archived.isEmpty()) {
+            return hot;
+        }
+        List<OrderResponse> merged = new ArrayList<>(hot.size() + archived.size());
+        merged.addAll(archived);
+        merged.addAll(hot);
+        merged.sort(Comparator.comparing(OrderResponse::orderDate).thenComparing(OrderResponse::id));
+        return merged;
+    }
+
+    LocalDateTime cutoff() {
+        return LocalDateTime.now().minus(properties.getRetention());
+    }
+}
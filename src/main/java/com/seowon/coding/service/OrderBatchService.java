@@ -0,0 +1,231 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.dto.OrderStatusView;
+import com.seowon.coding.domain.model.BulkOrderReq;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.OrderItem;
+import com.seowon.coding.domain.model.OrderOutboxEvent;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.OrderOutboxRepository;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.profiling.BulkShipChunkEvent;
+import com.seowon.coding.profiling.CheckoutEvent;
+import com.seowon.coding.service.pricing.PriceQuote;
+import com.seowon.coding.service.pricing.PricingEngine;
+import com.seowon.coding.service.pricing.PricingLine;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 여러 주문을 한 트랜잭션에서 접수한다.
+ * - 참조된 상품은 id 순서로 한 번에 lock + 조회
+ * - 주문 단위로 검증하고, 실패한 주문은 재고를 건드리지 않고 결과에만 기록
+ * - 성공한 주문은 마지막에 saveAll 로 모아서 JDBC batch insert
+ * 일괄 상태 변경은 엔티티 없이 (id, status) projection 으로 검증하고 update 한 번으로 반영한다.
+ */
+@Service
+@Timed("service.method")
+@RequiredArgsConstructor
+@Transactional
+public class OrderBatchService {
+
+    public static final int MAX_BATCH_SIZE = 5_000;
+    // in 절 하나에 넣는 id 수
+    private static final int IN_CLAUSE_SIZE = 1_000;
+
+    private final OrderRepository orderRepository;
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final CustomerOrderSummaryRecorder customerOrderSummaryRecorder;
+    private final ProductRepository productRepository;
+    private final PricingEngine pricingEngine;
+    private final OrderMetrics orderMetrics;
+
+    public List<BulkOrderResult> placeOrders(List<BulkOrderReq> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("empty orders");
+        }
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("too many orders: " + requests.size() + " > " + MAX_BATCH_SIZE);
+        }
+        CheckoutEvent event = new CheckoutEvent();
+        event.begin();
+
+        Map<Long, Product> products = lockProducts(requests);
+        LocalDateTime now = LocalDateTime.now();
+
+        BulkOrderResult[] results = new BulkOrderResult[requests.size()];
+        List<Order> accepted = new ArrayList<>(requests.size());
+        List<Integer> acceptedIndexes = new ArrayList<>(requests.size());
+        int lines = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            BulkOrderReq req = requests.get(i);
+            try {
+                accepted.add(reserve(req, products, now));
+                acceptedIndexes.add(i);
+                lines += req.getProducts().size();
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                results[i] = BulkOrderResult.rejected(i, e.getMessage());
+            }
+        }
+
+        List<Order> saved = orderRepository.saveAll(accepted);
+        for (int i = 0; i < saved.size(); i++) {
+            int index = acceptedIndexes.get(i);
+            results[index] = BulkOrderResult.created(index, saved.get(i).getId());
+        }
+        event.complete(requests.size(), saved.size(), lines);
+        return List.of(results);
+    }
+
+    /**
+     * 주문들의 상태를 target 으로 바꾼다.
+     * chunk 단위로 row lock 을 잡고 현재 상태를 projection 으로 읽어 전이 표로 검증한 뒤, 통과한 주문만 update 로 반영한다.
+     * 엔티티를 거치지 않으므로 상태 변경은 여기서 직접 outbox 와 고객 요약에 기록한다.
+     */
+    public BulkStatusChangeResult changeStatuses(List<Long> orderIds, Order.OrderStatus target) {
+        if (target == null) {
+            throw new IllegalArgumentException("status required");
+        }
+        if (orderIds == null || orderIds.isEmpty()) {
+            throw new IllegalArgumentException("empty orderIds");
+        }
+        if (orderIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("too many orders: " + orderIds.size() + " > " + MAX_BATCH_SIZE);
+        }
+
+        List<Long> requested = new ArrayList<>(new LinkedHashSet<>(orderIds));
+        Set<Order.OrderStatus> sources = Order.OrderStatus.sourcesOf(target);
+        List<Long> rejected = new ArrayList<>();
+        List<OrderOutboxEvent> events = new ArrayList<>(requested.size());
+        Instant now = Instant.now();
+        for (List<Long> chunk : chunks(requested)) {
+            BulkShipChunkEvent event = new BulkShipChunkEvent();
+            event.begin();
+            // row lock 을 잡은 뒤 읽어야 update 까지 상태가 바뀌지 않아 outbox/요약에 실제 이전 상태가 남는다
+            orderRepository.lockByIdIn(chunk);
+            Map<Long, OrderStatusView> current = new HashMap<>(chunk.size() * 2);
+            for (OrderStatusView view : orderRepository.findStatusesByIdIn(chunk)) {
+                current.put(view.id(), view);
+            }
+
+            List<OrderStatusView> accepted = new ArrayList<>(chunk.size());
+            for (Long id : chunk) {
+                OrderStatusView view = current.get(id);
+                if (view != null && view.status() != null && view.status().canTransitionTo(target)) {
+                    accepted.add(view);
+                } else {
+                    rejected.add(id);
+                }
+            }
+            int chunkUpdated = accepted.isEmpty() ? 0
+                    : orderRepository.updateStatus(accepted.stream().map(OrderStatusView::id).toList(), sources, target);
+            event.complete(null, target.name(), chunk.size(), chunkUpdated);
+            if (chunkUpdated != accepted.size()) {
+                throw new IllegalStateException("status changed while locked: expected " + accepted.size() + ", updated " + chunkUpdated);
+            }
+
+            for (OrderStatusView view : accepted) {
+                events.add(OrderOutboxEvent.builder()
+                        .orderId(view.id())
+                        .previousStatus(view.status())
+                        .status(target)
+                        .occurredAt(now)
+                        .build());
+                customerOrderSummaryRecorder.record(view.customerEmail(), view.totalAmount(), view.orderDate(),
+                        view.status(), target);
+            }
+        }
+        orderOutboxRepository.saveAll(events);
+        return new BulkStatusChangeResult(target, requested.size(), events.size(), rejected);
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>(ids.size() / IN_CLAUSE_SIZE + 1);
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + IN_CLAUSE_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+
+    private Map<Long, Product> lockProducts(List<BulkOrderReq> requests) {
+        TreeSet<Long> productIds = new TreeSet<>();
+        for (BulkOrderReq req : requests) {
+            if (req != null && req.getProducts() != null) {
+                for (OrderProduct line : req.getProducts()) {
+                    if (line != null && line.getProductId() != null) {
+                        productIds.add(line.getProductId());
+                    }
+                }
+            }
+        }
+        Map<Long, Product> products = new HashMap<>(productIds.size() * 2);
+        if (!productIds.isEmpty()) {
+            for (Product product : productRepository.findAllByIdInForUpdate(productIds)) {
+                products.put(product.getId(), product);
+            }
+        }
+        return products;
+    }
+
+    /**
+     * 주문 한 건을 검증하고 재고를 차감한다. 검증은 재고 차감 전에 모두 끝내므로 예외가 나면 재고는 그대로다.
+     */
+    private Order reserve(BulkOrderReq req, Map<Long, Product> products, LocalDateTime now) {
+        if (req == null || req.getCustomerName() == null || req.getCustomerEmail() == null) {
+            throw new IllegalArgumentException("customer info required");
+        }
+        if (req.getProducts() == null || req.getProducts().isEmpty()) {
+            throw new IllegalArgumentException("orderReqs invalid");
+        }
+
+        Map<Long, Integer> required = new LinkedHashMap<>();
+        for (OrderProduct line : req.getProducts()) {
+            if (line == null || line.getProductId() == null) {
+                throw new IllegalArgumentException("productId required");
+            }
+            if (line.getQuantity() == null || line.getQuantity() <= 0) {
+                throw new IllegalArgumentException("quantity must be positive: " + line.getQuantity());
+            }
+            if (!products.containsKey(line.getProductId())) {
+                throw new IllegalArgumentException("Product not found: " + line.getProductId());
+            }
+            required.merge(line.getProductId(), line.getQuantity(), Integer::sum);
+        }
+        required.forEach((pid, qty) -> {
+            if (products.get(pid).getStockQuantity() < qty) {
+                orderMetrics.stockOutRejected();
+                throw new IllegalStateException("insufficient stock for product " + pid);
+            }
+        });
+
+        Order order = Order.create(req.getCustomerName(), req.getCustomerEmail(), now, req.getProducts().size());
+
+        List<PricingLine> lines = new ArrayList<>(req.getProducts().size());
+        for (OrderProduct line : req.getProducts()) {
+            Product product = products.get(line.getProductId());
+            order.getItems().add(OrderItem.create(order, product, line.getQuantity()));
+            product.decreaseStock(line.getQuantity());
+            lines.add(new PricingLine(product.getId(), product.getPrice(), line.getQuantity()));
+        }
+
+        PriceQuote quote = pricingEngine.quote(lines, req.getCouponCode());
+        orderMetrics.couponApplied(quote.appliedCoupon());
+        order.setTotalAmount(quote.total());
+        order.markAsProcessing();
+        return order;
+    }
+}
@@ -0,0 +1,46 @@
+package com.seowon.coding.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 주문 처리 비즈니스 카운터. 카운터는 미리/한 번만 등록하고 재사용해서 hot path 에서 registry 조회를 하지 않는다.
+ */
+@Component
+public class OrderMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Counter stockOutRejections;
+    // coupon 태그 값은 설정된 쿠폰 code 이므로 cardinality 가 제한된다
+    private final Map<String, Counter> couponUses = new ConcurrentHashMap<>();
+
+    public OrderMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.stockOutRejections = Counter.builder("orders.stock_out.rejections")
+                .description("Order lines rejected because of insufficient stock")
+                .register(meterRegistry);
+    }
+
+    public void stockOutRejected() {
+        stockOutRejections.increment();
+    }
+
+    public void couponApplied(String coupon) {
+        if (coupon == null) {
+            return;
+        }
+        // 이미 등록된 쿠폰은 get 으로 끝낸다 (computeIfAbsent 의 람다는 this 를 캡처해서 호출마다 할당된다)
+        Counter counter = couponUses.get(coupon);
+        if (counter == null) {
+            counter = couponUses.computeIfAbsent(coupon, code -> Counter.builder("orders.coupon.uses")
+                    .description("Orders that received a coupon discount")
+                    .tag("coupon", code)
+                    .register(meterRegistry));
+        }
+        counter.increment();
+    }
+}
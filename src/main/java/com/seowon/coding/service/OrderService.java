@@ -1,31 +1,46 @@
 package com.seowon.coding.service;
 
+import com.seowon.coding.domain.dto.OrderItemResponse;
+import com.seowon.coding.domain.dto.OrderResponse;
+import com.seowon.coding.domain.dto.OrderStatusView;
 import com.seowon.coding.domain.model.Order;
 import com.seowon.coding.domain.model.OrderItem;
-import com.seowon.coding.domain.model.ProcessingStatus;
+import com.seowon.coding.domain.model.OrderPatchReq;
 import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.OrderItemRepository;
 import com.seowon.coding.domain.repository.OrderRepository;
-import com.seowon.coding.domain.repository.ProcessingStatusRepository;
 import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.profiling.CheckoutEvent;
+import com.seowon.coding.service.pricing.PriceQuote;
+import com.seowon.coding.service.pricing.PricingEngine;
+import com.seowon.coding.service.pricing.PricingLine;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
+@Timed("service.method")
 @RequiredArgsConstructor
 @Transactional
 public class OrderService {
     
     private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
     private final ProductRepository productRepository;
-    private final ProcessingStatusRepository processingStatusRepository;
+    private final BulkShipJobService bulkShipJobService;
+    private final PricingEngine pricingEngine;
+    private final OrderMetrics orderMetrics;
+    private final CustomerOrderSummaryRecorder customerOrderSummaryRecorder;
     
     @Transactional(readOnly = true)
     public List<Order> getAllOrders() {
@@ -36,20 +51,79 @@ public class OrderService {
     public Optional<Order> getOrderById(Long id) {
         return orderRepository.findById(id);
     }
+
+    /**
+     * 주문 헤더와 라인을 각각 projection 한 번씩으로 조회 (엔티티/지연로딩 없음)
+     */
+    @Transactional(readOnly = true)
+    public List<OrderResponse> getAllOrderResponses() {
+        List<OrderResponse> orders = orderRepository.findAllResponses();
+        Map<Long, List<OrderItemResponse>> itemsByOrder = orderItemRepository.findAllResponses().stream()
+                .collect(Collectors.groupingBy(OrderItemResponse::orderId));
+        List<OrderResponse> result = new ArrayList<>(orders.size());
+        for (OrderResponse order : orders) {
+            result.add(order.withItems(itemsByOrder.getOrDefault(order.id(), List.of())));
+        }
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<OrderResponse> getOrderResponseById(Long id) {
+        return orderRepository.findResponseById(id)
+                .map(order -> order.withItems(orderItemRepository.findResponsesByOrderId(id)));
+    }
     
 
-    public Order updateOrder(Long id, Order order) {
-        if (!orderRepository.existsById(id)) {
+    /**
+     * 요청에 있는 필드만 update 한 번으로 반영하고, 갱신된 row 수로 존재 여부를 판단한다.
+     * updateOrder 와 달리 items 를 merge 하지 않으므로 주문 항목이 지워지지 않는다.
+     * email 이 바뀌면 고객 요약의 기여분도 옮긴다 (변경 전후 저장 값을 projection 으로 읽음).
+     */
+    public OrderResponse patchOrder(Long id, OrderPatchReq patch) {
+        if (patch == null || patch.isEmpty()) {
+            throw new IllegalArgumentException("nothing to update");
+        }
+        OrderStatusView before = customerOrderSummaryRecorder.snapshot(id)
+                .orElseThrow(() -> new RuntimeException("Order not found with id: " + id));
+        if (orderRepository.patch(id, patch) == 0) {
             throw new RuntimeException("Order not found with id: " + id);
         }
-        order.setId(id);
-        return orderRepository.save(order);
+        customerOrderSummaryRecorder.snapshot(id)
+                .ifPresent(after -> customerOrderSummaryRecorder.moved(before, after));
+        return getOrderResponseById(id)
+                .orElseThrow(() -> new RuntimeException("Order not found with id: " + id));
     }
     
-    public void deleteOrder(Long id) {
-        if (!orderRepository.existsById(id)) {
-            throw new RuntimeException("Order not found with id: " + id);
+    /**
+     * 저장된 주문에 요청 값을 옮겨 담는다. 항목은 요청에 있을 때만 교체하고,
+     * 상태는 전이 표를 통해서만 바꾼다 (요청에 상태가 없으면 현재 상태 유지).
+     */
+    public Order updateOrder(Long id, Order order) {
+        OrderStatusView before = customerOrderSummaryRecorder.snapshot(id)
+                .orElseThrow(() -> new RuntimeException("Order not found with id: " + id));
+        Order existing = orderRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Order not found with id: " + id));
+        existing.setCustomerName(order.getCustomerName());
+        existing.setCustomerEmail(order.getCustomerEmail());
+        existing.setOrderDate(order.getOrderDate());
+        if (order.getItems() != null && !order.getItems().isEmpty()) {
+            existing.replaceItems(order.getItems());
+        }
+        existing.setTotalAmount(order.getTotalAmount());
+        // 이전 상태 기준으로 기여분을 새 값으로 옮긴 뒤, 상태 변경분은 이벤트로 반영된다
+        customerOrderSummaryRecorder.moved(before, new OrderStatusView(id, existing.getStatus(),
+                existing.getCustomerEmail(), existing.getTotalAmount(), existing.getOrderDate()));
+        Order.OrderStatus requested = order.getStatus();
+        if (requested != null && requested != existing.getStatus()) {
+            existing.transitionTo(requested);
         }
+        return orderRepository.save(existing);
+    }
+    
+    public void deleteOrder(Long id) {
+        OrderStatusView before = customerOrderSummaryRecorder.snapshot(id)
+                .orElseThrow(() -> new RuntimeException("Order not found with id: " + id));
+        customerOrderSummaryRecorder.removed(before);
         orderRepository.deleteById(id);
     }
 
@@ -66,7 +140,7 @@ public class OrderService {
         order.setOrderDate(LocalDateTime.now());
 
         // * order 의 상태를 PENDING 으로 변경
-        order.setStatus(Order.OrderStatus.PENDING);
+        order.transitionTo(Order.OrderStatus.PENDING);
 
         // * 지정된 Product를 주문에 추가
         for(int i = 0; i < productIds.size(); i++){
@@ -93,6 +167,8 @@ public class OrderService {
                                String customerEmail,
                                List<OrderProduct> orderProducts,
                                String couponCode) {
+        CheckoutEvent event = new CheckoutEvent();
+        event.begin();
         if (customerName == null || customerEmail == null) {
             throw new IllegalArgumentException("customer info required");
         }
@@ -100,48 +176,80 @@ public class OrderService {
             throw new IllegalArgumentException("orderReqs invalid");
         }
 
-        Order order = Order.builder()
-                .customerName(customerName)
-                .customerEmail(customerEmail)
-                .status(Order.OrderStatus.PENDING)
-                .orderDate(LocalDateTime.now())
-                .items(new ArrayList<>())
-                .totalAmount(BigDecimal.ZERO)
-                .build();
+        Map<Long, Product> products = findProducts(orderProducts);
+        Order order = Order.create(customerName, customerEmail, LocalDateTime.now(), orderProducts.size());
 
-
-        BigDecimal subtotal = BigDecimal.ZERO;
+        List<PricingLine> lines = new ArrayList<>(orderProducts.size());
         for (OrderProduct req : orderProducts) {
             Long pid = req.getProductId();
-            int qty = req.getQuantity();
+            Integer qty = req.getQuantity();
 
-            Product product = productRepository.findById(pid)
-                    .orElseThrow(() -> new IllegalArgumentException("Product not found: " + pid));
-            if (qty <= 0) {
+            Product product = products.get(pid);
+            if (product == null) {
+                throw new IllegalArgumentException("Product not found: " + pid);
+            }
+            if (qty == null || qty <= 0) {
                 throw new IllegalArgumentException("quantity must be positive: " + qty);
             }
             if (product.getStockQuantity() < qty) {
+                orderMetrics.stockOutRejected();
                 throw new IllegalStateException("insufficient stock for product " + pid);
             }
 
-            OrderItem item = OrderItem.builder()
-                    .order(order)
-                    .product(product)
-                    .quantity(qty)
-                    .price(product.getPrice())
-                    .build();
-            order.getItems().add(item);
-
+            order.getItems().add(OrderItem.create(order, product, qty));
             product.decreaseStock(qty);
-            subtotal = subtotal.add(product.getPrice().multiply(BigDecimal.valueOf(qty)));
+            lines.add(new PricingLine(pid, product.getPrice(), qty));
         }
 
-        BigDecimal shipping = subtotal.compareTo(new BigDecimal("100.00")) >= 0 ? BigDecimal.ZERO : new BigDecimal("5.00");
-        BigDecimal discount = (couponCode != null && couponCode.startsWith("SALE")) ? new BigDecimal("10.00") : BigDecimal.ZERO;
+        PriceQuote quote = pricingEngine.quote(lines, couponCode);
+        orderMetrics.couponApplied(quote.appliedCoupon());
+        order.setTotalAmount(quote.total());
+        order.markAsProcessing();
+        Order saved = orderRepository.save(order);
+        event.complete(1, 1, orderProducts.size());
+        return saved;
+    }
 
-        order.setTotalAmount(subtotal.add(shipping).subtract(discount));
-        order.setStatus(Order.OrderStatus.PROCESSING);
-        return orderRepository.save(order);
+    /**
+     * checkoutOrder 와 같은 가격 파이프라인으로 견적만 계산한다. 재고 차감이나 저장은 하지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public PriceQuote quoteOrder(List<OrderProduct> orderProducts, String couponCode) {
+        if (orderProducts == null || orderProducts.isEmpty()) {
+            throw new IllegalArgumentException("orderReqs invalid");
+        }
+        Map<Long, Product> products = findProducts(orderProducts);
+
+        List<PricingLine> lines = new ArrayList<>(orderProducts.size());
+        for (OrderProduct req : orderProducts) {
+            Product product = products.get(req.getProductId());
+            if (product == null) {
+                throw new IllegalArgumentException("Product not found: " + req.getProductId());
+            }
+            if (req.getQuantity() == null || req.getQuantity() <= 0) {
+                throw new IllegalArgumentException("quantity must be positive: " + req.getQuantity());
+            }
+            lines.add(new PricingLine(product.getId(), product.getPrice(), req.getQuantity()));
+        }
+        return pricingEngine.quote(lines, couponCode);
+    }
+
+    /**
+     * 주문 라인의 상품을 쿼리 한 번으로 조회한다 (라인마다 findById 하지 않음).
+     */
+    private Map<Long, Product> findProducts(List<OrderProduct> orderProducts) {
+        List<Long> ids = new ArrayList<>(orderProducts.size());
+        for (OrderProduct req : orderProducts) {
+            if (req == null || req.getProductId() == null) {
+                throw new IllegalArgumentException("productId required");
+            }
+            ids.add(req.getProductId());
+        }
+        Map<Long, Product> products = new HashMap<>(ids.size() * 2);
+        for (Product product : productRepository.findAllById(ids)) {
+            products.put(product.getId(), product);
+        }
+        return products;
     }
 
     /**
@@ -149,35 +257,16 @@ public class OrderService {
      * - 시나리오: 일괄 배송 처리 중 진행률을 저장하여 다른 사용자가 조회 가능해야 함.
      * - 리뷰 포인트: proxy 및 transaction 분리, 예외 전파/롤백 범위, 가독성 등
      * - 상식적인 수준에서 요구사항(기획)을 가정하며 최대한 상세히 작성하세요.
+     *
+     * 작업을 등록하고 이 노드에서 가져갈 수 있는 chunk 를 처리한다 ({@link BulkShipJobService}).
+     * - 바깥 트랜잭션 없이 chunk 마다 commit 하므로 진행률은 chunk 단위로 바로 조회된다
+     * - 진행률을 같은 클래스의 REQUIRES_NEW 메소드로 저장하던 방식은 self-invocation 이라 proxy 를 거치지 않아 분리되지 않았다
+     * - 다른 노드도 같은 작업의 chunk 를 lease 로 나눠 가져가며, 다른 노드가 처리 중인 chunk 가 있으면 끝나기 전에 돌아온다
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void bulkShipOrdersParent(String jobId, List<Long> orderIds) {
-        ProcessingStatus ps = processingStatusRepository.findByJobId(jobId)
-                .orElseGet(() -> processingStatusRepository.save(ProcessingStatus.builder().jobId(jobId).build()));
-        ps.markRunning(orderIds == null ? 0 : orderIds.size());
-        processingStatusRepository.save(ps);
-
-        int processed = 0;
-        for (Long orderId : (orderIds == null ? List.<Long>of() : orderIds)) {
-            try {
-                // 오래 걸리는 작업 이라는 가정 시뮬레이션 (예: 외부 시스템 연동, 대용량 계산 등)
-                orderRepository.findById(orderId).ifPresent(o -> o.setStatus(Order.OrderStatus.PROCESSING));
-                // 중간 진행률 저장
-                this.updateProgressRequiresNew(jobId, ++processed, orderIds.size());
-            } catch (Exception e) {
-            }
-        }
-        ps = processingStatusRepository.findByJobId(jobId).orElse(ps);
-        ps.markCompleted();
-        processingStatusRepository.save(ps);
-    }
-
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void updateProgressRequiresNew(String jobId, int processed, int total) {
-        ProcessingStatus ps = processingStatusRepository.findByJobId(jobId)
-                .orElseGet(() -> ProcessingStatus.builder().jobId(jobId).build());
-        ps.updateProgress(processed, total);
-        processingStatusRepository.save(ps);
+        bulkShipJobService.submit(jobId, orderIds);
+        bulkShipJobService.runJob(jobId);
     }
 
 }
\ No newline at end of file
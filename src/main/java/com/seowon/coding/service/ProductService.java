@@ -1,7 +1,13 @@
 package com.seowon.coding.service;
 
+import com.seowon.coding.domain.dto.ProductResponse;
 import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.model.ProductPatchReq;
 import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.inventory.CategoryAggregateStore;
+import com.seowon.coding.inventory.StockRiskMonitor;
+import com.seowon.coding.util.ETags;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,11 +18,14 @@ import java.util.List;
 import java.util.Optional;
 
 @Service
+@Timed("service.method")
 @RequiredArgsConstructor
 @Transactional
 public class ProductService {
     
     private final ProductRepository productRepository;
+    private final StockRiskMonitor stockRiskMonitor;
+    private final CategoryAggregateStore categoryAggregateStore;
     
     @Transactional(readOnly = true)
     public List<Product> getAllProducts() {
@@ -28,10 +37,67 @@ public class ProductService {
         return productRepository.findById(id);
     }
     
+    @Transactional(readOnly = true)
+    public List<ProductResponse> getAllProductResponses() {
+        return productRepository.findAllResponses();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ProductResponse> getProductResponseById(Long id) {
+        return productRepository.findResponseById(id);
+    }
+
+    /**
+     * 엔티티를 읽지 않고 lastModified 컬럼만 조회해서 ETag 계산
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> getProductETag(Long id) {
+        return productRepository.findLastModifiedById(id)
+                .map(lastModified -> ETags.of("product", id, lastModified));
+    }
+
+    @Transactional(readOnly = true)
+    public String getCatalogETag() {
+        return productRepository.findCatalogVersion().eTag();
+    }
+
     public Product createProduct(Product product) {
         return productRepository.save(product);
     }
     
+    /**
+     * 요청에 있는 필드만 update 한 번으로 반영하고, 갱신된 row 수로 존재 여부를 판단한다.
+     */
+    public ProductResponse patchProduct(Long id, ProductPatchReq patch) {
+        if (patch == null || patch.isEmpty()) {
+            throw new IllegalArgumentException("nothing to update");
+        }
+        if (patch.getName() != null && patch.getName().isBlank()) {
+            throw new IllegalArgumentException("Product name is required");
+        }
+        if (patch.getPrice() != null && patch.getPrice().signum() <= 0) {
+            throw new IllegalArgumentException("Price must be positive");
+        }
+        if (patch.getStockQuantity() != null && patch.getStockQuantity() < 0) {
+            throw new IllegalArgumentException("stockQuantity must not be negative");
+        }
+        if (patch.getReorderThreshold() != null && patch.getReorderThreshold() < 0) {
+            throw new IllegalArgumentException("reorderThreshold must not be negative");
+        }
+        if (productRepository.patch(id, patch) == 0) {
+            throw new RuntimeException("Product not found with id: " + id);
+        }
+        // bulk update 는 엔티티 listener 를 거치지 않으므로 재고 위험 인덱스와 카테고리 집계를 직접 갱신
+        if (patch.getStockQuantity() != null || patch.getReorderThreshold() != null || patch.getName() != null) {
+            stockRiskMonitor.refresh(List.of(id));
+        }
+        if (patch.getCategory() != null || patch.getPrice() != null || patch.getStockQuantity() != null) {
+            categoryAggregateStore.refresh(List.of(id));
+        }
+        return productRepository.findResponseById(id)
+                .orElseThrow(() -> new RuntimeException("Product not found with id: " + id));
+    }
+    
     public Product updateProduct(Long id, Product product) {
         if (!productRepository.existsById(id)) {
             throw new RuntimeException("Product not found with id: " + id);
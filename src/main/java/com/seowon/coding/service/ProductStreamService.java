@@ -0,0 +1,54 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.dto.ProductResponse;
+import com.seowon.coding.domain.repository.ProductRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * 상품 목록을 keyset 페이지 단위로 읽어 Flux 로 흘려보낸다.
+ * - 다음 페이지는 구독자가 요청(demand)할 때만 조회하고 미리 읽는 페이지는 최대 1개 (backpressure)
+ * - 페이지마다 짧은 read-only 트랜잭션으로 조회하므로 느린 클라이언트가 DB 커넥션을 붙잡지 않는다
+ * - 블로킹 JDBC 호출은 boundedElastic 에서 실행되어 요청 스레드를 점유하지 않는다
+ */
+@Service
+public class ProductStreamService {
+
+    public static final int MAX_PAGE_SIZE = 1_000;
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ProductStreamService(ProductRepository productRepository, PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public Flux<ProductResponse> streamProducts(int pageSize) {
+        if (pageSize <= 0 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("invalid pageSize: " + pageSize);
+        }
+        return Flux.<List<ProductResponse>, Long>generate(() -> 0L, (afterId, sink) -> {
+                    List<ProductResponse> page = readOnlyTransaction.execute(
+                            status -> productRepository.findResponsesAfter(afterId, Limit.of(pageSize)));
+                    if (page == null || page.isEmpty()) {
+                        sink.complete();
+                        return afterId;
+                    }
+                    sink.next(page);
+                    if (page.size() < pageSize) {
+                        sink.complete();
+                    }
+                    return page.get(page.size() - 1).id();
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapIterable(page -> page, 1);
+    }
+}
@@ -0,0 +1,15 @@
+package com.seowon.coding.service;
+
+/**
+ * 재고 조정 한 줄의 처리 결과. index 는 요청 목록에서의 위치, stockQuantity 는 해당 batch 반영 후 재고.
+ */
+public record StockAdjustmentResult(int index, Long productId, boolean applied, Integer stockQuantity, String error) {
+
+    public static StockAdjustmentResult applied(int index, Long productId, int stockQuantity) {
+        return new StockAdjustmentResult(index, productId, true, stockQuantity, null);
+    }
+
+    public static StockAdjustmentResult rejected(int index, Long productId, Integer stockQuantity, String error) {
+        return new StockAdjustmentResult(index, productId, false, stockQuantity, error);
+    }
+}
@@ -0,0 +1,132 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.dto.StockLevel;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.model.StockAdjustmentReq;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.inventory.CategoryAggregateStore;
+import com.seowon.coding.inventory.StockRiskMonitor;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 창고 동기화처럼 대량으로 들어오는 재고 증감을 엔티티 로딩 없이 반영한다.
+ * - "stock_quantity = stock_quantity + delta" 상대 update 를 BATCH_SIZE 줄씩 JDBC batch 로 실행
+ * - 재고가 음수가 되는 줄은 where 조건으로 걸러져 update 되지 않고 결과에 거절로 기록
+ * - batch 하나가 한 트랜잭션이다. batch 실행이 실패하면 그 batch 의 줄은 모두 반영되지 않고, 앞서 commit 된 batch 는 유지된다
+ * - 같은 batch 안에서는 id 순서로 update 해서 동시에 들어온 조정끼리 deadlock 이 나지 않도록 한다 (같은 상품의 줄은 요청 순서 유지)
+ */
+@Slf4j
+@Service
+@Timed("service.method")
+public class StockAdjustmentService {
+
+    public static final int MAX_ADJUSTMENTS = 10_000;
+    static final int BATCH_SIZE = 500;
+
+    private static final String ADJUST_SQL = "update product set stock_quantity = stock_quantity + ?, last_modified = ? " +
+            "where id = ? and stock_quantity + ? >= 0";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductRepository productRepository;
+    private final StockRiskMonitor stockRiskMonitor;
+    private final CategoryAggregateStore categoryAggregateStore;
+    private final TransactionTemplate transactionTemplate;
+
+    public StockAdjustmentService(JdbcTemplate jdbcTemplate,
+                                  ProductRepository productRepository,
+                                  StockRiskMonitor stockRiskMonitor,
+                                  CategoryAggregateStore categoryAggregateStore,
+                                  PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.productRepository = productRepository;
+        this.stockRiskMonitor = stockRiskMonitor;
+        this.categoryAggregateStore = categoryAggregateStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public List<StockAdjustmentResult> adjustStock(List<StockAdjustmentReq> adjustments) {
+        if (adjustments == null || adjustments.isEmpty()) {
+            throw new IllegalArgumentException("empty adjustments");
+        }
+        if (adjustments.size() > MAX_ADJUSTMENTS) {
+            throw new IllegalArgumentException("too many adjustments: " + adjustments.size() + " > " + MAX_ADJUSTMENTS);
+        }
+        for (StockAdjustmentReq adjustment : adjustments) {
+            if (adjustment == null || adjustment.getProductId() == null) {
+                throw new IllegalArgumentException("productId required");
+            }
+            if (adjustment.getDelta() == null || adjustment.getDelta() == 0) {
+                throw new IllegalArgumentException("delta must not be zero: " + adjustment.getDelta());
+            }
+        }
+
+        StockAdjustmentResult[] results = new StockAdjustmentResult[adjustments.size()];
+        for (int from = 0; from < adjustments.size(); from += BATCH_SIZE) {
+            int to = Math.min(adjustments.size(), from + BATCH_SIZE);
+            List<Integer> batch = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                batch.add(i);
+            }
+            // stable sort 이므로 같은 상품의 줄은 요청 순서대로 적용된다
+            batch.sort(Comparator.comparing(i -> adjustments.get(i).getProductId()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> applyBatch(adjustments, batch, results));
+            } catch (DataAccessException | TransactionException e) {
+                log.warn("Stock adjustment batch [{}, {}) rolled back", from, to, e);
+                for (int index : batch) {
+                    results[index] = StockAdjustmentResult.rejected(index, adjustments.get(index).getProductId(), null,
+                            "batch failed, not applied");
+                }
+            }
+        }
+        return List.of(results);
+    }
+
+    private void applyBatch(List<StockAdjustmentReq> adjustments, List<Integer> batch, StockAdjustmentResult[] results) {
+        Timestamp now = Timestamp.from(Product.currentTimestamp());
+        List<Object[]> args = new ArrayList<>(batch.size());
+        for (int index : batch) {
+            StockAdjustmentReq adjustment = adjustments.get(index);
+            args.add(new Object[]{adjustment.getDelta(), now, adjustment.getProductId(), adjustment.getDelta()});
+        }
+        int[] counts = jdbcTemplate.batchUpdate(ADJUST_SQL, args);
+
+        // 반영 후 재고를 한 번에 읽어서 결과와 재고 위험 인덱스, 카테고리 집계에 사용 (JDBC update 는 엔티티 listener 를 거치지 않음)
+        Map<Long, StockLevel> levels = productRepository.findStockLevelsByIdIn(
+                        batch.stream().map(i -> adjustments.get(i).getProductId()).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(StockLevel::productId, Function.identity()));
+        for (int k = 0; k < batch.size(); k++) {
+            int index = batch.get(k);
+            Long productId = adjustments.get(index).getProductId();
+            StockLevel level = levels.get(productId);
+            if (level == null) {
+                results[index] = StockAdjustmentResult.rejected(index, productId, null, "Product not found: " + productId);
+            } else if (counts[k] == 0) {
+                results[index] = StockAdjustmentResult.rejected(index, productId, level.stockQuantity(),
+                        "insufficient stock for product " + productId);
+            } else {
+                results[index] = StockAdjustmentResult.applied(index, productId, level.stockQuantity());
+            }
+        }
+        for (StockLevel level : levels.values()) {
+            stockRiskMonitor.record(level);
+            categoryAggregateStore.recordStock(level.productId(), level.stockQuantity(), level.lastModified());
+        }
+    }
+}
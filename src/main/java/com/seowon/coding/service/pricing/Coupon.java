@@ -0,0 +1,31 @@
+package com.seowon.coding.service.pricing;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public record Coupon(String code, Type type, BigDecimal value, BigDecimal minSubtotal) {
+
+    public enum Type {
+        FIXED, PERCENT
+    }
+
+    public Coupon {
+        if (type == Type.PERCENT) {
+            // 계산 시마다 나누지 않도록 비율로 미리 변환
+            value = value.movePointLeft(2);
+        }
+    }
+
+    /**
+     * subtotal 에 대한 할인 금액, 할인은 subtotal 을 넘지 않는다.
+     */
+    public BigDecimal discountFor(BigDecimal subtotal) {
+        if (minSubtotal != null && subtotal.compareTo(minSubtotal) < 0) {
+            return BigDecimal.ZERO;
+        }
+        BigDecimal discount = type == Type.FIXED
+                ? value
+                : subtotal.multiply(value).setScale(2, RoundingMode.HALF_UP);
+        return discount.min(subtotal);
+    }
+}
@@ -0,0 +1,59 @@
+package com.seowon.coding.service.pricing;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 쿠폰 코드 해시 인덱스.
+ * 정확히 일치하는 코드를 먼저 찾고, 없으면 등록된 prefix 길이별로 잘라서 조회한다.
+ * 조회 비용은 쿠폰 수가 아니라 서로 다른 prefix 길이 수에 비례한다.
+ */
+class CouponTable {
+
+    private final Map<String, Coupon> exact = new HashMap<>();
+    private final Map<String, Coupon> byPrefix = new HashMap<>();
+    private final int[] prefixLengths;
+
+    CouponTable(List<PricingProperties.CouponSpec> specs) {
+        TreeSet<Integer> lengths = new TreeSet<>();
+        for (PricingProperties.CouponSpec spec : specs) {
+            if (spec.getCode() == null || spec.getCode().isEmpty() || spec.getValue() == null) {
+                throw new IllegalArgumentException("invalid coupon: " + spec);
+            }
+            Coupon coupon = new Coupon(spec.getCode(), spec.getType(), spec.getValue(), spec.getMinSubtotal());
+            if (spec.isPrefix()) {
+                byPrefix.put(spec.getCode(), coupon);
+                lengths.add(spec.getCode().length());
+            } else {
+                exact.put(spec.getCode(), coupon);
+            }
+        }
+        // 긴 prefix 가 더 구체적인 쿠폰이므로 먼저 확인
+        this.prefixLengths = lengths.descendingSet().stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    Coupon find(String code) {
+        if (code == null || code.isEmpty()) {
+            return null;
+        }
+        Coupon coupon = exact.get(code);
+        if (coupon != null) {
+            return coupon;
+        }
+        for (int length : prefixLengths) {
+            if (length <= code.length()) {
+                coupon = byPrefix.get(code.substring(0, length));
+                if (coupon != null) {
+                    return coupon;
+                }
+            }
+        }
+        return null;
+    }
+
+    int size() {
+        return exact.size() + byPrefix.size();
+    }
+}
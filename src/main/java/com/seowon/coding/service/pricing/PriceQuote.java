@@ -0,0 +1,11 @@
+package com.seowon.coding.service.pricing;
+
+import java.math.BigDecimal;
+
+public record PriceQuote(BigDecimal subtotal,
+                         BigDecimal shipping,
+                         BigDecimal discount,
+                         BigDecimal tax,
+                         BigDecimal total,
+                         String appliedCoupon) {
+}
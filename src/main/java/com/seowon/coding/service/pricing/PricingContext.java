@@ -0,0 +1,40 @@
+package com.seowon.coding.service.pricing;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 하나의 quote 계산 동안 stage 들이 공유하는 상태
+ */
+@Getter
+@Setter
+public class PricingContext {
+
+    private final List<PricingLine> lines;
+    private final String couponCode;
+
+    private BigDecimal subtotal = BigDecimal.ZERO;
+    private BigDecimal shipping = BigDecimal.ZERO;
+    private BigDecimal discount = BigDecimal.ZERO;
+    private BigDecimal tax = BigDecimal.ZERO;
+    /** 적용된 쿠폰의 설정상 code (요청 code 가 아님, prefix 쿠폰이면 prefix) */
+    private String appliedCoupon;
+
+    public PricingContext(List<PricingLine> lines, String couponCode) {
+        this.lines = lines;
+        this.couponCode = couponCode;
+    }
+
+    public PriceQuote toQuote() {
+        BigDecimal total = plus(plus(plus(subtotal, shipping), tax), discount.negate());
+        return new PriceQuote(subtotal, shipping, discount, tax, total, appliedCoupon);
+    }
+
+    // 0 을 더하는 경우(무료 배송, 할인/세금 없음)는 새 BigDecimal 을 만들지 않는다. scale 이 커지는 경우만 실제로 더한다
+    private static BigDecimal plus(BigDecimal augend, BigDecimal addend) {
+        return addend.signum() == 0 && addend.scale() <= augend.scale() ? augend : augend.add(addend);
+    }
+}
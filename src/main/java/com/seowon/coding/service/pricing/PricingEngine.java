@@ -0,0 +1,81 @@
+package com.seowon.coding.service.pricing;
+
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * checkout 가격 계산 파이프라인: SUBTOTAL -> SHIPPING -> COUPON -> TAX
+ * 설정값은 생성 시점에 한 번만 파싱되어 rule 배열로 고정되며, quote 는 상태를 공유하지 않으므로 thread-safe 하다.
+ */
+@Component
+public class PricingEngine {
+
+    private final PricingRule[] rules;
+    private final CouponTable couponTable;
+
+    public PricingEngine(PricingProperties properties) {
+        this.couponTable = new CouponTable(properties.getCoupons());
+
+        List<PricingRule> compiled = new ArrayList<>(4);
+        compiled.add(PricingEngine::subtotal);
+        compiled.add(shipping(properties.getFreeShippingThreshold(), properties.getShippingFee()));
+        if (couponTable.size() > 0) {
+            compiled.add(this::coupon);
+        }
+        if (properties.getTaxRate() != null && properties.getTaxRate().signum() > 0) {
+            compiled.add(tax(properties.getTaxRate()));
+        }
+        this.rules = compiled.toArray(PricingRule[]::new);
+    }
+
+    public PriceQuote quote(List<PricingLine> lines, String couponCode) {
+        PricingContext context = new PricingContext(lines, couponCode);
+        for (PricingRule rule : rules) {
+            rule.apply(context);
+        }
+        return context.toQuote();
+    }
+
+    private static void subtotal(PricingContext context) {
+        BigDecimal subtotal = null;
+        for (PricingLine line : context.getLines()) {
+            // 수량 1 은 곱하지 않고, 첫 라인은 ZERO 에 더하지 않아서 BigDecimal 할당을 줄인다
+            BigDecimal amount = line.quantity() == 1
+                    ? line.unitPrice()
+                    : line.unitPrice().multiply(BigDecimal.valueOf(line.quantity()));
+            subtotal = subtotal == null ? amount : subtotal.add(amount);
+        }
+        context.setSubtotal(subtotal == null ? BigDecimal.ZERO : subtotal);
+    }
+
+    private static PricingRule shipping(BigDecimal freeShippingThreshold, BigDecimal shippingFee) {
+        BigDecimal fee = shippingFee == null ? BigDecimal.ZERO : shippingFee;
+        if (freeShippingThreshold == null) {
+            return context -> context.setShipping(fee);
+        }
+        return context -> context.setShipping(
+                context.getSubtotal().compareTo(freeShippingThreshold) >= 0 ? BigDecimal.ZERO : fee);
+    }
+
+    private void coupon(PricingContext context) {
+        Coupon coupon = couponTable.find(context.getCouponCode());
+        if (coupon != null) {
+            BigDecimal discount = coupon.discountFor(context.getSubtotal());
+            if (discount.signum() > 0) {
+                context.setDiscount(discount);
+                context.setAppliedCoupon(coupon.code());
+            }
+        }
+    }
+
+    private static PricingRule tax(BigDecimal taxRate) {
+        return context -> context.setTax(context.getSubtotal()
+                .subtract(context.getDiscount())
+                .multiply(taxRate)
+                .setScale(2, RoundingMode.HALF_UP));
+    }
+}
@@ -0,0 +1,9 @@
+package com.seowon.coding.service.pricing;
+
+import java.math.BigDecimal;
+
+/**
+ * 가격 계산용 주문 라인 (entity 와 분리하여 quote 시 persistence 에 의존하지 않도록 함)
+ */
+public record PricingLine(Long productId, BigDecimal unitPrice, int quantity) {
+}
@@ -0,0 +1,41 @@
+package com.seowon.coding.service.pricing;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * checkout 가격 정책 설정 (application.yaml 의 pricing.*)
+ * 기동 시 한 번만 읽어서 {@link PricingEngine} 의 rule 로 컴파일된다.
+ */
+@Data
+@ConfigurationProperties(prefix = "pricing")
+public class PricingProperties {
+
+    /** 이 금액 이상이면 배송비 무료, null 이면 항상 배송비 부과 */
+    private BigDecimal freeShippingThreshold = new BigDecimal("100.00");
+
+    private BigDecimal shippingFee = new BigDecimal("5.00");
+
+    /** (subtotal - discount) 에 적용할 세율, 0 이면 tax stage 를 생략 */
+    private BigDecimal taxRate = BigDecimal.ZERO;
+
+    private List<CouponSpec> coupons = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CouponSpec {
+        private String code;
+        /** true 면 code 로 시작하는 모든 쿠폰에 적용 (예: SALE, SALE2025 ...) */
+        private boolean prefix;
+        private Coupon.Type type = Coupon.Type.FIXED;
+        private BigDecimal value;
+        private BigDecimal minSubtotal;
+    }
+}
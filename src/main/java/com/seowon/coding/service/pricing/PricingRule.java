@@ -0,0 +1,10 @@
+package com.seowon.coding.service.pricing;
+
+/**
+ * 가격 계산 stage. {@link PricingEngine} 이 정해진 순서대로 실행한다.
+ */
+@FunctionalInterface
+public interface PricingRule {
+
+    void apply(PricingContext context);
+}
@@ -0,0 +1,53 @@
+package com.seowon.coding.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.time.Instant;
+
+/**
+ * 조건부 GET 을 위한 strong ETag 생성/비교 Utils
+ */
+@UtilityClass
+public class ETags {
+
+    /**
+     * 리소스 종류, id, 마지막 수정 시각으로 strong ETag 생성
+     * @param prefix
+     * @param id
+     * @param lastModified
+     * @return
+     */
+    public static String of(String prefix, Object id, Instant lastModified) {
+        return "\"" + prefix + "-" + id + "-" + toMicros(lastModified) + "\"";
+    }
+
+    /**
+     * If-None-Match 헤더 값이 etag 와 일치하는지 확인 (목록, * 지원)
+     * @param ifNoneMatch
+     * @param etag
+     * @return
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isEmpty()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            // If-None-Match 는 weak 비교
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if (trimmed.equals("*") || trimmed.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long toMicros(Instant instant) {
+        if (instant == null) {
+            return 0L;
+        }
+        return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000;
+    }
+}
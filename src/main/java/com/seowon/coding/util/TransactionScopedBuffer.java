@@ -0,0 +1,69 @@
+package com.seowon.coding.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 트랜잭션 동안 변경을 모아 두었다가 commit 시점에 한 번에 반영하는 버퍼.
+ * 트랜잭션마다 새 버퍼를 만들어 현재 트랜잭션에 bind 하고, 트랜잭션이 끝나면 unbind 한다. 롤백되면 반영하지 않는다.
+ * @param <B> 버퍼 타입 (보통 key 별 마지막 값/누적 값을 담는 Map)
+ */
+public final class TransactionScopedBuffer<B> {
+
+    public enum Phase {
+        /** commit 직전, 같은 트랜잭션 안에서 반영 (DB 에 쓰는 경우) */
+        BEFORE_COMMIT,
+        /** commit 후 반영 (commit 되기 전에는 보이면 안 되는 메모리 인덱스) */
+        AFTER_COMMIT
+    }
+
+    private final Phase phase;
+    private final Supplier<B> factory;
+    private final Consumer<B> flush;
+
+    public TransactionScopedBuffer(Phase phase, Supplier<B> factory, Consumer<B> flush) {
+        this.phase = phase;
+        this.factory = factory;
+        this.flush = flush;
+    }
+
+    /**
+     * 현재 트랜잭션의 버퍼. 트랜잭션 동기화가 없으면 null 이므로 호출하는 쪽에서 바로 반영한다.
+     */
+    @SuppressWarnings("unchecked")
+    public B current() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        B buffer = (B) TransactionSynchronizationManager.getResource(this);
+        if (buffer == null) {
+            B created = factory.get();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    if (phase == Phase.BEFORE_COMMIT) {
+                        flush.accept(created);
+                    }
+                }
+
+                @Override
+                public void afterCommit() {
+                    if (phase == Phase.AFTER_COMMIT) {
+                        flush.accept(created);
+                    }
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TransactionScopedBuffer.this);
+                }
+            });
+            buffer = created;
+        }
+        return buffer;
+    }
+}
@@ -0,0 +1,128 @@
+-- 운영(prod profile) 스키마. 엔티티 변경 시 함께 수정해야 하며 기동 시 ddl-auto=validate 로 검증된다.
+
+create sequence if not exists orders_seq start with 1 increment by 50;
+create sequence if not exists order_item_seq start with 1 increment by 50;
+create sequence if not exists order_outbox_seq start with 1 increment by 50;
+
+create table if not exists product (
+    id             bigint generated by default as identity,
+    name           varchar(255),
+    description    varchar(255),
+    price          numeric(38, 2),
+    stock_quantity integer not null,
+    category       varchar(255),
+    last_modified  timestamp(6) with time zone,
+    primary key (id)
+);
+create index if not exists idx_product_last_modified on product (last_modified);
+-- 기존 h2file/운영 DB 에는 create table 이 다시 실행되지 않으므로 추가 컬럼은 alter 로 반영한다
+alter table product add column if not exists reorder_threshold integer default 0 not null;
+
+create table if not exists orders (
+    id             bigint not null,
+    customer_name  varchar(255),
+    customer_email varchar(255),
+    status         enum ('PENDING','PROCESSING','SHIPPED','DELIVERED','CANCELLED'),
+    order_date     timestamp(6),
+    total_amount   numeric(38, 2),
+    primary key (id)
+);
+create index if not exists idx_orders_customer_email_date on orders (customer_email, order_date, id);
+create index if not exists idx_orders_status_date on orders (status, order_date);
+create index if not exists idx_orders_order_date on orders (order_date);
+
+create table if not exists order_item (
+    id         bigint not null,
+    order_id   bigint,
+    product_id bigint,
+    quantity   integer not null,
+    price      numeric(38, 2),
+    primary key (id),
+    constraint fk_order_item_order foreign key (order_id) references orders (id),
+    constraint fk_order_item_product foreign key (product_id) references product (id)
+);
+
+create table if not exists processing_status (
+    id         bigint generated by default as identity,
+    job_id     varchar(255) not null,
+    total      integer not null,
+    processed  integer not null,
+    status     enum ('RUNNING','COMPLETED','FAILED'),
+    updated_at timestamp(6),
+    primary key (id),
+    constraint uk_processing_status_job_id unique (job_id)
+);
+alter table processing_status add column if not exists rejected integer default 0 not null;
+alter table processing_status add column if not exists heartbeat_at timestamp(6);
+
+create table if not exists processing_chunk (
+    id               bigint generated by default as identity,
+    job_id           varchar(255) not null,
+    chunk_no         integer not null,
+    order_count      integer not null,
+    status           enum ('PENDING','DONE','FAILED'),
+    lease_owner      varchar(255),
+    lease_expires_at timestamp(6),
+    attempts         integer not null,
+    completed_at     timestamp(6),
+    primary key (id),
+    constraint uk_processing_chunk_job_chunk unique (job_id, chunk_no)
+);
+
+create index if not exists idx_processing_chunk_status on processing_chunk (status, id);
+
+create table if not exists processing_chunk_order (
+    chunk_id bigint not null,
+    order_id bigint not null,
+    constraint fk_processing_chunk_order_chunk foreign key (chunk_id) references processing_chunk (id)
+);
+
+create index if not exists idx_processing_chunk_order_chunk_id on processing_chunk_order (chunk_id);
+
+create table if not exists idempotency_key (
+    id          bigint generated by default as identity,
+    request_key varchar(255) not null,
+    order_id    bigint not null,
+    created_at  timestamp(6),
+    primary key (id),
+    constraint uk_idempotency_key_request_key unique (request_key)
+);
+
+create table if not exists order_outbox (
+    id              bigint not null,
+    order_id        bigint not null,
+    previous_status enum ('PENDING','PROCESSING','SHIPPED','DELIVERED','CANCELLED'),
+    status          enum ('PENDING','PROCESSING','SHIPPED','DELIVERED','CANCELLED') not null,
+    occurred_at     timestamp(6) with time zone not null,
+    primary key (id)
+);
+
+create table if not exists customer_order_summary (
+    customer_email  varchar(255) not null,
+    order_count     bigint not null,
+    lifetime_spend  numeric(38, 2),
+    last_order_date timestamp(6),
+    primary key (customer_email)
+);
+
+create table if not exists order_archive (
+    id             bigint not null,
+    customer_name  varchar(255),
+    customer_email varchar(255),
+    status         enum ('PENDING','PROCESSING','SHIPPED','DELIVERED','CANCELLED'),
+    order_date     timestamp(6),
+    total_amount   numeric(38, 2),
+    archived_at    timestamp(6) with time zone,
+    primary key (id)
+);
+create index if not exists idx_order_archive_order_date on order_archive (order_date);
+
+create table if not exists order_item_archive (
+    id         bigint not null,
+    order_id   bigint,
+    product_id bigint,
+    quantity   integer not null,
+    price      numeric(38, 2),
+    primary key (id)
+);
+create index if not exists idx_order_item_archive_order_id on order_item_archive (order_id);
@@ -0,0 +1,151 @@
+package com.seowon.coding;
+
+import com.seowon.coding.domain.dto.ProcessingStatusResponse;
+import com.seowon.coding.domain.model.ProcessingStatus;
+import com.seowon.coding.service.BulkShipJobService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 같은 파일 H2 를 쓰는 애플리케이션 두 개를 노드로 띄워서 일괄 배송 작업 분산 처리와 장애 후 이어받기를 확인한다.
+ * (h2file profile: schema.sql 로 스키마를 만들고 ddl-auto=validate 로 엔티티와 비교)
+ * 어느 노드가 몇 chunk 를 처리할지는 스케줄링에 달려 있으므로, 모든 chunk 가 한 번만 commit 되고 주문이
+ * 한 번씩만 배송되는지만 확인한다. 애플리케이션을 두 개 띄우므로 ./gradlew integrationTest 로 따로 실행한다.
+ */
+@Tag("integration")
+class BulkShipMultiNodeTest {
+
+    private static final int ORDERS = 400;
+    private static final int CHUNK_SIZE = 20;
+    private static final long TIMEOUT_MILLIS = 30_000;
+    // 처리 중에 lease 가 만료되지 않도록 충분히 길게. 이어받기 테스트만 죽은 노드의 lease 가 빨리 풀리게 짧게 둔다
+    private static final String LEASE_TTL = "30s";
+    private static final String ORPHAN_LEASE_TTL = "2s";
+
+    @TempDir
+    Path directory;
+
+    private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(ConfigurableApplicationContext::close);
+    }
+
+    @Test
+    void nodesShareChunksOfOneJob() throws InterruptedException {
+        ConfigurableApplicationContext nodeA = start("node-a", true, LEASE_TTL);
+        ConfigurableApplicationContext nodeB = start("node-b", true, LEASE_TTL);
+        JdbcTemplate jdbc = nodeA.getBean(JdbcTemplate.class);
+        seedProcessingOrders(jdbc);
+
+        nodeA.getBean(BulkShipJobService.class).submit("ship-1", orderIds());
+        ProcessingStatusResponse status = awaitFinished(nodeB, "ship-1");
+
+        assertEquals(ProcessingStatus.Status.COMPLETED, status.status());
+        assertEquals(ORDERS, status.processed());
+        assertEquals(0, status.rejected());
+        assertEquals(0, jdbc.queryForObject(
+                "select count(*) from processing_chunk where job_id = 'ship-1' and status <> 'DONE'", Integer.class));
+        assertEachOrderShippedOnce(jdbc);
+    }
+
+    @Test
+    void survivorResumesAfterLastCommittedChunk() throws InterruptedException {
+        // node-a 는 worker 없이 직접 chunk 3 개를 끝내고, 네 번째 chunk 의 lease 를 잡은 채로 죽는다
+        ConfigurableApplicationContext nodeA = start("node-a", false, ORPHAN_LEASE_TTL);
+        seedProcessingOrders(nodeA.getBean(JdbcTemplate.class));
+        BulkShipJobService serviceA = nodeA.getBean(BulkShipJobService.class);
+        serviceA.submit("ship-2", orderIds());
+        for (int i = 0; i < 3; i++) {
+            assertTrue(serviceA.process(serviceA.claimNext("ship-2").orElseThrow()));
+        }
+        BulkShipJobService.Claim orphan = serviceA.claimNext("ship-2").orElseThrow();
+        nodeA.close();
+
+        ConfigurableApplicationContext nodeB = start("node-b", true, ORPHAN_LEASE_TTL);
+        ProcessingStatusResponse status = awaitFinished(nodeB, "ship-2");
+
+        JdbcTemplate jdbc = nodeB.getBean(JdbcTemplate.class);
+        assertEquals(ProcessingStatus.Status.COMPLETED, status.status());
+        assertEquals(ORDERS, status.processed());
+        assertEachOrderShippedOnce(jdbc);
+        assertEquals(3, jdbc.queryForObject(
+                "select count(*) from processing_chunk where job_id = 'ship-2' and lease_owner like 'node-a:%'",
+                Integer.class));
+        // 죽은 노드가 잡고 있던 chunk 는 lease 만료 후 다른 노드가 다시 가져가서 끝냈다
+        assertEquals("DONE", jdbc.queryForObject("select status from processing_chunk where id = ?", String.class,
+                orphan.chunkId()));
+        assertTrue(jdbc.queryForObject("select attempts from processing_chunk where id = ?", Integer.class,
+                orphan.chunkId()) >= 2);
+        assertTrue(jdbc.queryForObject("select lease_owner from processing_chunk where id = ?", String.class,
+                orphan.chunkId()).startsWith("node-b:"));
+    }
+
+    private ConfigurableApplicationContext start(String nodeId, boolean worker, String leaseTtl) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(CodingApplication.class)
+                .profiles("h2file")
+                .run("--server.port=0",
+                        "--h2.file.path=" + directory.resolve("coding"),
+                        "--orders.bulk-ship.node-id=" + nodeId,
+                        "--orders.bulk-ship.worker-enabled=" + worker,
+                        "--orders.bulk-ship.chunk-size=" + CHUNK_SIZE,
+                        "--orders.bulk-ship.lease-ttl=" + leaseTtl,
+                        "--orders.bulk-ship.poll-interval-ms=20",
+                        // poll 마다 chunk 하나씩만 가져가서 두 노드가 같은 작업을 나눠 가질 수 있게 한다
+                        "--orders.bulk-ship.max-chunks-per-poll=1",
+                        "--orders.outbox.dispatcher-enabled=false",
+                        "--orders.archive.enabled=false");
+        nodes.add(context);
+        return context;
+    }
+
+    private static void seedProcessingOrders(JdbcTemplate jdbc) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbc.batchUpdate("insert into orders (id, customer_name, customer_email, status, order_date, total_amount) "
+                        + "values (?, 'Customer', 'customer@example.com', 'PROCESSING', ?, 10.00)",
+                orderIds().stream().map(id -> new Object[]{id, now}).toList());
+    }
+
+    private static List<Long> orderIds() {
+        return LongStream.rangeClosed(1, ORDERS).boxed().toList();
+    }
+
+    /**
+     * 모든 주문이 SHIPPED 이고, 배송 상태 변경 outbox 기록이 주문마다 정확히 하나다 (chunk 가 두 번 commit 되지 않았다).
+     */
+    private static void assertEachOrderShippedOnce(JdbcTemplate jdbc) {
+        assertEquals(ORDERS, jdbc.queryForObject("select count(*) from orders where status = 'SHIPPED'", Integer.class));
+        assertEquals(ORDERS, jdbc.queryForObject("select count(*) from order_outbox where status = 'SHIPPED'", Integer.class));
+        assertEquals(ORDERS, jdbc.queryForObject(
+                "select count(distinct order_id) from order_outbox where status = 'SHIPPED'", Integer.class));
+    }
+
+    private static ProcessingStatusResponse awaitFinished(ConfigurableApplicationContext node, String jobId)
+            throws InterruptedException {
+        BulkShipJobService service = node.getBean(BulkShipJobService.class);
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            ProcessingStatusResponse status = service.getStatus(jobId).orElseThrow();
+            if (status.status() != ProcessingStatus.Status.RUNNING) {
+                return status;
+            }
+            Thread.sleep(50);
+        }
+        return fail("bulk ship job " + jobId + " did not finish in " + TIMEOUT_MILLIS + " ms");
+    }
+}
@@ -0,0 +1,37 @@
+package com.seowon.coding;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * prod profile 기동 시간 회귀 테스트.
+ * 테스트 JVM 은 CDS/워밍업 효과가 없으므로 운영 목표(1초 미만)보다 넉넉한 budget 을 쓴다.
+ * 실행 환경에 따라 시간이 달라지므로 기본 test 가 아니라 ./gradlew benchmark -Dstartup.budget.ms=6000 로 실행한다.
+ */
+@Tag("benchmark")
+class StartupTimeTest {
+
+    private static final long BUDGET_MILLIS = Long.getLong("startup.budget.ms", 6_000);
+
+    @Test
+    void prodProfileStartsWithinBudget(TestReporter reporter) {
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CodingApplication.class)
+                .profiles("prod")
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:startup-test;DB_CLOSE_DELAY=-1",
+                        "--spring.sql.init.mode=always")) {
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            reporter.publishEntry("startup.ms", Long.toString(elapsedMillis));
+            assertTrue(context.isActive());
+            assertTrue(elapsedMillis < BUDGET_MILLIS,
+                    "startup took " + elapsedMillis + " ms, budget " + BUDGET_MILLIS + " ms");
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.seowon.coding.config;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * HTTP Basic 인증 처리량 비교: BCrypt 매 요청 검증 vs 캐시 (./gradlew benchmark)
+ */
+@Tag("benchmark")
+class AuthenticationBenchmark {
+
+    private static final int THREADS = Runtime.getRuntime().availableProcessors();
+    private static final long DURATION_MILLIS = 3_000;
+
+    @Test
+    void basicAuthThroughput() throws Exception {
+        PasswordEncoder encoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        InMemoryUserDetailsManager users = new InMemoryUserDetailsManager(User.withUsername("admin")
+                .password(encoder.encode("admin"))
+                .roles("USER")
+                .build());
+        DaoAuthenticationProvider dao = new DaoAuthenticationProvider(users);
+        dao.setPasswordEncoder(encoder);
+
+        double before = requestsPerSecond(dao);
+        double after = requestsPerSecond(new CachedCredentialAuthenticationProvider(dao, new AuthCacheProperties()));
+
+        System.out.printf("basic auth (%d threads): bcrypt %.0f req/s -> cached %.0f req/s%n", THREADS, before, after);
+        assertTrue(after > before);
+    }
+
+    private static double requestsPerSecond(AuthenticationProvider provider) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            long deadline = System.currentTimeMillis() + DURATION_MILLIS;
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    long count = 0;
+                    while (System.currentTimeMillis() < deadline) {
+                        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("admin", "admin"));
+                        count++;
+                    }
+                    return count;
+                }));
+            }
+            long total = 0;
+            for (Future<Long> future : futures) {
+                total += future.get();
+            }
+            return total * 1_000.0 / DURATION_MILLIS;
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        }
+    }
+}
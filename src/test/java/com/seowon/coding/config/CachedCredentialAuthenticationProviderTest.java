@@ -0,0 +1,83 @@
+package com.seowon.coding.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachedCredentialAuthenticationProviderTest {
+
+    @Mock
+    private AuthenticationProvider delegate;
+
+    @Mock
+    private Clock clock;
+
+    private CachedCredentialAuthenticationProvider provider;
+
+    private final Authentication authenticated =
+            UsernamePasswordAuthenticationToken.authenticated("admin", null, List.of());
+
+    @BeforeEach
+    void setUp() {
+        AuthCacheProperties properties = new AuthCacheProperties();
+        properties.setTtl(Duration.ofSeconds(60));
+        provider = new CachedCredentialAuthenticationProvider(delegate, properties, clock);
+    }
+
+    @Test
+    void authenticate_ShouldVerifyOnce_WhenSameCredentialsRepeated() {
+        when(clock.millis()).thenReturn(0L, 1_000L, 2_000L);
+        when(delegate.authenticate(any())).thenReturn(authenticated);
+
+        for (int i = 0; i < 3; i++) {
+            assertSame(authenticated, provider.authenticate(token("admin", "admin")));
+        }
+
+        verify(delegate, times(1)).authenticate(any());
+    }
+
+    @Test
+    void authenticate_ShouldVerifyAgain_WhenEntryExpired() {
+        when(clock.millis()).thenReturn(0L, 61_000L);
+        when(delegate.authenticate(any())).thenReturn(authenticated);
+
+        provider.authenticate(token("admin", "admin"));
+        provider.authenticate(token("admin", "admin"));
+
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    void authenticate_ShouldNotCacheFailures_NorReuseForOtherPassword() {
+        when(clock.millis()).thenReturn(0L);
+        when(delegate.authenticate(any()))
+                .thenReturn(authenticated)
+                .thenThrow(new BadCredentialsException("bad"))
+                .thenThrow(new BadCredentialsException("bad"));
+
+        provider.authenticate(token("admin", "admin"));
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(token("admin", "wrong")));
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(token("admin", "wrong")));
+
+        verify(delegate, times(3)).authenticate(any());
+    }
+
+    private static Authentication token(String username, String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated(username, password);
+    }
+}
@@ -0,0 +1,62 @@
+package com.seowon.coding.config;
+
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.service.ProductService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * read pool 을 스키마만 있는 별도 in-memory DB (replica 역할) 로 지정해서,
+ * 쓰기는 primary 에만 반영되고 읽기 전용 트랜잭션은 replica 에서 읽는지 확인한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary",
+        "datasource.read.jdbc-url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1;INIT=RUNSCRIPT FROM 'classpath:db/schema.sql'",
+        "orders.outbox.dispatcher-enabled=false",
+        "orders.bulk-ship.worker-enabled=false",
+        "orders.archive.enabled=false"
+})
+class DataSourceRoutingConfigTest {
+
+    private static final String COUNT_SQL = "select count(*) from product where id = ?";
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void readOnlyTransactionsUseReplica_AndReadWriteTransactionsUsePrimary() {
+        Product saved = productService.createProduct(Product.builder()
+                .name("Routed")
+                .price(new BigDecimal("10.00"))
+                .stockQuantity(5)
+                .category("Routing")
+                .build());
+        Long id = saved.getId();
+
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+        assertEquals(1L, readWrite.execute(status -> jdbcTemplate.queryForObject(COUNT_SQL, Long.class, id)));
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        assertEquals(0L, readOnly.execute(status -> jdbcTemplate.queryForObject(COUNT_SQL, Long.class, id)));
+
+        // @Transactional(readOnly = true) 서비스 메소드도 replica 로 간다
+        assertTrue(productService.getProductResponseById(id).isEmpty());
+        // 트랜잭션 밖 (auto-commit) 은 primary
+        assertEquals(1L, jdbcTemplate.queryForObject(COUNT_SQL, Long.class, id));
+    }
+}
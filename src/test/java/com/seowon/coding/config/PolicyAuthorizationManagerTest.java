@@ -0,0 +1,82 @@
+package com.seowon.coding.config;
+
+import com.seowon.coding.domain.model.PolicyIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolicyAuthorizationManagerTest {
+
+    private PolicyAuthorizationManager manager;
+
+    @BeforeEach
+    void setUp() {
+        PolicyIndex index = PolicyIndex.compile(
+                Map.of("admin", List.of("admins"), "viewer", List.of("readers")),
+                Map.of("admins", List.of("all"), "readers", List.of("catalog-read")),
+                Map.of(
+                        "all", List.of(
+                                new PolicyIndex.StatementDefinition(List.of("orders:Read", "orders:Write"), List.of("orders")),
+                                new PolicyIndex.StatementDefinition(List.of("products:Read", "products:Write"), List.of("products"))),
+                        "catalog-read", List.of(
+                                new PolicyIndex.StatementDefinition(List.of("products:Read"), List.of("products")))
+                ));
+        manager = new PolicyAuthorizationManager(index);
+    }
+
+    @Test
+    void check_ShouldGrantConfiguredActions() {
+        assertTrue(decide("admin", "POST", "/api/orders/batch"));
+        assertTrue(decide("admin", "DELETE", "/api/products/1"));
+        assertTrue(decide("viewer", "GET", "/api/products"));
+    }
+
+    @Test
+    void check_ShouldDenyMissingActions() {
+        assertFalse(decide("viewer", "PUT", "/api/products/1"));
+        assertFalse(decide("viewer", "GET", "/api/orders"));
+        assertFalse(decide("unknown", "GET", "/api/products"));
+    }
+
+    @Test
+    void check_ShouldDenyAnonymousAndUnmappedPaths() {
+        Authentication anonymous = new AnonymousAuthenticationToken("key", "anonymousUser",
+                AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products");
+
+        assertFalse(manager.check(() -> anonymous, new RequestAuthorizationContext(request)).isGranted());
+        assertFalse(decide("admin", "GET", "/api/productsX"));
+    }
+
+    @Test
+    void check_ShouldRequireProfilingPolicy() {
+        assertFalse(decide("admin", "GET", "/api/profiling/recordings"));
+
+        PolicyIndex index = PolicyIndex.compile(
+                Map.of("ops", List.of("operators")),
+                Map.of("operators", List.of("profiling")),
+                Map.of("profiling", List.of(new PolicyIndex.StatementDefinition(
+                        List.of("profiling:Read", "profiling:Write"), List.of("profiling")))));
+        manager = new PolicyAuthorizationManager(index);
+
+        assertTrue(decide("ops", "POST", "/api/profiling/recordings"));
+        assertTrue(decide("ops", "GET", "/api/profiling/recordings/1"));
+        assertFalse(decide("ops", "GET", "/api/products"));
+    }
+
+    private boolean decide(String user, String method, String uri) {
+        Authentication authentication = UsernamePasswordAuthenticationToken.authenticated(user, null, List.of());
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        return manager.check(() -> authentication, new RequestAuthorizationContext(request)).isGranted();
+    }
+}
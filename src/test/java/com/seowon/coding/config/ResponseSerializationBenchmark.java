@@ -0,0 +1,71 @@
+package com.seowon.coding.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.seowon.coding.domain.dto.ProductResponse;
+import com.seowon.coding.domain.model.Product;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 상품 목록 응답 직렬화 처리량 비교 (./gradlew benchmark)
+ * - before: JPA 엔티티를 기본 ObjectMapper 로 직렬화
+ * - after : ProductResponse 를 JacksonConfig 의 serializer 로 직렬화
+ */
+@Tag("benchmark")
+class ResponseSerializationBenchmark {
+
+    private static final int PRODUCTS = 1_000;
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 5_000;
+
+    @Test
+    void productList() throws Exception {
+        List<Product> entities = new ArrayList<>(PRODUCTS);
+        for (int i = 0; i < PRODUCTS; i++) {
+            entities.add(Product.builder()
+                    .id((long) i)
+                    .name("Product " + i)
+                    .description("Description of product " + i)
+                    .price(BigDecimal.valueOf(1_000 + i, 2))
+                    .stockQuantity(i % 50)
+                    .category("Category " + (i % 20))
+                    .build());
+        }
+        List<ProductResponse> responses = entities.stream().map(ProductResponse::from).toList();
+
+        ObjectMapper entityMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ObjectMapper responseMapper = entityMapper.copy()
+                .registerModule(new JacksonConfig().responseModule());
+
+        double before = bytesPerSecond(entityMapper, entities);
+        double after = bytesPerSecond(responseMapper, responses);
+
+        System.out.printf("product list serialization: entity %.1f MB/s -> response %.1f MB/s (x%.2f)%n",
+                before / 1_000_000, after / 1_000_000, after / before);
+        assertTrue(after > 0);
+    }
+
+    private static double bytesPerSecond(ObjectMapper mapper, Object value) throws Exception {
+        long bytes = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            bytes += mapper.writeValueAsBytes(value).length;
+        }
+        bytes = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            bytes += mapper.writeValueAsBytes(value).length;
+        }
+        long elapsed = System.nanoTime() - start;
+        return bytes * 1_000_000_000.0 / elapsed;
+    }
+}
@@ -0,0 +1,86 @@
+package com.seowon.coding.config;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Spring Security filter chain 과 PolicyAuthorizationManager 의 요청당 비용 측정 (./gradlew benchmark)
+ * 컨트롤러 대신 빈 FilterChain 을 끝에 연결하여 보안 처리 비용만 잰다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class SecurityFilterChainBenchmark {
+
+    private static final int WARMUP = 50_000;
+    private static final int ITERATIONS = 200_000;
+
+    @Autowired
+    private FilterChainProxy filterChainProxy;
+
+    @Autowired
+    private PolicyAuthorizationManager policyAuthorizationManager;
+
+    @Test
+    void authorizationManager() {
+        Authentication admin = UsernamePasswordAuthenticationToken.authenticated("admin", null, List.of());
+        RequestAuthorizationContext context =
+                new RequestAuthorizationContext(new MockHttpServletRequest("PUT", "/api/products/1"));
+
+        int granted = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            granted += policyAuthorizationManager.check(() -> admin, context).isGranted() ? 1 : 0;
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            granted += policyAuthorizationManager.check(() -> admin, context).isGranted() ? 1 : 0;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("PolicyAuthorizationManager.check: %.3f us/request%n", elapsed / 1_000.0 / ITERATIONS);
+        assertEquals(WARMUP + ITERATIONS, granted);
+    }
+
+    @Test
+    void filterChain() throws Exception {
+        String basic = "Basic " + Base64.getEncoder().encodeToString("admin:admin".getBytes(StandardCharsets.UTF_8));
+
+        int ok = 0;
+        for (int i = 0; i < WARMUP / 10; i++) {
+            ok += doFilter(basic);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS / 10; i++) {
+            ok += doFilter(basic);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("security filter chain (basic auth + policy): %.2f us/request%n",
+                elapsed / 1_000.0 / (ITERATIONS / 10));
+        assertTrue(ok > 0);
+    }
+
+    private int doFilter(String authorization) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products/1");
+        request.addHeader("Authorization", authorization);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filterChainProxy.doFilter(request, response, (req, res) -> { });
+        SecurityContextHolder.clearContext();
+        return response.getStatus() == 200 ? 1 : 0;
+    }
+}
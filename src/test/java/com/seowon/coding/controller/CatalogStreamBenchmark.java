@@ -0,0 +1,167 @@
+package com.seowon.coding.controller;
+
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 느린 클라이언트 다수가 상품 목록을 받을 때 blocking 목록(/api/products)과 스트리밍(/api/products/stream)을 비교한다 (./gradlew benchmark)
+ * 클라이언트는 응답 body 를 readDelayMs 간격으로 조금씩 읽어서 TCP 수준에서 서버 쓰기를 늦춘다.
+ * 조정: -Dcatalog.bench.clients=10000 -Dcatalog.bench.products=20000 -Dcatalog.bench.readDelayMs=20
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class CatalogStreamBenchmark {
+
+    private static final int PRODUCTS = Integer.getInteger("catalog.bench.products", 5_000);
+    private static final int CLIENTS = Integer.getInteger("catalog.bench.clients", 500);
+    private static final long READ_DELAY_MS = Long.getLong("catalog.bench.readDelayMs", 20);
+    private static final String AUTHORIZATION = "Basic " +
+            Base64.getEncoder().encodeToString("admin:admin".getBytes(StandardCharsets.UTF_8));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @BeforeEach
+    void seed() {
+        long missing = PRODUCTS - productRepository.count();
+        List<Product> products = new ArrayList<>();
+        for (long i = 0; i < missing; i++) {
+            products.add(Product.builder()
+                    .name("Bench Product " + i)
+                    .description("Synthetic product for catalog streaming benchmark")
+                    .price(BigDecimal.valueOf(1000 + i % 9000, 2))
+                    .stockQuantity((int) (i % 100))
+                    .category("Category " + i % 20)
+                    .build());
+        }
+        productRepository.saveAll(products);
+    }
+
+    @Test
+    void blockingListing() throws Exception {
+        run("/api/products");
+    }
+
+    @Test
+    void streamingListing() throws Exception {
+        run("/api/products/stream");
+    }
+
+    private void run(String path) throws Exception {
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(4);
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+        HttpClient client = HttpClient.newBuilder().executor(clientExecutor).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", AUTHORIZATION)
+                .timeout(Duration.ofMinutes(10))
+                .build();
+        try {
+            // 인증 캐시와 JIT 를 데우고 기준 스레드 수를 잰다
+            client.send(request, HttpResponse.BodyHandlers.discarding());
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            int baseline = threads.getThreadCount();
+            threads.resetPeakThreadCount();
+
+            AtomicInteger failures = new AtomicInteger();
+            List<CompletableFuture<Long>> latencies = new ArrayList<>(CLIENTS);
+            long start = System.nanoTime();
+            for (int i = 0; i < CLIENTS; i++) {
+                long sent = System.nanoTime();
+                latencies.add(client.sendAsync(request, info -> {
+                            if (info.statusCode() != 200) {
+                                failures.incrementAndGet();
+                            }
+                            return HttpResponse.BodySubscribers.fromSubscriber(
+                                    new SlowSubscriber(scheduler, READ_DELAY_MS), SlowSubscriber::bytes);
+                        })
+                        .thenApply(response -> System.nanoTime() - sent));
+            }
+            CompletableFuture.allOf(latencies.toArray(CompletableFuture[]::new)).get(10, TimeUnit.MINUTES);
+            long elapsed = System.nanoTime() - start;
+
+            long[] sorted = latencies.stream().mapToLong(CompletableFuture::join).sorted().toArray();
+            System.out.printf("%s: %d slow clients, %d products, total %d ms, p50 %d ms, p99 %d ms, peak threads +%d (baseline %d)%n",
+                    path, CLIENTS, PRODUCTS, elapsed / 1_000_000,
+                    sorted[sorted.length / 2] / 1_000_000, sorted[(int) (sorted.length * 0.99)] / 1_000_000,
+                    threads.getPeakThreadCount() - baseline, baseline);
+            assertEquals(0, failures.get());
+        } finally {
+            scheduler.shutdownNow();
+            clientExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * body 를 buffer 하나씩 readDelayMs 간격으로 요청하는 느린 클라이언트
+     */
+    private static final class SlowSubscriber implements Flow.Subscriber<List<ByteBuffer>> {
+
+        private final ScheduledExecutorService scheduler;
+        private final long delayMs;
+        private Flow.Subscription subscription;
+        private long bytes;
+
+        SlowSubscriber(ScheduledExecutorService scheduler, long delayMs) {
+            this.scheduler = scheduler;
+            this.delayMs = delayMs;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> buffers) {
+            for (ByteBuffer buffer : buffers) {
+                bytes += buffer.remaining();
+            }
+            scheduler.schedule(() -> subscription.request(1), delayMs, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+
+        long bytes() {
+            return bytes;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.seowon.coding.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderStatusTest {
+
+    @Test
+    void canTransitionTo_ShouldFollowTransitionTable() {
+        assertTrue(Order.OrderStatus.PENDING.canTransitionTo(Order.OrderStatus.PROCESSING));
+        assertTrue(Order.OrderStatus.PROCESSING.canTransitionTo(Order.OrderStatus.SHIPPED));
+        assertTrue(Order.OrderStatus.SHIPPED.canTransitionTo(Order.OrderStatus.DELIVERED));
+        assertFalse(Order.OrderStatus.PENDING.canTransitionTo(Order.OrderStatus.SHIPPED));
+        assertFalse(Order.OrderStatus.SHIPPED.canTransitionTo(Order.OrderStatus.CANCELLED));
+        assertFalse(Order.OrderStatus.PROCESSING.canTransitionTo(Order.OrderStatus.PROCESSING));
+        for (Order.OrderStatus next : Order.OrderStatus.values()) {
+            assertFalse(Order.OrderStatus.DELIVERED.canTransitionTo(next));
+            assertFalse(Order.OrderStatus.CANCELLED.canTransitionTo(next));
+        }
+    }
+
+    @Test
+    void sourcesOf_ShouldInvertTransitionTable() {
+        assertEquals(EnumSet.of(Order.OrderStatus.PENDING, Order.OrderStatus.PROCESSING),
+                Order.OrderStatus.sourcesOf(Order.OrderStatus.CANCELLED));
+        assertEquals(Set.of(), Order.OrderStatus.sourcesOf(Order.OrderStatus.PENDING));
+    }
+
+    @Test
+    void markAsShipped_ShouldRejectCancelledOrder() {
+        Order order = Order.builder().status(Order.OrderStatus.CANCELLED).build();
+
+        assertThrows(IllegalStateException.class, order::markAsShipped);
+        assertEquals(Order.OrderStatus.CANCELLED, order.getStatus());
+    }
+}
@@ -0,0 +1,53 @@
+package com.seowon.coding.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderTest {
+
+    @Test
+    void create_ShouldStartPendingWithEmptyItems() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+        Order order = Order.create("John Doe", "john@example.com", now, 3);
+
+        assertEquals(Order.OrderStatus.PENDING, order.getStatus());
+        assertEquals(now, order.getOrderDate());
+        assertTrue(order.getItems().isEmpty());
+        assertEquals(0, BigDecimal.ZERO.compareTo(order.getTotalAmount()));
+    }
+
+    @Test
+    void equals_ShouldUseIdOnly() {
+        Order saved = Order.builder().id(1L).customerName("John Doe").build();
+        Order sameRow = Order.builder().id(1L).customerName("Changed").build();
+        Order unsaved = Order.builder().customerName("John Doe").build();
+        Order otherUnsaved = Order.builder().customerName("John Doe").build();
+
+        assertEquals(saved, sameRow);
+        assertEquals(saved.hashCode(), sameRow.hashCode());
+        assertNotEquals(unsaved, otherUnsaved);
+        assertEquals(unsaved, unsaved);
+    }
+
+    @Test
+    void hashCodeAndToString_ShouldNotWalkItems() {
+        Order order = Order.create("John Doe", "john@example.com", LocalDateTime.now(), 1);
+        Product product = Product.builder().id(1L).name("Widget").price(BigDecimal.TEN).stockQuantity(5).build();
+        OrderItem item = OrderItem.create(order, product, 2);
+        order.getItems().add(item);
+
+        int hash = order.hashCode();
+        order.setTotalAmount(BigDecimal.valueOf(20));
+
+        assertEquals(hash, order.hashCode());
+        assertEquals(item.hashCode(), OrderItem.create(order, product, 1).hashCode());
+        assertFalse(order.toString().contains("Widget"));
+        assertFalse(item.toString().contains("john@example.com"));
+        assertEquals(0, BigDecimal.valueOf(20).compareTo(item.getSubtotal()));
+    }
+}
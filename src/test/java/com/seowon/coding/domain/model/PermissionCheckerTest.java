@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -217,4 +218,32 @@ class PermissionCheckerTest {
         );
         assertFalse(result, "user1은 bucket6에서 s3:DeleteObject를 수행할 권한이 없어야 합니다.");
     }
-}
\ No newline at end of file
+
+    @DisplayName("대상 사용자와 관계없는 그룹/정책은 펼치지 않아야 합니다.")
+    @Test
+    void hasPermission_ShouldIgnoreUnrelatedGroupsAndPolicies() {
+        List<UserGroup> withUnrelated = new ArrayList<>(groups);
+        withUnrelated.add(new UserGroup("group9", List.of("policy9")));
+        List<Policy> withUnrelatedPolicy = new ArrayList<>(policies);
+        // statements 가 없는 정의도 대상 사용자의 정책이 아니면 읽지 않는다
+        withUnrelatedPolicy.add(0, new Policy("policy9", null));
+
+        assertTrue(PermissionChecker.hasPermission("user2", "bucket3", "s3:GetObject", users, withUnrelated, withUnrelatedPolicy));
+        assertFalse(PermissionChecker.hasPermission("user2", "bucket1", "s3:GetObject", users, withUnrelated, withUnrelatedPolicy));
+    }
+
+    @DisplayName("미리 컴파일한 PolicyIndex 와 같은 결과를 반환해야 합니다.")
+    @Test
+    void hasPermission_ShouldMatchCompiledIndex() {
+        PolicyIndex index = PolicyIndex.compile(users, groups, policies);
+        for (String user : List.of("user1", "user2", "user3", "user4")) {
+            for (String action : List.of("s3:GetObject", "s3:PutObject", "ec2:StartInstance")) {
+                for (String resource : List.of("bucket1", "bucket2", "bucket3", "bucket4", "bucket5", "instance123")) {
+                    assertEquals(index.isAllowed(user, action, resource),
+                            PermissionChecker.hasPermission(user, resource, action, users, groups, policies),
+                            user + " " + action + " " + resource);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.seowon.coding.inventory;
+
+import com.seowon.coding.domain.dto.CategoryAggregate;
+import com.seowon.coding.domain.dto.ProductFacet;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.util.TestTransactions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryAggregateStoreTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CategoryAggregateStore store;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new CategoryAggregateStore(productRepository, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestTransactions.cleanUp();
+    }
+
+    @Test
+    void record_ShouldAggregatePerCategory_InNameOrder() {
+        store.record(facet(1L, "Toys", "15.00", 3));
+        store.record(facet(2L, "Books", "20.00", 0));
+        store.record(facet(3L, "Books", "8.50", 5));
+        store.record(facet(4L, null, "1.00", 5));
+
+        assertEquals(List.of(
+                new CategoryAggregate("Books", 2, 1, new BigDecimal("8.50"), new BigDecimal("20.00")),
+                new CategoryAggregate("Toys", 1, 1, new BigDecimal("15.00"), new BigDecimal("15.00"))),
+                store.aggregates());
+        assertEquals(2.0, meterRegistry.get("products.categories").gauge().value());
+    }
+
+    @Test
+    void record_ShouldMoveContribution_WhenCategoryOrPriceChanges() {
+        store.record(facet(1L, "Books", "8.50", 5));
+        store.record(facet(2L, "Books", "20.00", 1));
+
+        store.record(facet(1L, "Books", "12.00", 5));
+        assertEquals(new CategoryAggregate("Books", 2, 2, new BigDecimal("12.00"), new BigDecimal("20.00")),
+                store.aggregates().get(0));
+
+        store.record(facet(2L, "Toys", "20.00", 1));
+        assertEquals(List.of(
+                new CategoryAggregate("Books", 1, 1, new BigDecimal("12.00"), new BigDecimal("12.00")),
+                new CategoryAggregate("Toys", 1, 1, new BigDecimal("20.00"), new BigDecimal("20.00"))),
+                store.aggregates());
+    }
+
+    @Test
+    void remove_ShouldKeepPriceRange_WhenDuplicatePricesRemain() {
+        store.record(facet(1L, "Books", "5.00", 1));
+        store.record(facet(2L, "Books", "5.00", 1));
+        store.record(facet(3L, "Books", "30.00", 1));
+
+        store.remove(3L);
+        store.remove(1L);
+        assertEquals(new CategoryAggregate("Books", 1, 1, new BigDecimal("5.00"), new BigDecimal("5.00")),
+                store.aggregates().get(0));
+
+        store.remove(2L);
+        assertTrue(store.aggregates().isEmpty());
+    }
+
+    @Test
+    void recordStock_ShouldUpdateInStockCount_OnlyForKnownProducts() {
+        store.record(facet(1L, "Books", "8.50", 5));
+
+        store.recordStock(1L, 0, null);
+        store.recordStock(99L, 3, null);
+
+        assertEquals(new CategoryAggregate("Books", 1, 0, new BigDecimal("8.50"), new BigDecimal("8.50")),
+                store.aggregates().get(0));
+        assertEquals(1, store.aggregates().size());
+    }
+
+    @Test
+    void record_ShouldApplyAfterCommit_AndDiscardOnRollback() {
+        store.record(facet(1L, "Books", "8.50", 5));
+        TestTransactions.begin();
+
+        store.record(facet(2L, "Books", "3.00", 1));
+        store.recordStock(1L, 0, null);
+        store.recordStock(2L, 0, null);
+        assertEquals(new CategoryAggregate("Books", 1, 1, new BigDecimal("8.50"), new BigDecimal("8.50")),
+                store.aggregates().get(0));
+
+        TestTransactions.commit();
+        assertEquals(new CategoryAggregate("Books", 2, 0, new BigDecimal("3.00"), new BigDecimal("8.50")),
+                store.aggregates().get(0));
+
+        TestTransactions.begin();
+        store.remove(1L);
+        TestTransactions.rollback();
+        assertEquals(2, store.aggregates().get(0).productCount());
+    }
+
+    @Test
+    void refresh_ShouldReloadFacets_ForBulkUpdatedProducts() {
+        store.record(facet(1L, "Books", "8.50", 5));
+        when(productRepository.findFacetsByIdIn(List.of(1L))).thenReturn(List.of(facet(1L, "Toys", "8.50", 5)));
+
+        store.refresh(List.of(1L));
+        store.refresh(List.of());
+
+        assertEquals(List.of("Toys"), store.aggregates().stream().map(CategoryAggregate::category).toList());
+        verify(productRepository, times(1)).findFacetsByIdIn(any());
+    }
+
+    @Test
+    void rebuild_ShouldReplaceAggregates() {
+        store.record(facet(9L, "Stale", "1.00", 1));
+        when(productRepository.findFacets())
+                .thenReturn(List.of(facet(1L, "Books", "8.50", 0), facet(2L, "Toys", null, 2)));
+
+        assertEquals(2, store.rebuild());
+
+        assertEquals(List.of(
+                new CategoryAggregate("Books", 1, 0, new BigDecimal("8.50"), new BigDecimal("8.50")),
+                new CategoryAggregate("Toys", 1, 1, null, null)),
+                store.aggregates());
+    }
+
+    @Test
+    void record_ShouldIgnoreOlderValues_CommittedOutOfOrder() {
+        Instant first = Instant.parse("2025-01-01T00:00:00Z");
+        Instant second = first.plusMillis(1);
+
+        // 나중에 수정된 값이 먼저 반영되고, 그 전 값이 늦게 도착한다
+        store.record(facet(1L, "Toys", "8.50", 5, second));
+        store.record(facet(1L, "Books", "8.50", 5, first));
+        store.recordStock(1L, 0, first);
+
+        assertEquals(List.of(new CategoryAggregate("Toys", 1, 1, new BigDecimal("8.50"), new BigDecimal("8.50"))),
+                store.aggregates());
+    }
+
+    @Test
+    void record_ShouldNotRestoreRemovedProduct() {
+        store.record(facet(1L, "Books", "8.50", 5, Instant.parse("2025-01-01T00:00:00Z")));
+        store.remove(1L);
+
+        store.record(facet(1L, "Books", "8.50", 5, Instant.parse("2025-01-01T00:00:01Z")));
+
+        assertTrue(store.aggregates().isEmpty());
+    }
+
+    @Test
+    void rebuild_ShouldKeepValuesNewerThanRead() {
+        Instant old = Instant.parse("2025-01-01T00:00:00Z");
+        // DB(replica) 값보다 나중에 반영된 값과, 읽기 시작한 뒤에 추가된 상품
+        store.record(facet(1L, "Toys", "8.50", 5, old.plusSeconds(1)));
+        store.record(facet(2L, "Games", "3.00", 1, Instant.now().plusSeconds(60)));
+        // 이 노드에서 삭제했지만 DB 에는 아직 남아 있는 상품
+        store.remove(3L);
+        when(productRepository.findFacets())
+                .thenReturn(List.of(facet(1L, "Books", "8.50", 5, old), facet(3L, "Books", "1.00", 1, old)));
+
+        store.rebuild();
+
+        assertEquals(List.of("Games", "Toys"), store.aggregates().stream().map(CategoryAggregate::category).toList());
+    }
+
+    private static ProductFacet facet(Long id, String category, String price, int stockQuantity) {
+        return new ProductFacet(id, category, price == null ? null : new BigDecimal(price), stockQuantity);
+    }
+
+    private static ProductFacet facet(Long id, String category, String price, int stockQuantity, Instant lastModified) {
+        return new ProductFacet(id, category, price == null ? null : new BigDecimal(price), stockQuantity, lastModified);
+    }
+}
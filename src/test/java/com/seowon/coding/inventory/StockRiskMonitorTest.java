@@ -0,0 +1,151 @@
+package com.seowon.coding.inventory;
+
+import com.seowon.coding.domain.dto.StockLevel;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.util.TestTransactions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockRiskMonitorTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StockRiskMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new StockRiskMonitor(productRepository, eventPublisher, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestTransactions.cleanUp();
+    }
+
+    @Test
+    void record_ShouldPublishOnce_WhenStockDropsToThreshold() {
+        monitor.record(new StockLevel(1L, "Widget", 11, 10));
+        monitor.record(new StockLevel(1L, "Widget", 10, 10));
+        monitor.record(new StockLevel(1L, "Widget", 4, 10));
+
+        verify(eventPublisher, times(1)).publishEvent(new LowStockEvent(1L, "Widget", 10, 10));
+        assertEquals(List.of(new StockLevel(1L, "Widget", 4, 10)), monitor.topAtRisk(10));
+        assertEquals(1.0, meterRegistry.get("products.low_stock.alerts").counter().count());
+        assertEquals(1.0, meterRegistry.get("products.stock.at_risk").gauge().value());
+    }
+
+    @Test
+    void record_ShouldPublishAgain_AfterRestock() {
+        monitor.record(new StockLevel(1L, "Widget", 2, 10));
+        monitor.record(new StockLevel(1L, "Widget", 50, 10));
+        assertTrue(monitor.topAtRisk(10).isEmpty());
+
+        monitor.record(new StockLevel(1L, "Widget", 9, 10));
+
+        verify(eventPublisher, times(2)).publishEvent(any(LowStockEvent.class));
+    }
+
+    @Test
+    void topAtRisk_ShouldOrderByRemainingCoverage() {
+        monitor.record(new StockLevel(1L, "Half", 5, 10));
+        monitor.record(new StockLevel(2L, "Sold out", 0, 0));
+        monitor.record(new StockLevel(3L, "Nearly fine", 8, 10));
+        monitor.record(new StockLevel(4L, "Healthy", 20, 10));
+        monitor.record(new StockLevel(5L, "Large threshold", 40, 100));
+
+        assertEquals(List.of(2L, 5L, 1L), monitor.topAtRisk(3).stream().map(StockLevel::productId).toList());
+        assertEquals(4, monitor.topAtRisk(10).size());
+
+        monitor.remove(2L);
+        assertEquals(5L, monitor.topAtRisk(1).get(0).productId());
+    }
+
+    @Test
+    void topAtRisk_ShouldRejectInvalidLimit() {
+        assertThrows(IllegalArgumentException.class, () -> monitor.topAtRisk(0));
+        assertThrows(IllegalArgumentException.class, () -> monitor.topAtRisk(StockRiskMonitor.MAX_LIMIT + 1));
+    }
+
+    @Test
+    void record_ShouldApplyLastValuePerProduct_AfterCommit() {
+        TestTransactions.begin();
+
+        monitor.record(new StockLevel(1L, "Widget", 8, 10));
+        monitor.record(new StockLevel(1L, "Widget", 3, 10));
+        assertTrue(monitor.topAtRisk(10).isEmpty());
+
+        TestTransactions.commit();
+
+        assertEquals(List.of(new StockLevel(1L, "Widget", 3, 10)), monitor.topAtRisk(10));
+        verify(eventPublisher, times(1)).publishEvent(new LowStockEvent(1L, "Widget", 3, 10));
+    }
+
+    @Test
+    void record_ShouldDiscardChanges_OnRollback() {
+        TestTransactions.begin();
+
+        monitor.record(new StockLevel(1L, "Widget", 3, 10));
+        TestTransactions.rollback();
+
+        assertTrue(monitor.topAtRisk(10).isEmpty());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void record_ShouldIgnoreOlderValue_CommittedOutOfOrder() {
+        Instant first = Instant.parse("2025-01-01T00:00:00Z");
+        Instant second = first.plusMillis(1);
+
+        // 나중에 수정된 값(재고 3)이 먼저 반영되고, 그 전 값(재고 8)이 늦게 도착한다
+        TestTransactions.begin();
+        monitor.record(new StockLevel(1L, "Widget", 3, 10, second));
+        TestTransactions.commit();
+        TestTransactions.begin();
+        monitor.record(new StockLevel(1L, "Widget", 8, 10, first));
+        TestTransactions.commit();
+
+        assertEquals(List.of(new StockLevel(1L, "Widget", 3, 10, second)), monitor.topAtRisk(10));
+        verify(eventPublisher, times(1)).publishEvent(any(LowStockEvent.class));
+    }
+
+    @Test
+    void record_ShouldIgnoreOlderValue_AfterRemove() {
+        monitor.record(new StockLevel(1L, "Widget", 3, 10, Instant.parse("2025-01-01T00:00:00Z")));
+        monitor.remove(1L);
+
+        monitor.record(new StockLevel(1L, "Widget", 2, 10, Instant.parse("2025-01-01T00:00:01Z")));
+
+        assertTrue(monitor.topAtRisk(10).isEmpty());
+    }
+
+    @Test
+    void rebuild_ShouldLoadAtRiskProducts_WithoutAlerts() {
+        when(productRepository.findStockLevelsBelowReorderThreshold())
+                .thenReturn(List.of(new StockLevel(1L, "Widget", 3, 10), new StockLevel(2L, "Gadget", 0, 0)));
+
+        assertEquals(2, monitor.rebuild());
+
+        assertEquals(List.of(2L, 1L), monitor.topAtRisk(10).stream().map(StockLevel::productId).toList());
+        verifyNoInteractions(eventPublisher);
+    }
+}
@@ -0,0 +1,91 @@
+package com.seowon.coding.loadgen;
+
+import com.seowon.coding.CodingApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * h2file profile 로 합성 데이터를 적재하고, 같은 파일로 재시작했을 때 다시 적재하지 않는지 확인한다.
+ * 애플리케이션을 여러 번 띄우므로 ./gradlew integrationTest 로 따로 실행한다.
+ */
+@Tag("integration")
+class SyntheticDataLoaderTest {
+
+    private static final int PRODUCTS = 300;
+    private static final int ORDERS = 1_000;
+    private static final int MAX_ITEMS = 3;
+    private static final int CATEGORIES = 7;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void loadsConfiguredRows_AndSkipsExistingDatabaseOnRestart() {
+        Counts loaded;
+        try (ConfigurableApplicationContext context = start(false)) {
+            JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+            loaded = counts(jdbc);
+
+            assertEquals(PRODUCTS, loaded.products());
+            assertEquals(ORDERS, loaded.orders());
+            assertTrue(loaded.items() >= ORDERS && loaded.items() <= (long) ORDERS * MAX_ITEMS, "items " + loaded.items());
+            assertTrue(count(jdbc, "select count(distinct category) from product") <= CATEGORIES);
+            // 모든 라인은 적재된 상품을 참조하고, 주문 금액은 라인 합계와 같다
+            assertEquals(0, count(jdbc, "select count(*) from order_item i left join product p on p.id = i.product_id where p.id is null"));
+            assertEquals(0, count(jdbc, "select count(*) from orders o where o.total_amount <> "
+                    + "(select sum(i.price * i.quantity) from order_item i where i.order_id = o.id)"));
+            // 고객은 주문 수 / 20 명으로 나뉘고, 요약은 적재 후 다시 계산된다
+            assertTrue(loaded.summaries() > 0 && loaded.summaries() <= ORDERS / 20, "summaries " + loaded.summaries());
+        }
+
+        try (ConfigurableApplicationContext context = start(false)) {
+            assertEquals(loaded, counts(context.getBean(JdbcTemplate.class)));
+        }
+
+        try (ConfigurableApplicationContext context = start(true)) {
+            Counts appended = counts(context.getBean(JdbcTemplate.class));
+            assertEquals(2 * PRODUCTS, appended.products());
+            assertEquals(2 * ORDERS, appended.orders());
+        }
+    }
+
+    private ConfigurableApplicationContext start(boolean append) {
+        return new SpringApplicationBuilder(CodingApplication.class)
+                .profiles("h2file")
+                .run("--server.port=0",
+                        "--h2.file.path=" + directory.resolve("coding"),
+                        "--loadgen.enabled=true",
+                        "--loadgen.append=" + append,
+                        "--loadgen.products=" + PRODUCTS,
+                        "--loadgen.orders=" + ORDERS,
+                        "--loadgen.max-items-per-order=" + MAX_ITEMS,
+                        "--loadgen.categories=" + CATEGORIES,
+                        "--loadgen.chunk-size=250",
+                        "--orders.bulk-ship.worker-enabled=false",
+                        "--orders.outbox.dispatcher-enabled=false",
+                        "--orders.archive.enabled=false");
+    }
+
+    private static Counts counts(JdbcTemplate jdbc) {
+        return new Counts(
+                count(jdbc, "select count(*) from product"),
+                count(jdbc, "select count(*) from orders"),
+                count(jdbc, "select count(*) from order_item"),
+                count(jdbc, "select count(*) from customer_order_summary"));
+    }
+
+    private static long count(JdbcTemplate jdbc, String sql) {
+        return jdbc.queryForObject(sql, Long.class);
+    }
+
+    private record Counts(long products, long orders, long items, long summaries) {
+    }
+}
@@ -0,0 +1,278 @@
+package com.seowon.coding.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seowon.coding.domain.model.BulkOrderReq;
+import com.seowon.coding.domain.model.BulkStatusChangeReq;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.inventory.CategoryAggregateStore;
+import com.seowon.coding.inventory.StockRiskMonitor;
+import com.seowon.coding.loadtest.LatencyRecorder.EndpointStats;
+import com.seowon.coding.loadtest.LoadTestSettings.Operation;
+import com.seowon.coding.service.OrderProduct;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 앱을 임의 포트로 띄우고 합성 데이터를 적재한 뒤, 여러 클라이언트가 상품 조회 / 주문 검색 / checkout / 일괄 배송을
+ * 설정한 비율로 호출한다 (./gradlew loadTest). endpoint 별 처리량과 p50/p99/p999 를 build/loadtest 에 CSV/JSON 으로 남긴다.
+ * - 클라이언트는 응답을 받으면 바로 다음 요청을 보내는 closed-loop 이다. 서버가 느려지면 요청률도 같이 떨어지므로
+ *   꼬리 지연은 고정 요청률(open-loop) 측정보다 낮게 나올 수 있다
+ * - 측정은 warmup 이후 시작한 요청만 집계한다
+ * - checkout 은 주문 한 건짜리 /api/orders/batch (가격 계산, 재고 차감, PROCESSING 접수) 이고,
+ *   일괄 배송은 그렇게 접수된 주문을 모아 /api/orders/status 로 SHIPPED 처리한다
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ApiLoadTest {
+
+    private static final LoadTestSettings SETTINGS = LoadTestSettings.fromSystemProperties();
+    // 합성 주문의 orderDate 분포 기간. 기간 조회가 빈 결과만 돌려주지 않도록 짧게 잡는다
+    private static final int ORDER_DAYS = 30;
+    private static final int BULK_SHIP_SIZE = 100;
+    private static final String AUTHORIZATION = "Basic " +
+            Base64.getEncoder().encodeToString("admin:admin".getBytes(StandardCharsets.UTF_8));
+
+    @DynamicPropertySource
+    static void seedData(DynamicPropertyRegistry registry) {
+        registry.add("loadgen.enabled", () -> "true");
+        registry.add("loadgen.products", SETTINGS::products);
+        registry.add("loadgen.orders", SETTINGS::orders);
+        registry.add("loadgen.seed", SETTINGS::seed);
+        registry.add("loadgen.days", () -> ORDER_DAYS);
+        // 요청마다 SQL 파라미터 로그를 남기지 않는다
+        registry.add("sql.monitor.log-parameters", () -> "false");
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StockRiskMonitor stockRiskMonitor;
+
+    @Autowired
+    private CategoryAggregateStore categoryAggregateStore;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Queue<Long> processingOrders = new ConcurrentLinkedQueue<>();
+    private HttpClient client;
+    private long minProductId;
+    private long productSpan;
+    private int customers;
+
+    @Test
+    void trafficMix() throws Exception {
+        // 합성 재고(0~499)로는 checkout 이 곧 재고 부족으로 실패하므로 넉넉히 채운다
+        jdbcTemplate.update("update product set stock_quantity = ?", 10_000_000);
+        stockRiskMonitor.rebuild();
+        categoryAggregateStore.rebuild();
+        minProductId = jdbcTemplate.queryForObject("select min(id) from product", Long.class);
+        productSpan = jdbcTemplate.queryForObject("select max(id) from product", Long.class) - minProductId + 1;
+        customers = Math.max(1, SETTINGS.orders() / 20);
+
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        // 인증 캐시를 미리 채운다
+        client.send(get("/api/products/" + minProductId), HttpResponse.BodyHandlers.discarding());
+
+        Operation[] operations = SETTINGS.mix().keySet().toArray(Operation[]::new);
+        int[] cumulative = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += SETTINGS.mix().get(operations[i]);
+            cumulative[i] = sum;
+        }
+
+        long measureFrom = System.nanoTime() + SETTINGS.warmup().toNanos();
+        long end = measureFrom + SETTINGS.duration().toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(SETTINGS.clients());
+        List<LatencyRecorder> recorders = new ArrayList<>(SETTINGS.clients());
+        try {
+            List<Future<LatencyRecorder>> futures = new ArrayList<>(SETTINGS.clients());
+            for (int i = 0; i < SETTINGS.clients(); i++) {
+                SplittableRandom random = new SplittableRandom(SETTINGS.seed() + i);
+                futures.add(executor.submit(() -> runClient(random, operations, cumulative, measureFrom, end)));
+            }
+            for (Future<LatencyRecorder> future : futures) {
+                recorders.add(future.get(SETTINGS.warmup().plus(SETTINGS.duration()).toSeconds() + 120, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<EndpointStats> stats = LatencyRecorder.merge(recorders, SETTINGS.duration().toMillis() / 1000.0);
+        List<Path> files = LoadTestReport.write(SETTINGS, stats);
+        System.out.printf("%d clients, %s, mix %s%n", SETTINGS.clients(), SETTINGS.duration(), SETTINGS.mix());
+        LoadTestReport.print(System.out, stats);
+        System.out.println("reports: " + files);
+
+        assertFalse(stats.isEmpty());
+        for (EndpointStats s : stats) {
+            assertTrue(s.errorRate() <= SETTINGS.maxErrorRate(),
+                    () -> s.endpoint() + " error rate " + s.errorRate() + " > " + SETTINGS.maxErrorRate());
+        }
+    }
+
+    private LatencyRecorder runClient(SplittableRandom random, Operation[] operations, int[] cumulative,
+                                      long measureFrom, long end) throws Exception {
+        LatencyRecorder recorder = new LatencyRecorder();
+        while (System.nanoTime() < end) {
+            Call call = prepare(pick(random, operations, cumulative), random);
+            if (call == null) {
+                // 배송할 주문이 아직 없음
+                LockSupport.parkNanos(1_000_000);
+                continue;
+            }
+            long start = System.nanoTime();
+            HttpResponse<String> response = null;
+            try {
+                response = client.send(call.request(), HttpResponse.BodyHandlers.ofString());
+            } catch (IOException e) {
+                // 연결 오류도 실패로 집계
+            }
+            long latency = System.nanoTime() - start;
+            boolean success = response != null && response.statusCode() / 100 == 2;
+            if (start >= measureFrom) {
+                recorder.record(call.endpoint(), latency, success);
+            }
+            if (success) {
+                call.onSuccess().accept(response.body());
+            }
+        }
+        return recorder;
+    }
+
+    private static Operation pick(SplittableRandom random, Operation[] operations, int[] cumulative) {
+        int value = random.nextInt(cumulative[cumulative.length - 1]);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (value < cumulative[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private Call prepare(Operation operation, SplittableRandom random) throws IOException {
+        return switch (operation) {
+            case READ -> new Call("GET /api/products/{id}", get("/api/products/" + randomProduct(random)), body -> {
+            });
+            case SEARCH -> random.nextBoolean()
+                    ? new Call("GET /api/orders/customers/history",
+                    get("/api/orders/customers/history?size=20&email=" + customerEmail(random)), body -> {
+                    })
+                    : rangeSearch(random);
+            case CHECKOUT -> checkout(random);
+            case BULK_SHIP -> bulkShip();
+        };
+    }
+
+    private Call rangeSearch(SplittableRandom random) {
+        LocalDateTime from = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).minusMinutes(random.nextLong(ORDER_DAYS * 1_440L));
+        return new Call("GET /api/orders/range", get("/api/orders/range?from=" + from + "&to=" + from.plusHours(1)), body -> {
+        });
+    }
+
+    private Call checkout(SplittableRandom random) throws IOException {
+        int lines = 1 + random.nextInt(3);
+        List<OrderProduct> products = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            products.add(new OrderProduct(randomProduct(random), 1 + random.nextInt(3)));
+        }
+        int customer = random.nextInt(customers);
+        BulkOrderReq order = BulkOrderReq.builder()
+                .customerName("Customer " + customer)
+                .customerEmail("customer" + customer + "@example.com")
+                .products(products)
+                .build();
+        return new Call("POST /api/orders/batch (checkout)", post("/api/orders/batch", List.of(order)), body -> {
+            try {
+                for (JsonNode result : objectMapper.readTree(body)) {
+                    if (result.path("success").asBoolean()) {
+                        processingOrders.add(result.path("orderId").asLong());
+                    }
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private Call bulkShip() throws IOException {
+        List<Long> orderIds = new ArrayList<>(BULK_SHIP_SIZE);
+        Long id;
+        while (orderIds.size() < BULK_SHIP_SIZE && (id = processingOrders.poll()) != null) {
+            orderIds.add(id);
+        }
+        if (orderIds.isEmpty()) {
+            return null;
+        }
+        return new Call("POST /api/orders/status (bulk ship)",
+                post("/api/orders/status", new BulkStatusChangeReq(orderIds, Order.OrderStatus.SHIPPED)), body -> {
+        });
+    }
+
+    private long randomProduct(SplittableRandom random) {
+        return minProductId + random.nextLong(productSpan);
+    }
+
+    private String customerEmail(SplittableRandom random) {
+        return "customer" + random.nextInt(customers) + "%40example.com";
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest post(String path, Object body) throws IOException {
+        return request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", AUTHORIZATION)
+                .timeout(Duration.ofSeconds(30));
+    }
+
+    private record Call(String endpoint, HttpRequest request, Consumer<String> onSuccess) {
+    }
+}
@@ -0,0 +1,87 @@
+package com.seowon.coding.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 클라이언트 스레드 하나가 쓰는 endpoint 별 응답 시간 기록 (동기화 없음). 측정이 끝나면 {@link #merge} 로 합친다.
+ * 분위수는 표본을 모두 보관해서 정렬 후 nearest-rank 로 계산하므로 근사 오차가 없다.
+ */
+final class LatencyRecorder {
+
+    private final Map<String, Samples> samples = new LinkedHashMap<>();
+
+    void record(String endpoint, long nanos, boolean success) {
+        Samples endpointSamples = samples.computeIfAbsent(endpoint, e -> new Samples());
+        if (success) {
+            endpointSamples.add(nanos);
+        } else {
+            endpointSamples.errors++;
+        }
+    }
+
+    static List<EndpointStats> merge(List<LatencyRecorder> recorders, double seconds) {
+        Map<String, Samples> merged = new TreeMap<>();
+        for (LatencyRecorder recorder : recorders) {
+            recorder.samples.forEach((endpoint, s) -> merged.computeIfAbsent(endpoint, e -> new Samples()).addAll(s));
+        }
+        return merged.entrySet().stream()
+                .map(entry -> entry.getValue().stats(entry.getKey(), seconds))
+                .toList();
+    }
+
+    record EndpointStats(String endpoint,
+                         long requests,
+                         long errors,
+                         double throughput,
+                         double p50Ms,
+                         double p99Ms,
+                         double p999Ms,
+                         double maxMs) {
+
+        double errorRate() {
+            return requests == 0 ? 0.0 : (double) errors / requests;
+        }
+    }
+
+    private static final class Samples {
+
+        private long[] nanos = new long[1024];
+        private int size;
+        private long errors;
+
+        void add(long value) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = value;
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.nanos[i]);
+            }
+            errors += other.errors;
+        }
+
+        EndpointStats stats(String endpoint, double seconds) {
+            long[] sorted = Arrays.copyOf(nanos, size);
+            Arrays.sort(sorted);
+            long requests = size + errors;
+            return new EndpointStats(endpoint, requests, errors, requests / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                    sorted.length == 0 ? 0.0 : sorted[sorted.length - 1] / 1_000_000.0);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int rank = (int) Math.ceil(quantile * sorted.length);
+            return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.seowon.coding.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.seowon.coding.loadtest.LatencyRecorder.EndpointStats;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * endpoint 별 처리량/분위수를 CSV 와 JSON 으로 저장하고 콘솔에 표로 출력한다.
+ */
+final class LoadTestReport {
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private LoadTestReport() {
+    }
+
+    /**
+     * @return 저장된 [csv, json] 경로
+     */
+    static List<Path> write(LoadTestSettings settings, List<EndpointStats> stats) throws IOException {
+        Files.createDirectories(settings.outputDir());
+        String name = "loadtest-" + LocalDateTime.now().format(FILE_TIME);
+        Path csv = settings.outputDir().resolve(name + ".csv");
+        Path json = settings.outputDir().resolve(name + ".json");
+
+        StringBuilder lines = new StringBuilder("endpoint,requests,errors,throughput_rps,p50_ms,p99_ms,p999_ms,max_ms\n");
+        for (EndpointStats s : stats) {
+            lines.append(String.format(Locale.ROOT, "\"%s\",%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f%n",
+                    s.endpoint(), s.requests(), s.errors(), s.throughput(), s.p50Ms(), s.p99Ms(), s.p999Ms(), s.maxMs()));
+        }
+        Files.writeString(csv, lines);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("clients", settings.clients());
+        report.put("warmupSeconds", settings.warmup().toSeconds());
+        report.put("durationSeconds", settings.duration().toSeconds());
+        report.put("mix", settings.mix());
+        report.put("products", settings.products());
+        report.put("orders", settings.orders());
+        report.put("endpoints", stats);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(json.toFile(), report);
+        return List.of(csv, json);
+    }
+
+    static void print(PrintStream out, List<EndpointStats> stats) {
+        out.printf(Locale.ROOT, "%-40s %9s %7s %10s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        for (EndpointStats s : stats) {
+            out.printf(Locale.ROOT, "%-40s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    s.endpoint(), s.requests(), s.errors(), s.throughput(), s.p50Ms(), s.p99Ms(), s.p999Ms(), s.maxMs());
+        }
+    }
+}
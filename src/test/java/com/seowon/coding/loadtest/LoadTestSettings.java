@@ -0,0 +1,74 @@
+package com.seowon.coding.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정. ./gradlew loadTest -Dloadtest.clients=128 -Dloadtest.mix=read=50,search=20,checkout=25,bulk-ship=5 처럼 지정한다.
+ */
+record LoadTestSettings(int clients,
+                        Duration warmup,
+                        Duration duration,
+                        Map<Operation, Integer> mix,
+                        int products,
+                        int orders,
+                        long seed,
+                        double maxErrorRate,
+                        Path outputDir) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.clients", 64),
+                Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 5)),
+                Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 30)),
+                parseMix(System.getProperty("loadtest.mix", "read=60,search=20,checkout=15,bulk-ship=5")),
+                Integer.getInteger("loadtest.products", 2_000),
+                Integer.getInteger("loadtest.orders", 20_000),
+                Long.getLong("loadtest.seed", 42L),
+                Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01")),
+                Path.of(System.getProperty("loadtest.output-dir", "build/loadtest")));
+    }
+
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("invalid loadtest.mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("negative weight: " + entry);
+            }
+            weights.put(Operation.of(pair[0].trim()), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("loadtest.mix has no weight: " + mix);
+        }
+        return weights;
+    }
+
+    enum Operation {
+        READ("read"),
+        SEARCH("search"),
+        CHECKOUT("checkout"),
+        BULK_SHIP("bulk-ship");
+
+        private final String key;
+
+        Operation(String key) {
+            this.key = key;
+        }
+
+        static Operation of(String key) {
+            for (Operation operation : values()) {
+                if (operation.key.equals(key)) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("unknown operation: " + key);
+        }
+    }
+}
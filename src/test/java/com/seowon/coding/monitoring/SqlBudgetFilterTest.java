@@ -0,0 +1,100 @@
+package com.seowon.coding.monitoring;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlBudgetFilterTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(SqlBudgetFilter.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    private SimpleMeterRegistry meterRegistry;
+    private SqlBudgetFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+        meterRegistry = new SimpleMeterRegistry();
+        SqlMonitorProperties properties = new SqlMonitorProperties();
+        properties.setRequestBudget(2);
+        filter = new SqlBudgetFilter(meterRegistry, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    void doFilter_ShouldWarn_WhenBudgetExceeded() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/orders/1"), new MockHttpServletResponse(),
+                issuing(3, "/api/orders/{id}"));
+
+        assertEquals(1, appender.list.size());
+        ILoggingEvent event = appender.list.get(0);
+        assertEquals(Level.WARN, event.getLevel());
+        assertEquals("SQL budget exceeded: GET /api/orders/1 issued 3 statements in 3 ms (budget 2)", event.getFormattedMessage());
+
+        // 태그는 path variable 이 치환되지 않은 mapping pattern
+        DistributionSummary summary = meterRegistry.get("http.server.sql.statements")
+                .tag("method", "GET").tag("uri", "/api/orders/{id}").summary();
+        assertEquals(1, summary.count());
+        assertEquals(3.0, summary.totalAmount());
+    }
+
+    @Test
+    void doFilter_ShouldRecordWithoutWarning_WithinBudget() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/products/1"), new MockHttpServletResponse(),
+                issuing(2, "/api/products/{id}"));
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/products/2"), new MockHttpServletResponse(),
+                issuing(1, "/api/products/{id}"));
+
+        assertTrue(appender.list.isEmpty());
+        DistributionSummary summary = meterRegistry.get("http.server.sql.statements").tag("uri", "/api/products/{id}").summary();
+        assertEquals(2, summary.count());
+        assertEquals(3.0, summary.totalAmount());
+    }
+
+    @Test
+    void doFilter_ShouldSkipRequestsWithoutStatements() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), new MockHttpServletResponse(),
+                issuing(0, null));
+
+        assertTrue(appender.list.isEmpty());
+        assertTrue(meterRegistry.find("http.server.sql.statements").summaries().isEmpty());
+    }
+
+    @Test
+    void doFilter_ShouldTagUnmappedRequests_AsUnknown() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("POST", "/missing"), new MockHttpServletResponse(), issuing(1, null));
+
+        assertEquals(1, meterRegistry.get("http.server.sql.statements").tag("uri", "UNKNOWN").summary().count());
+    }
+
+    // 요청 처리 중 statement 를 실행하고 handler mapping 처럼 pattern 을 남기는 chain
+    private static FilterChain issuing(int statements, String pattern) {
+        return (request, response) -> {
+            if (pattern != null) {
+                request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+            }
+            if (statements > 0) {
+                SqlStatementTracker.record(statements, statements * 1_000_000L);
+            }
+        };
+    }
+}
@@ -0,0 +1,99 @@
+package com.seowon.coding.monitoring;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlMonitorListenerTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(SqlMonitorListener.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    void afterQuery_ShouldMaskParameters_ByDefault() throws Exception {
+        SqlMonitorListener listener = new SqlMonitorListener(properties(new SqlMonitorProperties()));
+
+        listener.afterQuery(execution(500), List.of(query()));
+
+        assertEquals(1, appender.list.size());
+        ILoggingEvent event = appender.list.get(0);
+        assertEquals(Level.WARN, event.getLevel());
+        assertTrue(event.getFormattedMessage().contains("select * from orders where customer_email = ? and id = ?"));
+        assertTrue(event.getFormattedMessage().endsWith("params=[?, ?]"), event.getFormattedMessage());
+        assertFalse(event.getFormattedMessage().contains("john@example.com"));
+    }
+
+    @Test
+    void afterQuery_ShouldLogParameterValues_WhenEnabled() throws Exception {
+        SqlMonitorProperties properties = properties(new SqlMonitorProperties());
+        properties.setLogParameters(true);
+        SqlMonitorListener listener = new SqlMonitorListener(properties);
+
+        listener.afterQuery(execution(500), List.of(query()));
+
+        assertTrue(appender.list.get(0).getFormattedMessage().endsWith("params=[john@example.com, 7]"));
+    }
+
+    @Test
+    void afterQuery_ShouldCountStatements_WithoutLoggingFastQueries() throws Exception {
+        SqlMonitorListener listener = new SqlMonitorListener(properties(new SqlMonitorProperties()));
+        SqlStatementTracker.Snapshot start = SqlStatementTracker.snapshot();
+
+        listener.afterQuery(execution(5), List.of(query(), query()));
+        ExecutionInfo batch = execution(5);
+        batch.setBatch(true);
+        batch.setBatchSize(50);
+        listener.afterQuery(batch, List.of(query()));
+
+        SqlStatementTracker.Snapshot used = SqlStatementTracker.snapshot().since(start);
+        assertEquals(52, used.statements());
+        assertEquals(10, used.millis());
+        assertTrue(appender.list.isEmpty());
+    }
+
+    private static SqlMonitorProperties properties(SqlMonitorProperties properties) {
+        properties.setSlowQueryThreshold(Duration.ofMillis(200));
+        return properties;
+    }
+
+    private static ExecutionInfo execution(long elapsedMillis) {
+        ExecutionInfo info = new ExecutionInfo();
+        info.setElapsedTime(elapsedMillis);
+        return info;
+    }
+
+    private static QueryInfo query() throws NoSuchMethodException {
+        QueryInfo query = new QueryInfo("select * from orders where customer_email = ? and id = ?");
+        query.getParametersList().add(List.of(
+                new ParameterSetOperation(PreparedStatement.class.getMethod("setString", int.class, String.class),
+                        new Object[]{1, "john@example.com"}),
+                new ParameterSetOperation(PreparedStatement.class.getMethod("setLong", int.class, long.class),
+                        new Object[]{2, 7L})));
+        return query;
+    }
+}
@@ -0,0 +1,112 @@
+package com.seowon.coding.outbox;
+
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.OrderOutboxEvent;
+import com.seowon.coding.domain.model.OrderStatusChangedEvent;
+import com.seowon.coding.domain.repository.OrderOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderOutboxDispatcherTest {
+
+    @Mock
+    private OrderOutboxRepository orderOutboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OutboxProperties properties;
+    private InMemoryOrderEventSink sink;
+    private OrderOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OutboxProperties();
+        properties.setBatchSize(2);
+        properties.setMaxBatchesPerPoll(5);
+        sink = new InMemoryOrderEventSink(3);
+        dispatcher = new OrderOutboxDispatcher(orderOutboxRepository, sink, properties,
+                transactionManager, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void dispatchBatch_ShouldPublishInOutboxOrderAndDelete() {
+        when(orderOutboxRepository.findAllByOrderByIdAsc(any(Limit.class))).thenReturn(events(1, 2));
+
+        int sent = dispatcher.dispatchBatch();
+
+        assertEquals(2, sent);
+        List<OrderEventMessage> messages = sink.drain(10);
+        assertEquals(List.of(1L, 2L), messages.stream().map(OrderEventMessage::eventId).toList());
+        assertEquals(Order.OrderStatus.SHIPPED, messages.get(0).status());
+        verify(orderOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+    }
+
+    @Test
+    void poll_ShouldDrainFullBatchesUntilPartialBatch() {
+        when(orderOutboxRepository.findAllByOrderByIdAsc(any(Limit.class)))
+                .thenReturn(events(1, 2))
+                .thenReturn(events(3));
+
+        dispatcher.poll();
+
+        assertEquals(3, sink.size());
+        verify(orderOutboxRepository, times(2)).findAllByOrderByIdAsc(any(Limit.class));
+    }
+
+    @Test
+    void poll_ShouldStopAndKeepEvents_WhenSinkIsFull() {
+        when(orderOutboxRepository.findAllByOrderByIdAsc(any(Limit.class)))
+                .thenReturn(events(1, 2))
+                .thenReturn(events(3, 4));
+
+        dispatcher.poll();
+
+        // 두 번째 batch 는 sink 에 들어갈 공간이 없어 거부되고 outbox 에 남는다
+        assertEquals(2, sink.size());
+        verify(orderOutboxRepository, times(1)).deleteAllByIdInBatch(any());
+        verify(transactionManager, times(1)).rollback(any());
+    }
+
+    @Test
+    void from_ShouldUseIdAssignedOnSave() {
+        Order order = Order.builder().status(Order.OrderStatus.PENDING).build();
+        OrderStatusChangedEvent changed = new OrderStatusChangedEvent(order, Order.OrderStatus.PENDING,
+                Order.OrderStatus.PROCESSING, Instant.EPOCH);
+        // 신규 주문은 이벤트 생성 후 save 시점에 id 가 발급된다
+        order.setId(42L);
+
+        OrderOutboxEvent event = OrderOutboxEvent.from(changed);
+
+        assertEquals(42L, event.getOrderId());
+        assertEquals(Order.OrderStatus.PENDING, event.getPreviousStatus());
+        assertEquals(Order.OrderStatus.PROCESSING, event.getStatus());
+    }
+
+    private List<OrderOutboxEvent> events(long... ids) {
+        return LongStream.of(ids)
+                .mapToObj(id -> OrderOutboxEvent.builder()
+                        .id(id)
+                        .orderId(100L + id)
+                        .previousStatus(Order.OrderStatus.PROCESSING)
+                        .status(Order.OrderStatus.SHIPPED)
+                        .occurredAt(Instant.EPOCH)
+                        .build())
+                .toList();
+    }
+}
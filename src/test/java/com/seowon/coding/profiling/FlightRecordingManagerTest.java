@@ -0,0 +1,111 @@
+package com.seowon.coding.profiling;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecordingManagerTest {
+
+    @TempDir
+    Path directory;
+
+    private ProfilingProperties properties;
+    private FlightRecordingManager manager;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ProfilingProperties();
+        properties.setDirectory(directory.toString());
+        properties.setRetained(1);
+        manager = new FlightRecordingManager(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.destroy();
+    }
+
+    @Test
+    void stop_ShouldWriteCustomEventsToDownloadableFile() throws Exception {
+        RecordingInfo started = manager.start(Duration.ofMinutes(1), null);
+        assertEquals("RUNNING", started.state());
+
+        CheckoutEvent checkout = new CheckoutEvent();
+        checkout.begin();
+        checkout.complete(3, 2, 5);
+        BulkShipChunkEvent chunk = new BulkShipChunkEvent();
+        chunk.begin();
+        chunk.complete("job-1", "SHIPPED", 1000, 998);
+
+        RecordingInfo stopped = manager.stop(started.id());
+        assertEquals("CLOSED", stopped.state());
+        assertTrue(stopped.sizeBytes() > 0);
+
+        Path file = manager.file(started.id());
+        assertTrue(Files.size(file) > 0);
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        RecordedEvent recordedCheckout = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.seowon.coding.Checkout"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(3, recordedCheckout.getInt("orders"));
+        assertEquals(2, recordedCheckout.getInt("accepted"));
+        assertEquals(5, recordedCheckout.getInt("lines"));
+        RecordedEvent recordedChunk = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.seowon.coding.BulkShipChunk"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("job-1", recordedChunk.getString("jobId"));
+        assertEquals(998, recordedChunk.getInt("updated"));
+    }
+
+    @Test
+    void file_ShouldDumpRunningRecording() throws Exception {
+        RecordingInfo started = manager.start(Duration.ofMinutes(1), "default");
+
+        Path partial = manager.file(started.id());
+
+        assertTrue(Files.size(partial) > 0);
+        assertEquals("RUNNING", manager.list().get(0).state());
+    }
+
+    @Test
+    void start_ShouldAllowOnlyOneRunningRecording() {
+        manager.start(Duration.ofMinutes(1), null);
+
+        assertThrows(IllegalStateException.class, () -> manager.start(Duration.ofMinutes(1), null));
+    }
+
+    @Test
+    void start_ShouldRejectInvalidDurationAndSettings() {
+        assertThrows(IllegalArgumentException.class, () -> manager.start(Duration.ZERO, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> manager.start(properties.getMaxDuration().plusSeconds(1), null));
+        assertThrows(IllegalArgumentException.class, () -> manager.start(Duration.ofSeconds(10), "custom"));
+        assertTrue(manager.list().isEmpty());
+    }
+
+    @Test
+    void start_ShouldEvictOldestStoppedRecording() throws Exception {
+        RecordingInfo first = manager.start(Duration.ofMinutes(1), null);
+        manager.stop(first.id());
+        Path firstFile = manager.file(first.id());
+
+        RecordingInfo second = manager.start(Duration.ofMinutes(1), null);
+
+        assertEquals(List.of(second.id()), manager.list().stream().map(RecordingInfo::id).toList());
+        assertFalse(Files.exists(firstFile));
+        assertThrows(NoSuchElementException.class, () -> manager.file(first.id()));
+    }
+}
@@ -0,0 +1,33 @@
+package com.seowon.coding.profiling;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RepositoryCallAspectTest {
+
+    @Test
+    void sizeOf_ShouldCountReturnedRows() {
+        assertEquals(0, RepositoryCallAspect.sizeOf(null));
+        assertEquals(3, RepositoryCallAspect.sizeOf(List.of(1, 2, 3)));
+        assertEquals(2, RepositoryCallAspect.sizeOf(new SliceImpl<>(List.of(1, 2), PageRequest.of(0, 2), true)));
+        assertEquals(1, RepositoryCallAspect.sizeOf(Map.of(1, 2)));
+        assertEquals(0, RepositoryCallAspect.sizeOf(Optional.empty()));
+        assertEquals(1, RepositoryCallAspect.sizeOf(Optional.of("x")));
+        assertEquals(1, RepositoryCallAspect.sizeOf(new Object()));
+    }
+
+    @Test
+    void sizeOf_ShouldNotGuessCountsAndStreams() {
+        assertEquals(-1, RepositoryCallAspect.sizeOf(42));
+        assertEquals(-1, RepositoryCallAspect.sizeOf(true));
+        assertEquals(-1, RepositoryCallAspect.sizeOf(Stream.of(1, 2)));
+    }
+}
@@ -0,0 +1,204 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.dto.ProcessingStatusResponse;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.ProcessingChunk;
+import com.seowon.coding.domain.model.ProcessingStatus;
+import com.seowon.coding.domain.repository.ProcessingChunkRepository;
+import com.seowon.coding.domain.repository.ProcessingStatusRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkShipJobServiceTest {
+
+    @Mock
+    private ProcessingStatusRepository processingStatusRepository;
+
+    @Mock
+    private ProcessingChunkRepository processingChunkRepository;
+
+    @Mock
+    private OrderBatchService orderBatchService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BulkShipProperties properties;
+    private BulkShipJobService bulkShipJobService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BulkShipProperties();
+        properties.setNodeId("node-a");
+        properties.setChunkSize(2);
+        properties.setMaxAttempts(2);
+        bulkShipJobService = new BulkShipJobService(processingStatusRepository, processingChunkRepository,
+                orderBatchService, properties, transactionManager);
+    }
+
+    @Test
+    void submit_ShouldSplitSortedDistinctOrderIdsIntoChunks() {
+        when(processingStatusRepository.findByJobId("job-1")).thenReturn(Optional.empty());
+
+        ProcessingStatusResponse response = bulkShipJobService.submit("job-1", List.of(5L, 1L, 3L, 1L, 2L));
+
+        assertEquals(ProcessingStatus.Status.RUNNING, response.status());
+        assertEquals(4, response.total());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ProcessingChunk>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(processingChunkRepository).saveAll(chunks.capture());
+        assertEquals(List.of(List.of(1L, 2L), List.of(3L, 5L)),
+                chunks.getValue().stream().map(ProcessingChunk::getOrderIds).toList());
+        assertEquals(List.of(0, 1), chunks.getValue().stream().map(ProcessingChunk::getChunkNo).toList());
+        assertTrue(chunks.getValue().stream().allMatch(c -> c.getStatus() == ProcessingChunk.Status.PENDING));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void submit_ShouldReturnExistingJob_WithoutCreatingChunks() {
+        ProcessingStatus existing = ProcessingStatus.builder().jobId("job-1").total(10).processed(4).build();
+        when(processingStatusRepository.findByJobId("job-1")).thenReturn(Optional.of(existing));
+
+        ProcessingStatusResponse response = bulkShipJobService.submit("job-1", List.of(1L, 2L));
+
+        assertEquals(10, response.total());
+        assertEquals(4, response.processed());
+        verify(processingChunkRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void submit_ShouldReturnJobRegisteredConcurrentlyByAnotherNode() {
+        ProcessingStatus other = ProcessingStatus.builder().jobId("job-1").total(3).build();
+        when(processingStatusRepository.findByJobId("job-1")).thenReturn(Optional.empty(), Optional.of(other));
+        when(processingStatusRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        ProcessingStatusResponse response = bulkShipJobService.submit("job-1", List.of(1L));
+
+        assertEquals(3, response.total());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void submit_ShouldRejectInvalidRequests() {
+        assertThrows(IllegalArgumentException.class, () -> bulkShipJobService.submit(" ", List.of(1L)));
+        assertThrows(IllegalArgumentException.class, () -> bulkShipJobService.submit("job-1", List.of()));
+        List<Long> withNull = new ArrayList<>(List.of(1L));
+        withNull.add(null);
+        assertThrows(IllegalArgumentException.class, () -> bulkShipJobService.submit("job-1", withNull));
+        properties.setMaxOrders(1);
+        assertThrows(IllegalArgumentException.class, () -> bulkShipJobService.submit("job-1", List.of(1L, 2L)));
+        verifyNoInteractions(processingStatusRepository);
+    }
+
+    @Test
+    void claimNext_ShouldTryOtherCandidates_WhenAnotherNodeClaimedFirst() {
+        when(processingChunkRepository.findClaimableIdsByJobId(eq("job-1"), eq(ProcessingChunk.Status.PENDING), any(), any()))
+                .thenReturn(List.of(10L, 11L));
+        // 후보는 섞어서 시도하므로 10 은 시도되지 않을 수도 있다
+        lenient().when(processingChunkRepository.claim(eq(10L), anyString(), eq(ProcessingChunk.Status.PENDING), any(), any()))
+                .thenReturn(0);
+        when(processingChunkRepository.claim(eq(11L), anyString(), eq(ProcessingChunk.Status.PENDING), any(), any()))
+                .thenReturn(1);
+        when(processingChunkRepository.findById(11L)).thenReturn(Optional.of(ProcessingChunk.builder()
+                .id(11L).jobId("job-1").chunkNo(1).attempts(1).build()));
+
+        BulkShipJobService.Claim claim = bulkShipJobService.claimNext("job-1").orElseThrow();
+
+        assertEquals(11L, claim.chunkId());
+        assertEquals(1, claim.chunkNo());
+        assertTrue(claim.owner().startsWith("node-a:"));
+        verify(processingStatusRepository).heartbeat(eq("job-1"), any());
+    }
+
+    @Test
+    void claimNext_ShouldReturnEmpty_WhenNothingClaimable() {
+        when(processingChunkRepository.findClaimableIds(eq(ProcessingChunk.Status.PENDING), any(), any()))
+                .thenReturn(List.of());
+
+        assertTrue(bulkShipJobService.claimNext(null).isEmpty());
+        verify(processingChunkRepository, never()).claim(any(), anyString(), any(), any(), any());
+    }
+
+    @Test
+    void process_ShouldShipChunkAndFinishJob_WhenLastChunk() {
+        BulkShipJobService.Claim claim = new BulkShipJobService.Claim(11L, "job-1", 1, "node-a:1", 1);
+        when(processingChunkRepository.findOrderIds(11L)).thenReturn(List.of(3L, 5L));
+        when(orderBatchService.changeStatuses(List.of(3L, 5L), Order.OrderStatus.SHIPPED))
+                .thenReturn(new BulkStatusChangeResult(Order.OrderStatus.SHIPPED, 2, 1, List.of(5L)));
+        when(processingChunkRepository.complete(eq(11L), eq("node-a:1"), eq(ProcessingChunk.Status.PENDING),
+                eq(ProcessingChunk.Status.DONE), any())).thenReturn(1);
+        when(processingChunkRepository.countByJobIdAndStatus(eq("job-1"), any())).thenReturn(0L);
+        when(processingStatusRepository.finish(eq("job-1"), eq(ProcessingStatus.Status.RUNNING),
+                eq(ProcessingStatus.Status.COMPLETED), any())).thenReturn(1);
+
+        assertTrue(bulkShipJobService.process(claim));
+
+        verify(processingStatusRepository).addProgress(eq("job-1"), eq(2), eq(1), any());
+        verify(processingStatusRepository).finish(eq("job-1"), eq(ProcessingStatus.Status.RUNNING),
+                eq(ProcessingStatus.Status.COMPLETED), any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void process_ShouldRollBack_WhenLeaseWasTakenOver() {
+        BulkShipJobService.Claim claim = new BulkShipJobService.Claim(11L, "job-1", 1, "node-a:1", 1);
+        when(processingChunkRepository.findOrderIds(11L)).thenReturn(List.of(3L));
+        when(orderBatchService.changeStatuses(List.of(3L), Order.OrderStatus.SHIPPED))
+                .thenReturn(new BulkStatusChangeResult(Order.OrderStatus.SHIPPED, 1, 1, List.of()));
+        when(processingChunkRepository.complete(eq(11L), eq("node-a:1"), any(), any(), any())).thenReturn(0);
+
+        assertFalse(bulkShipJobService.process(claim));
+
+        verify(transactionManager).rollback(any());
+        verify(processingStatusRepository, never()).addProgress(anyString(), anyInt(), anyInt(), any());
+        // 다른 노드가 가진 lease 는 풀지 않는다
+        verify(processingChunkRepository, never()).release(any(), anyString());
+    }
+
+    @Test
+    void process_ShouldReleaseLeaseForRetry_WhenAttemptsRemain() {
+        BulkShipJobService.Claim claim = new BulkShipJobService.Claim(11L, "job-1", 1, "node-a:1", 1);
+        when(processingChunkRepository.findOrderIds(11L)).thenReturn(List.of(3L));
+        when(orderBatchService.changeStatuses(any(), any())).thenThrow(new IllegalStateException("boom"));
+
+        assertFalse(bulkShipJobService.process(claim));
+
+        verify(processingChunkRepository).release(11L, "node-a:1");
+        verify(processingStatusRepository, never()).finish(anyString(), any(), any(), any());
+    }
+
+    @Test
+    void process_ShouldFailChunkAndJob_WhenAttemptsExhausted() {
+        BulkShipJobService.Claim claim = new BulkShipJobService.Claim(11L, "job-1", 1, "node-a:2", 2);
+        when(processingChunkRepository.findOrderIds(11L)).thenReturn(List.of(3L));
+        when(orderBatchService.changeStatuses(any(), any())).thenThrow(new IllegalStateException("boom"));
+        when(processingChunkRepository.complete(eq(11L), eq("node-a:2"), eq(ProcessingChunk.Status.PENDING),
+                eq(ProcessingChunk.Status.FAILED), any())).thenReturn(1);
+        when(processingChunkRepository.countByJobIdAndStatus("job-1", ProcessingChunk.Status.PENDING)).thenReturn(0L);
+        when(processingChunkRepository.countByJobIdAndStatus("job-1", ProcessingChunk.Status.FAILED)).thenReturn(1L);
+
+        assertFalse(bulkShipJobService.process(claim));
+
+        verify(processingChunkRepository, never()).release(any(), anyString());
+        verify(processingStatusRepository).finish(eq("job-1"), eq(ProcessingStatus.Status.RUNNING),
+                eq(ProcessingStatus.Status.FAILED), any());
+    }
+}
@@ -0,0 +1,159 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.OrderItemRepository;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.service.pricing.Coupon;
+import com.seowon.coding.service.pricing.PricingEngine;
+import com.seowon.coding.service.pricing.PricingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * checkoutOrder 한 건이 힙에 할당하는 바이트를 JFR 의 스레드별 할당 카운터(jdk.ThreadAllocationStatistics)로 재서 예산을 넘지 않는지 확인한다.
+ * Mockito mock 은 호출마다 invocation 기록을 할당하므로 repository 는 고정 값을 돌려주는 Proxy 로 대신한다.
+ * 예산을 넘으면 jdk.ObjectAllocationSample 로 모은 상위 할당 타입을 report 에 남긴다.
+ * 할당량은 JIT/escape analysis 에 따라 달라지므로 기본 test 가 아니라 ./gradlew benchmark 로 실행한다
+ * (-Dcheckout.allocation.budget-bytes=4096 으로 예산 조정).
+ */
+@Tag("benchmark")
+class CheckoutAllocationTest {
+
+    // 3 라인 + 쿠폰 checkout 한 건의 할당 예산. 영속성(Hibernate) 비용은 포함하지 않는다
+    private static final long BYTES_PER_CHECKOUT_BUDGET = Long.getLong("checkout.allocation.budget-bytes", 4 * 1024);
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 20_000;
+
+    @Test
+    void checkoutOrder_ShouldStayWithinAllocationBudget(TestReporter reporter) throws IOException {
+        assumeTrue(FlightRecorder.isAvailable(), "JFR not available");
+
+        List<Product> products = List.of(product(1L, "19.99"), product(2L, "5.00"), product(3L, "120.50"));
+        List<OrderProduct> lines = List.of(new OrderProduct(1L, 2), new OrderProduct(2L, 1), new OrderProduct(3L, 3));
+        OrderService orderService = orderService(products);
+
+        for (int i = 0; i < WARMUP; i++) {
+            orderService.checkoutOrder("John Doe", "john@example.com", lines, "SALE");
+        }
+
+        long threadId = Thread.currentThread().getId();
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.ThreadAllocationStatistics").with("period", "everyChunk");
+            recording.enable("jdk.ObjectAllocationSample").with("throttle", "1000/s");
+            recording.start();
+            Order last = null;
+            for (int i = 0; i < ITERATIONS; i++) {
+                last = orderService.checkoutOrder("John Doe", "john@example.com", lines, "SALE");
+            }
+            recording.stop();
+            assertEquals(Order.OrderStatus.PROCESSING, last.getStatus());
+            events = read(recording);
+        }
+
+        List<Long> allocated = events.stream()
+                .filter(e -> e.getEventType().getName().equals("jdk.ThreadAllocationStatistics"))
+                .filter(e -> e.getThread("thread") != null && e.getThread("thread").getJavaThreadId() == threadId)
+                .map(e -> e.getLong("allocated"))
+                .sorted()
+                .toList();
+        assertTrue(allocated.size() >= 2, "expected allocation counters at recording start and end");
+        long bytesPerCheckout = (allocated.get(allocated.size() - 1) - allocated.get(0)) / ITERATIONS;
+
+        reporter.publishEntry("checkout.allocated.bytes", Long.toString(bytesPerCheckout));
+        if (bytesPerCheckout > BYTES_PER_CHECKOUT_BUDGET) {
+            topAllocations(events, threadId).forEach((type, weight) -> reporter.publishEntry("allocation." + type, Long.toString(weight)));
+        }
+        assertTrue(bytesPerCheckout <= BYTES_PER_CHECKOUT_BUDGET,
+                () -> "checkoutOrder allocates " + bytesPerCheckout + " bytes > budget " + BYTES_PER_CHECKOUT_BUDGET);
+    }
+
+    private static List<RecordedEvent> read(Recording recording) throws IOException {
+        Path file = Files.createTempFile("checkout-allocation", ".jfr");
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static Map<String, Long> topAllocations(List<RecordedEvent> events, long threadId) {
+        return events.stream()
+                .filter(e -> e.getEventType().getName().equals("jdk.ObjectAllocationSample"))
+                .filter(e -> e.getThread("eventThread") != null && e.getThread("eventThread").getJavaThreadId() == threadId)
+                .collect(Collectors.groupingBy(e -> e.getClass("objectClass").getName(),
+                        Collectors.summingLong(e -> e.getLong("weight"))))
+                .entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(15)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    private static OrderService orderService(List<Product> products) {
+        PricingProperties pricing = new PricingProperties();
+        pricing.setCoupons(List.of(
+                new PricingProperties.CouponSpec("SALE", true, Coupon.Type.FIXED, new BigDecimal("10.00"), null)));
+        ProductRepository productRepository = stub(ProductRepository.class, "findAllById", args -> products);
+        OrderRepository orderRepository = stub(OrderRepository.class, "save", args -> args[0]);
+        return new OrderService(orderRepository,
+                stub(OrderItemRepository.class, null, null),
+                productRepository,
+                // checkout 은 일괄 배송 작업/요약 수정을 사용하지 않는다. 호출되지 않으므로 mock 의 invocation 할당도 없다
+                mock(BulkShipJobService.class),
+                new PricingEngine(pricing),
+                new OrderMetrics(new SimpleMeterRegistry()),
+                mock(CustomerOrderSummaryRecorder.class));
+    }
+
+    private static Product product(Long id, String price) {
+        return Product.builder()
+                .id(id)
+                .name("Product " + id)
+                .price(new BigDecimal(price))
+                .stockQuantity(Integer.MAX_VALUE)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, String method, Function<Object[], Object> answer) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, m, args) -> {
+            if (m.getName().equals(method)) {
+                return answer.apply(args);
+            }
+            if (m.getDeclaringClass() == Object.class) {
+                return switch (m.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> type.getSimpleName() + " stub";
+                };
+            }
+            throw new UnsupportedOperationException(m.getName());
+        });
+    }
+}
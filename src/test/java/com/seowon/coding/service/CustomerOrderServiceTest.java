@@ -0,0 +1,68 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.dto.CustomerOrderHistory;
+import com.seowon.coding.domain.dto.OrderHistoryItem;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.repository.CustomerOrderSummaryRepository;
+import com.seowon.coding.domain.repository.OrderRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerOrderServiceTest {
+
+    @Mock
+    private CustomerOrderSummaryRepository customerOrderSummaryRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @InjectMocks
+    private CustomerOrderService customerOrderService;
+
+    @Test
+    void getHistory() {
+        OrderHistoryItem item = new OrderHistoryItem(1L, Order.OrderStatus.PROCESSING,
+                LocalDateTime.of(2025, 1, 1, 12, 0), BigDecimal.valueOf(100.00));
+        PageRequest pageable = PageRequest.of(0, 1);
+        when(orderRepository.findHistoryByCustomerEmail("john@example.com", pageable))
+                .thenReturn(new SliceImpl<>(List.of(item), pageable, true));
+
+        CustomerOrderHistory history = customerOrderService.getHistory("john@example.com", 0, 1);
+
+        assertTrue(history.hasNext());
+        assertEquals(List.of(item), history.orders());
+        verify(orderRepository, never()).findByCustomerEmail(any());
+    }
+
+    @Test
+    void getHistory_ShouldRejectOversizedPage() {
+        assertThrows(IllegalArgumentException.class,
+                () -> customerOrderService.getHistory("john@example.com", 0, CustomerOrderService.MAX_PAGE_SIZE + 1));
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    void rebuildSummaries_ShouldCountCountedStatusesByName() {
+        when(customerOrderSummaryRepository.insertFromOrders(List.of("PROCESSING", "SHIPPED", "DELIVERED"))).thenReturn(3);
+
+        assertEquals(3, customerOrderService.rebuildSummaries());
+        InOrder inOrder = inOrder(customerOrderSummaryRepository);
+        inOrder.verify(customerOrderSummaryRepository).deleteAllSummaries();
+        inOrder.verify(customerOrderSummaryRepository).insertFromOrders(any());
+    }
+}
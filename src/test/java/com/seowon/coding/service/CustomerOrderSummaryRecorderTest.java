@@ -0,0 +1,128 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.dto.OrderStatusView;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.repository.CustomerOrderSummaryRepository;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.util.TestTransactions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerOrderSummaryRecorderTest {
+
+    private static final String EMAIL = "john@example.com";
+
+    @Mock
+    private CustomerOrderSummaryRepository customerOrderSummaryRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @InjectMocks
+    private CustomerOrderSummaryRecorder recorder;
+
+    @AfterEach
+    void tearDown() {
+        TestTransactions.cleanUp();
+    }
+
+    @Test
+    void record_ShouldApplyImmediately_WithoutTransaction() {
+        LocalDateTime orderDate = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+        recorder.record(EMAIL, BigDecimal.valueOf(300.00), orderDate, Order.OrderStatus.PENDING, Order.OrderStatus.PROCESSING);
+
+        verify(customerOrderSummaryRepository).applyDelta(EMAIL, 1, BigDecimal.valueOf(300.00), orderDate);
+    }
+
+    @Test
+    void record_ShouldIgnoreTransitionsBetweenCountedStatuses() {
+        recorder.record(EMAIL, BigDecimal.TEN, null, Order.OrderStatus.PROCESSING, Order.OrderStatus.SHIPPED);
+        recorder.record(EMAIL, BigDecimal.TEN, null, Order.OrderStatus.PENDING, Order.OrderStatus.CANCELLED);
+
+        verify(customerOrderSummaryRepository, never()).applyDelta(any(), anyLong(), any(), any());
+    }
+
+    @Test
+    void record_ShouldMergeDeltasPerCustomer_UntilCommit() {
+        TestTransactions.begin();
+        LocalDateTime first = LocalDateTime.of(2025, 1, 1, 12, 0);
+        LocalDateTime second = LocalDateTime.of(2025, 1, 2, 12, 0);
+
+        recorder.record(EMAIL, BigDecimal.valueOf(100.00), second, null, Order.OrderStatus.PROCESSING);
+        recorder.record(EMAIL, BigDecimal.valueOf(50.00), first, Order.OrderStatus.PENDING, Order.OrderStatus.PROCESSING);
+        recorder.record(EMAIL, BigDecimal.valueOf(20.00), first, Order.OrderStatus.PROCESSING, Order.OrderStatus.CANCELLED);
+        verifyNoInteractions(customerOrderSummaryRepository);
+
+        TestTransactions.commit();
+
+        verify(customerOrderSummaryRepository, times(1))
+                .applyDelta(EMAIL, 1, BigDecimal.valueOf(130.00), second);
+    }
+
+    @Test
+    void snapshot_ShouldReadPersistedValues() {
+        OrderStatusView view = new OrderStatusView(1L, Order.OrderStatus.SHIPPED, EMAIL, BigDecimal.TEN, null);
+        when(orderRepository.findStatusViewById(1L)).thenReturn(Optional.of(view));
+
+        assertEquals(Optional.of(view), recorder.snapshot(1L));
+    }
+
+    @Test
+    void moved_ShouldMoveContribution_WhenEmailAndAmountChange() {
+        LocalDateTime orderDate = LocalDateTime.of(2025, 1, 1, 12, 0);
+        OrderStatusView before = new OrderStatusView(1L, Order.OrderStatus.SHIPPED, EMAIL, BigDecimal.valueOf(300.00), orderDate);
+        OrderStatusView after = new OrderStatusView(1L, Order.OrderStatus.SHIPPED, "jane@example.com", BigDecimal.valueOf(250.00), orderDate);
+
+        recorder.moved(before, after);
+
+        verify(customerOrderSummaryRepository).applyDelta(EMAIL, -1, BigDecimal.valueOf(300.00).negate(), null);
+        verify(customerOrderSummaryRepository).applyDelta("jane@example.com", 1, BigDecimal.valueOf(250.00), orderDate);
+    }
+
+    @Test
+    void moved_ShouldApplyAmountDifference_InTransaction() {
+        TestTransactions.begin();
+        LocalDateTime orderDate = LocalDateTime.of(2025, 1, 1, 12, 0);
+        OrderStatusView before = new OrderStatusView(1L, Order.OrderStatus.PROCESSING, EMAIL, BigDecimal.valueOf(300.00), orderDate);
+        OrderStatusView after = new OrderStatusView(1L, Order.OrderStatus.PROCESSING, EMAIL, BigDecimal.valueOf(250.00), orderDate);
+
+        recorder.moved(before, after);
+        TestTransactions.commit();
+
+        verify(customerOrderSummaryRepository, times(1)).applyDelta(EMAIL, 0, BigDecimal.valueOf(-50.00), orderDate);
+    }
+
+    @Test
+    void moved_ShouldIgnoreOrdersNotCounted() {
+        OrderStatusView before = new OrderStatusView(1L, Order.OrderStatus.PENDING, EMAIL, BigDecimal.TEN, null);
+        OrderStatusView after = new OrderStatusView(1L, Order.OrderStatus.PENDING, "jane@example.com", BigDecimal.ONE, null);
+
+        recorder.moved(before, after);
+
+        verify(customerOrderSummaryRepository, never()).applyDelta(any(), anyLong(), any(), any());
+    }
+
+    @Test
+    void removed_ShouldSubtractCountedOrder() {
+        recorder.removed(new OrderStatusView(1L, Order.OrderStatus.DELIVERED, EMAIL, BigDecimal.valueOf(300.00), null));
+        recorder.removed(new OrderStatusView(2L, Order.OrderStatus.CANCELLED, EMAIL, BigDecimal.valueOf(100.00), null));
+
+        verify(customerOrderSummaryRepository, times(1)).applyDelta(EMAIL, -1, BigDecimal.valueOf(300.00).negate(), null);
+        verifyNoMoreInteractions(customerOrderSummaryRepository);
+    }
+}
@@ -0,0 +1,122 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.dto.OrderResponse;
+import com.seowon.coding.domain.model.IdempotencyKey;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.repository.IdempotencyKeyRepository;
+import com.seowon.coding.domain.repository.OrderItemRepository;
+import com.seowon.coding.domain.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    @Mock
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private IdempotencyService idempotencyService;
+
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService(idempotencyKeyRepository, orderRepository, orderItemRepository,
+                transactionManager, 2);
+        order = Order.builder().id(1L).customerName("John Doe").status(Order.OrderStatus.PENDING).build();
+    }
+
+    @Test
+    void execute_ShouldReplayRecentKey_WithoutDatabaseAccess() {
+        AtomicInteger calls = new AtomicInteger();
+
+        OrderResponse first = idempotencyService.execute("key-1", () -> {
+            calls.incrementAndGet();
+            return order;
+        });
+        // 생성 이후의 변경은 최초 응답에 반영되지 않는다
+        order.markAsProcessing();
+        clearInvocations(idempotencyKeyRepository, transactionManager);
+        OrderResponse second = idempotencyService.execute("key-1", () -> {
+            calls.incrementAndGet();
+            return Order.builder().id(2L).build();
+        });
+
+        assertEquals(Order.OrderStatus.PENDING, first.status());
+        assertSame(first, second);
+        assertEquals(1, calls.get());
+        verifyNoInteractions(idempotencyKeyRepository, orderRepository, orderItemRepository, transactionManager);
+    }
+
+    @Test
+    void execute_ShouldCreateAgain_AfterKeyEvictedFromCache() {
+        idempotencyService.execute("key-1", () -> order);
+        idempotencyService.execute("key-2", () -> Order.builder().id(2L).build());
+        idempotencyService.execute("key-3", () -> Order.builder().id(3L).build());
+        when(idempotencyKeyRepository.saveAndFlush(any(IdempotencyKey.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(idempotencyKeyRepository.findByRequestKey("key-1"))
+                .thenReturn(Optional.of(IdempotencyKey.builder().requestKey("key-1").orderId(1L).build()));
+        when(orderRepository.findResponseById(1L)).thenReturn(Optional.of(OrderResponse.from(order)));
+
+        OrderResponse replayed = idempotencyService.execute("key-1", () -> Order.builder().id(4L).build());
+
+        assertEquals(1L, replayed.id());
+        verify(idempotencyKeyRepository).findByRequestKey("key-1");
+    }
+
+    @Test
+    void execute_ShouldReturnStoredOrder_WhenKeyAlreadyRecorded() {
+        when(idempotencyKeyRepository.saveAndFlush(any(IdempotencyKey.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(idempotencyKeyRepository.findByRequestKey("key-1"))
+                .thenReturn(Optional.of(IdempotencyKey.builder().requestKey("key-1").orderId(1L).build()));
+        when(orderRepository.findResponseById(1L)).thenReturn(Optional.of(OrderResponse.from(order)));
+
+        OrderResponse replayed = idempotencyService.execute("key-1", () -> Order.builder().id(2L).build());
+
+        assertEquals(1L, replayed.id());
+        verify(transactionManager, times(1)).rollback(any());
+        verify(orderRepository, never()).findById(any());
+    }
+
+    @Test
+    void execute_ShouldFail_WhenRecordedOrderWasDeleted() {
+        when(idempotencyKeyRepository.saveAndFlush(any(IdempotencyKey.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(idempotencyKeyRepository.findByRequestKey("key-1"))
+                .thenReturn(Optional.of(IdempotencyKey.builder().requestKey("key-1").orderId(1L).build()));
+        when(orderRepository.findResponseById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(IllegalStateException.class, () -> idempotencyService.execute("key-1", () -> order));
+    }
+
+    @Test
+    void execute_ShouldSkipDedup_WhenKeyAbsent() {
+        OrderResponse created = idempotencyService.execute(null, () -> order);
+
+        assertEquals(OrderResponse.from(order), created);
+        verifyNoInteractions(idempotencyKeyRepository, transactionManager);
+    }
+}
@@ -0,0 +1,95 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.dto.OrderResponse;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.repository.IdempotencyKeyRepository;
+import com.seowon.coding.domain.repository.OrderArchiveRepository;
+import com.seowon.coding.domain.repository.OrderItemRepository;
+import com.seowon.coding.domain.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderArchiveServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @Mock
+    private OrderArchiveRepository orderArchiveRepository;
+
+    @Mock
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    private OrderArchiveService orderArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        OrderArchiveProperties properties = new OrderArchiveProperties();
+        properties.setBatchSize(2);
+        orderArchiveService = new OrderArchiveService(orderRepository, orderItemRepository, orderArchiveRepository,
+                idempotencyKeyRepository, properties);
+    }
+
+    @Test
+    void archiveBatch_ShouldCopyThenDeleteTerminalOrders() {
+        List<Long> ids = List.of(1L, 2L);
+        when(orderRepository.findArchivableIds(eq(OrderArchiveService.ARCHIVABLE), any(), any(Limit.class))).thenReturn(ids);
+        when(orderRepository.deleteByIdIn(ids)).thenReturn(2);
+
+        int moved = orderArchiveService.archiveBatch();
+
+        assertEquals(2, moved);
+        InOrder inOrder = inOrder(orderArchiveRepository, idempotencyKeyRepository, orderItemRepository, orderRepository);
+        inOrder.verify(orderArchiveRepository).copyOrders(ids);
+        inOrder.verify(orderArchiveRepository).copyItems(ids);
+        inOrder.verify(idempotencyKeyRepository).deleteByOrderIdIn(ids);
+        inOrder.verify(orderItemRepository).deleteByOrderIdIn(ids);
+        inOrder.verify(orderRepository).deleteByIdIn(ids);
+    }
+
+    @Test
+    void findOrdersBetween_ShouldSkipArchive_ForRecentRange() {
+        LocalDateTime start = LocalDateTime.now().minusDays(7);
+        LocalDateTime end = LocalDateTime.now();
+        when(orderRepository.findResponsesByOrderDateBetween(start, end)).thenReturn(List.of(order(10L, start.plusDays(1))));
+
+        List<OrderResponse> orders = orderArchiveService.findOrdersBetween(start, end);
+
+        assertEquals(1, orders.size());
+        verifyNoInteractions(orderArchiveRepository);
+    }
+
+    @Test
+    void findOrdersBetween_ShouldMergeHotAndArchive_ForOldRange() {
+        LocalDateTime start = LocalDateTime.now().minusDays(365);
+        LocalDateTime end = LocalDateTime.now();
+        when(orderRepository.findResponsesByOrderDateBetween(start, end)).thenReturn(List.of(order(10L, end.minusDays(1))));
+        when(orderArchiveRepository.findResponsesByOrderDateBetween(start, end)).thenReturn(List.of(order(1L, start.plusDays(1))));
+
+        List<OrderResponse> orders = orderArchiveService.findOrdersBetween(start, end);
+
+        assertEquals(List.of(1L, 10L), orders.stream().map(OrderResponse::id).toList());
+    }
+
+    private OrderResponse order(Long id, LocalDateTime orderDate) {
+        return new OrderResponse(id, "John Doe", "john@example.com", Order.OrderStatus.DELIVERED, orderDate, BigDecimal.TEN);
+    }
+}
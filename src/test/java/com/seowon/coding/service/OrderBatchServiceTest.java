@@ -0,0 +1,233 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.dto.OrderStatusView;
+import com.seowon.coding.domain.model.BulkOrderReq;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.OrderOutboxEvent;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.OrderOutboxRepository;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.service.pricing.Coupon;
+import com.seowon.coding.service.pricing.PricingEngine;
+import com.seowon.coding.service.pricing.PricingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.ArgumentCaptor;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderBatchServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderOutboxRepository orderOutboxRepository;
+
+    @Mock
+    private CustomerOrderSummaryRecorder customerOrderSummaryRecorder;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Spy
+    private PricingEngine pricingEngine = new PricingEngine(pricingProperties());
+
+    @Spy
+    private OrderMetrics orderMetrics = new OrderMetrics(new SimpleMeterRegistry());
+
+    @InjectMocks
+    private OrderBatchService orderBatchService;
+
+    private Product product1;
+    private Product product2;
+
+    @BeforeEach
+    void setUp() {
+        product1 = Product.builder()
+                .id(1L)
+                .name("Test Product 1")
+                .price(BigDecimal.valueOf(100.00))
+                .stockQuantity(3)
+                .build();
+
+        product2 = Product.builder()
+                .id(2L)
+                .name("Test Product 2")
+                .price(BigDecimal.valueOf(200.00))
+                .stockQuantity(20)
+                .build();
+    }
+
+    @Test
+    void placeOrders() {
+        when(productRepository.findAllByIdInForUpdate(any())).thenReturn(List.of(product1, product2));
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Order> orders = invocation.getArgument(0);
+            long id = 100;
+            for (Order order : orders) {
+                order.setId(id++);
+            }
+            return orders;
+        });
+
+        List<BulkOrderReq> reqs = List.of(
+                order("John Doe", new OrderProduct(1L, 2), new OrderProduct(2L, 1)),
+                order("Jane Smith", new OrderProduct(1L, 2)),   // 앞 주문 이후 재고 1 -> 실패
+                order("Jim Beam", new OrderProduct(3L, 1)),     // 없는 상품
+                order("Jack Daniels", new OrderProduct(1L, 1))
+        );
+
+        List<BulkOrderResult> results = orderBatchService.placeOrders(reqs);
+
+        assertEquals(4, results.size());
+        assertTrue(results.get(0).success());
+        assertEquals(100L, results.get(0).orderId());
+        assertFalse(results.get(1).success());
+        assertFalse(results.get(2).success());
+        assertTrue(results.get(3).success());
+        assertEquals(101L, results.get(3).orderId());
+        assertEquals(0, product1.getStockQuantity());
+        assertEquals(19, product2.getStockQuantity());
+        verify(orderMetrics, times(1)).stockOutRejected();
+
+        verify(productRepository, times(1)).findAllByIdInForUpdate(new TreeSet<>(List.of(1L, 2L, 3L)));
+        verify(productRepository, never()).findById(any());
+        verify(orderRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void placeOrders_ShouldApplyCouponPerOrder() {
+        when(productRepository.findAllByIdInForUpdate(any())).thenReturn(List.of(product1, product2));
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BulkOrderReq sale = order("John Doe", new OrderProduct(2L, 1));
+        sale.setCouponCode("SALE");
+        BulkOrderReq percent = order("Jane Smith", new OrderProduct(2L, 2));
+        percent.setCouponCode("SALE20");
+        BulkOrderReq small = order("Jim Beam", new OrderProduct(1L, 1));
+        small.setCouponCode("VIP");
+
+        orderBatchService.placeOrders(List.of(sale, percent, small));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Order>> saved = ArgumentCaptor.forClass(List.class);
+        verify(orderRepository).saveAll(saved.capture());
+        // 200.00 - 10.00 / 400.00 - 20% / 100.00 은 VIP 최소 금액 미만이라 할인 없음 (무료 배송 기준은 충족)
+        assertEquals(List.of(new BigDecimal("190.00"), new BigDecimal("320.00"), new BigDecimal("100.00")),
+                saved.getValue().stream().map(o -> o.getTotalAmount().setScale(2)).toList());
+        verify(orderMetrics).couponApplied("SALE");
+        verify(orderMetrics).couponApplied("SALE20");
+    }
+
+    @Test
+    void changeStatuses_ShouldRejectMissingAndInvalidTransitions() {
+        when(orderRepository.findStatusesByIdIn(List.of(1L, 2L, 3L, 4L))).thenReturn(List.of(
+                view(1L, Order.OrderStatus.PROCESSING),
+                view(2L, Order.OrderStatus.CANCELLED),
+                view(3L, Order.OrderStatus.PROCESSING)));
+        when(orderRepository.updateStatus(List.of(1L, 3L), Set.of(Order.OrderStatus.PROCESSING), Order.OrderStatus.SHIPPED))
+                .thenReturn(2);
+
+        BulkStatusChangeResult result = orderBatchService.changeStatuses(
+                List.of(1L, 2L, 3L, 4L, 1L), Order.OrderStatus.SHIPPED);
+
+        assertEquals(4, result.requested());
+        assertEquals(2, result.updated());
+        assertEquals(List.of(2L, 4L), result.rejectedIds());
+        verify(orderRepository, never()).findById(any());
+        verify(orderOutboxRepository).saveAll(argThat((List<OrderOutboxEvent> events) -> events.size() == 2
+                && events.get(0).getPreviousStatus() == Order.OrderStatus.PROCESSING
+                && events.get(0).getStatus() == Order.OrderStatus.SHIPPED));
+        verify(customerOrderSummaryRecorder, times(2)).record(eq("customer@example.com"), any(), any(),
+                eq(Order.OrderStatus.PROCESSING), eq(Order.OrderStatus.SHIPPED));
+    }
+
+    @Test
+    void changeStatuses_ShouldUseStatusReadUnderLock() {
+        // 1번 주문은 다른 트랜잭션이 PENDING -> PROCESSING 으로 바꾼 뒤 lock 이 풀려 여기서는 PROCESSING 으로 읽힌다
+        when(orderRepository.findStatusesByIdIn(List.of(1L, 2L))).thenReturn(List.of(
+                view(1L, Order.OrderStatus.PROCESSING),
+                view(2L, Order.OrderStatus.PENDING)));
+        when(orderRepository.updateStatus(List.of(1L, 2L), Order.OrderStatus.sourcesOf(Order.OrderStatus.CANCELLED),
+                Order.OrderStatus.CANCELLED)).thenReturn(2);
+
+        BulkStatusChangeResult result = orderBatchService.changeStatuses(List.of(1L, 2L), Order.OrderStatus.CANCELLED);
+
+        assertEquals(2, result.updated());
+        InOrder inOrder = inOrder(orderRepository);
+        inOrder.verify(orderRepository).lockByIdIn(List.of(1L, 2L));
+        inOrder.verify(orderRepository).findStatusesByIdIn(List.of(1L, 2L));
+        inOrder.verify(orderRepository).updateStatus(any(), any(), eq(Order.OrderStatus.CANCELLED));
+        verify(orderOutboxRepository).saveAll(argThat((List<OrderOutboxEvent> events) ->
+                events.get(0).getPreviousStatus() == Order.OrderStatus.PROCESSING
+                        && events.get(1).getPreviousStatus() == Order.OrderStatus.PENDING));
+        verify(customerOrderSummaryRecorder).record(eq("customer@example.com"), any(), any(),
+                eq(Order.OrderStatus.PROCESSING), eq(Order.OrderStatus.CANCELLED));
+        verify(customerOrderSummaryRecorder).record(eq("customer@example.com"), any(), any(),
+                eq(Order.OrderStatus.PENDING), eq(Order.OrderStatus.CANCELLED));
+    }
+
+    @Test
+    void changeStatuses_ShouldFail_WhenLockedRowsChangeBeforeUpdate() {
+        when(orderRepository.findStatusesByIdIn(List.of(1L, 2L))).thenReturn(List.of(
+                view(1L, Order.OrderStatus.PENDING),
+                view(2L, Order.OrderStatus.PENDING)));
+        when(orderRepository.updateStatus(eq(List.of(1L, 2L)), any(), eq(Order.OrderStatus.PROCESSING))).thenReturn(1);
+
+        assertThrows(IllegalStateException.class,
+                () -> orderBatchService.changeStatuses(List.of(1L, 2L), Order.OrderStatus.PROCESSING));
+        verify(orderOutboxRepository, never()).saveAll(any());
+        verify(customerOrderSummaryRecorder, never()).record(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void changeStatuses_ShouldRejectMissingStatus() {
+        assertThrows(IllegalArgumentException.class, () -> orderBatchService.changeStatuses(List.of(1L), null));
+    }
+
+    @Test
+    void placeOrders_ShouldRejectEmptyBatch() {
+        assertThrows(IllegalArgumentException.class, () -> orderBatchService.placeOrders(List.of()));
+    }
+
+    private OrderStatusView view(Long id, Order.OrderStatus status) {
+        return new OrderStatusView(id, status, "customer@example.com", BigDecimal.valueOf(100.00), null);
+    }
+
+    private BulkOrderReq order(String customerName, OrderProduct... products) {
+        return BulkOrderReq.builder()
+                .customerName(customerName)
+                .customerEmail("customer@example.com")
+                .products(List.of(products))
+                .build();
+    }
+
+    // application.yaml 과 같은 쿠폰 설정: SALE* 10.00 정액, SALE20* 20% 정률, VIP 는 200.00 이상일 때 30.00
+    private static PricingProperties pricingProperties() {
+        PricingProperties properties = new PricingProperties();
+        properties.setCoupons(List.of(
+                new PricingProperties.CouponSpec("SALE", true, Coupon.Type.FIXED, new BigDecimal("10.00"), null),
+                new PricingProperties.CouponSpec("SALE20", true, Coupon.Type.PERCENT, new BigDecimal("20"), null),
+                new PricingProperties.CouponSpec("VIP", false, Coupon.Type.FIXED, new BigDecimal("30.00"), new BigDecimal("200.00"))));
+        return properties;
+    }
+}
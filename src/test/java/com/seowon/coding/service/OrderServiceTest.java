@@ -1,15 +1,25 @@
 package com.seowon.coding.service;
 
+import com.seowon.coding.domain.dto.OrderResponse;
+import com.seowon.coding.domain.dto.OrderStatusView;
 import com.seowon.coding.domain.model.Order;
 import com.seowon.coding.domain.model.OrderItem;
+import com.seowon.coding.domain.model.OrderPatchReq;
 import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.OrderItemRepository;
 import com.seowon.coding.domain.repository.OrderRepository;
 import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.service.pricing.Coupon;
+import com.seowon.coding.service.pricing.PriceQuote;
+import com.seowon.coding.service.pricing.PricingEngine;
+import com.seowon.coding.service.pricing.PricingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
@@ -28,9 +38,21 @@ class OrderServiceTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
     @Mock
     private ProductRepository productRepository;
 
+    @Spy
+    private PricingEngine pricingEngine = new PricingEngine(pricingProperties());
+
+    @Spy
+    private OrderMetrics orderMetrics = new OrderMetrics(new SimpleMeterRegistry());
+
+    @Mock
+    private CustomerOrderSummaryRecorder customerOrderSummaryRecorder;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -114,26 +136,126 @@ class OrderServiceTest {
 
     @Test
     void updateOrder() {
-        when(orderRepository.existsById(1L)).thenReturn(true);
-        when(orderRepository.save(any(Order.class))).thenReturn(order1);
+        when(customerOrderSummaryRecorder.snapshot(1L)).thenReturn(Optional.of(view(order1)));
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order1));
+        when(orderRepository.save(order1)).thenReturn(order1);
+        Order request = Order.builder()
+                .customerName("John Smith")
+                .customerEmail("john@example.com")
+                .status(Order.OrderStatus.PROCESSING)
+                .orderDate(order1.getOrderDate())
+                .totalAmount(BigDecimal.valueOf(400.00))
+                .build();
 
-        Order updated = orderService.updateOrder(1L, order1);
+        Order updated = orderService.updateOrder(1L, request);
 
-        assertNotNull(updated);
-        assertEquals("John Doe", updated.getCustomerName());
-        verify(orderRepository, times(1)).existsById(1L);
+        assertEquals("John Smith", updated.getCustomerName());
+        assertEquals(Order.OrderStatus.PROCESSING, updated.getStatus());
+        assertEquals(2, updated.getItems().size());
+        verify(orderRepository, times(1)).findById(1L);
         verify(orderRepository, times(1)).save(order1);
     }
 
+    @Test
+    void updateOrder_ShouldKeepStatus_WhenRequestHasNone() {
+        when(customerOrderSummaryRecorder.snapshot(1L)).thenReturn(Optional.of(view(order1)));
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order1));
+        when(orderRepository.save(order1)).thenReturn(order1);
+        Order request = Order.builder().customerName("John Smith").build();
+
+        Order updated = orderService.updateOrder(1L, request);
+
+        assertEquals(Order.OrderStatus.PENDING, updated.getStatus());
+    }
+
+    @Test
+    void updateOrder_ShouldMoveSummaryContribution_FromPersistedValues() {
+        OrderStatusView before = view(order2);
+        when(customerOrderSummaryRecorder.snapshot(2L)).thenReturn(Optional.of(before));
+        when(orderRepository.findById(2L)).thenReturn(Optional.of(order2));
+        when(orderRepository.save(order2)).thenReturn(order2);
+        Order request = Order.builder()
+                .customerName("Jane Smith")
+                .customerEmail("jane.smith@example.com")
+                .orderDate(order2.getOrderDate())
+                .totalAmount(BigDecimal.valueOf(250.00))
+                .build();
+
+        orderService.updateOrder(2L, request);
+
+        verify(customerOrderSummaryRecorder).moved(before, new OrderStatusView(2L, Order.OrderStatus.PROCESSING,
+                "jane.smith@example.com", BigDecimal.valueOf(250.00), order2.getOrderDate()));
+    }
+
+    @Test
+    void updateOrder_ShouldRejectInvalidStatusTransition() {
+        when(customerOrderSummaryRecorder.snapshot(2L)).thenReturn(Optional.of(view(order2)));
+        when(orderRepository.findById(2L)).thenReturn(Optional.of(order2));
+        Order request = Order.builder().status(Order.OrderStatus.DELIVERED).build();
+
+        assertThrows(IllegalStateException.class, () -> orderService.updateOrder(2L, request));
+        assertEquals(Order.OrderStatus.PROCESSING, order2.getStatus());
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
+    @Test
+    void updateOrder_ShouldFail_WhenOrderMissing() {
+        when(customerOrderSummaryRecorder.snapshot(99L)).thenReturn(Optional.empty());
+
+        assertThrows(RuntimeException.class, () -> orderService.updateOrder(99L, order1));
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
+    @Test
+    void patchOrder_ShouldFail_WhenNothingUpdated() {
+        OrderPatchReq patch = OrderPatchReq.builder().customerEmail("new@example.com").build();
+        when(customerOrderSummaryRecorder.snapshot(99L)).thenReturn(Optional.of(view(order1)));
+        when(orderRepository.patch(99L, patch)).thenReturn(0);
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> orderService.patchOrder(99L, patch));
+        assertFalse(e instanceof IllegalArgumentException);
+        verify(orderRepository, never()).existsById(any());
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(customerOrderSummaryRecorder, never()).moved(any(), any());
+    }
+
+    @Test
+    void patchOrder_ShouldMoveSummaryContribution_WhenEmailChanges() {
+        OrderPatchReq patch = OrderPatchReq.builder().customerEmail("jane.smith@example.com").build();
+        OrderStatusView before = view(order2);
+        OrderStatusView after = new OrderStatusView(2L, Order.OrderStatus.PROCESSING, "jane.smith@example.com",
+                order2.getTotalAmount(), order2.getOrderDate());
+        when(customerOrderSummaryRecorder.snapshot(2L)).thenReturn(Optional.of(before), Optional.of(after));
+        when(orderRepository.patch(2L, patch)).thenReturn(1);
+        when(orderRepository.findResponseById(2L)).thenReturn(Optional.of(new OrderResponse(2L, "Jane Smith",
+                "jane.smith@example.com", Order.OrderStatus.PROCESSING, order2.getOrderDate(), order2.getTotalAmount())));
+        when(orderItemRepository.findResponsesByOrderId(2L)).thenReturn(List.of());
+
+        OrderResponse patched = orderService.patchOrder(2L, patch);
+
+        assertEquals("jane.smith@example.com", patched.customerEmail());
+        verify(customerOrderSummaryRecorder).moved(before, after);
+    }
+
     @Test
     void deleteOrder() {
-        when(orderRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(orderRepository).deleteById(1L);
+        OrderStatusView before = view(order2);
+        when(customerOrderSummaryRecorder.snapshot(2L)).thenReturn(Optional.of(before));
+        doNothing().when(orderRepository).deleteById(2L);
 
-        orderService.deleteOrder(1L);
+        orderService.deleteOrder(2L);
 
-        verify(orderRepository, times(1)).existsById(1L);
-        verify(orderRepository, times(1)).deleteById(1L);
+        verify(customerOrderSummaryRecorder, times(1)).removed(before);
+        verify(orderRepository, times(1)).deleteById(2L);
+    }
+
+    @Test
+    void deleteOrder_ShouldFail_WhenOrderMissing() {
+        when(customerOrderSummaryRecorder.snapshot(99L)).thenReturn(Optional.empty());
+
+        assertThrows(RuntimeException.class, () -> orderService.deleteOrder(99L));
+        verify(customerOrderSummaryRecorder, never()).removed(any());
+        verify(orderRepository, never()).deleteById(any());
     }
 
     @Test
@@ -160,8 +282,7 @@ class OrderServiceTest {
 
     @Test
     void checkoutOrder() {
-        when(productRepository.findById(1L)).thenReturn(Optional.of(product1));
-        when(productRepository.findById(2L)).thenReturn(Optional.of(product2));
+        when(productRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(product1, product2));
         when(orderRepository.save(any(Order.class))).thenReturn(order1);
 
         List<OrderProduct> orderProducts = Arrays.asList(
@@ -177,9 +298,74 @@ class OrderServiceTest {
         assertEquals(Order.OrderStatus.PENDING, placed.getStatus());
         assertEquals(2, placed.getItems().size());
 
-        verify(productRepository, times(1)).findById(1L);
-        verify(productRepository, times(1)).findById(2L);
+        verify(productRepository, times(1)).findAllById(List.of(1L, 2L));
+        verify(productRepository, never()).findById(any());
         verify(orderRepository, times(1)).save(any(Order.class));
+        assertEquals(8, product1.getStockQuantity());
+        assertEquals(19, product2.getStockQuantity());
+    }
+
+    @Test
+    void checkoutOrder_ShouldApplyCouponToTotalAmount() {
+        when(productRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(product1, product2));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        List<OrderProduct> orderProducts = List.of(new OrderProduct(1L, 2), new OrderProduct(2L, 1));
+
+        // subtotal 400.00 은 무료 배송 기준 이상
+        assertEquals(0, new BigDecimal("390.00").compareTo(
+                orderService.checkoutOrder("John Doe", "john@example.com", orderProducts, "SALESPRING").getTotalAmount()));
+        assertEquals(0, new BigDecimal("320.00").compareTo(
+                orderService.checkoutOrder("John Doe", "john@example.com", orderProducts, "SALE20").getTotalAmount()));
+        assertEquals(0, new BigDecimal("370.00").compareTo(
+                orderService.checkoutOrder("John Doe", "john@example.com", orderProducts, "VIP").getTotalAmount()));
+        assertEquals(0, new BigDecimal("400.00").compareTo(
+                orderService.checkoutOrder("John Doe", "john@example.com", orderProducts, "UNKNOWN").getTotalAmount()));
+        verify(orderMetrics).couponApplied("SALE");
+        verify(orderMetrics).couponApplied("SALE20");
+        verify(orderMetrics).couponApplied("VIP");
+    }
+
+    @Test
+    void checkoutOrder_ShouldSkipCoupon_BelowMinimumSubtotal() {
+        Product cheap = Product.builder().id(3L).name("Cheap").price(new BigDecimal("50.00")).stockQuantity(5).build();
+        when(productRepository.findAllById(List.of(3L))).thenReturn(List.of(cheap));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Order placed = orderService.checkoutOrder("John Doe", "john@example.com", List.of(new OrderProduct(3L, 1)), "VIP");
+
+        // VIP 는 200.00 미만이라 적용되지 않고, 100.00 미만이라 배송비 5.00 부과
+        assertEquals(0, new BigDecimal("55.00").compareTo(placed.getTotalAmount()));
+    }
+
+    @Test
+    void quoteOrder() {
+        when(productRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(product1, product2));
+
+        List<OrderProduct> orderProducts = Arrays.asList(
+                new OrderProduct(1L, 2),
+                new OrderProduct(2L, 1)
+        );
+
+        PriceQuote quote = orderService.quoteOrder(orderProducts, "SALE");
+
+        assertEquals(0, BigDecimal.valueOf(400.00).compareTo(quote.subtotal()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(quote.shipping()));
+        assertEquals(10, product1.getStockQuantity());
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
+    // application.yaml 과 같은 쿠폰 설정: SALE* 10.00 정액, SALE20* 20% 정률, VIP 는 200.00 이상일 때 30.00
+    private static PricingProperties pricingProperties() {
+        PricingProperties properties = new PricingProperties();
+        properties.setCoupons(List.of(
+                new PricingProperties.CouponSpec("SALE", true, Coupon.Type.FIXED, new BigDecimal("10.00"), null),
+                new PricingProperties.CouponSpec("SALE20", true, Coupon.Type.PERCENT, new BigDecimal("20"), null),
+                new PricingProperties.CouponSpec("VIP", false, Coupon.Type.FIXED, new BigDecimal("30.00"), new BigDecimal("200.00"))));
+        return properties;
+    }
 
+    private static OrderStatusView view(Order order) {
+        return new OrderStatusView(order.getId(), order.getStatus(), order.getCustomerEmail(),
+                order.getTotalAmount(), order.getOrderDate());
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,11 @@
 package com.seowon.coding.service;
 
+import com.seowon.coding.domain.dto.ProductResponse;
 import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.model.ProductPatchReq;
 import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.inventory.CategoryAggregateStore;
+import com.seowon.coding.inventory.StockRiskMonitor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,6 +14,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -24,6 +29,12 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private StockRiskMonitor stockRiskMonitor;
+
+    @Mock
+    private CategoryAggregateStore categoryAggregateStore;
+
     @InjectMocks
     private ProductService productService;
 
@@ -119,4 +130,63 @@ class ProductServiceTest {
         verify(productRepository, times(1)).findByCategory("Electronics");
     }
 
-}
\ No newline at end of file
+    @Test
+    void getProductETag() {
+        Instant lastModified = Instant.parse("2025-01-01T00:00:00.123456Z");
+        when(productRepository.findLastModifiedById(1L)).thenReturn(Optional.of(lastModified));
+
+        Optional<String> etag = productService.getProductETag(1L);
+
+        assertEquals(Optional.of("\"product-1-1735689600123456\""), etag);
+        verify(productRepository, never()).findById(any());
+    }
+
+    @Test
+    void patchProduct() {
+        ProductPatchReq patch = ProductPatchReq.builder().price(BigDecimal.valueOf(120.00)).build();
+        when(productRepository.patch(1L, patch)).thenReturn(1);
+        when(productRepository.findResponseById(1L)).thenReturn(Optional.of(ProductResponse.from(product1)));
+
+        ProductResponse patched = productService.patchProduct(1L, patch);
+
+        assertEquals(1L, patched.id());
+        verify(productRepository, never()).existsById(any());
+        verify(productRepository, never()).save(any(Product.class));
+        verify(stockRiskMonitor, never()).refresh(any());
+        verify(categoryAggregateStore).refresh(List.of(1L));
+    }
+
+    @Test
+    void patchProduct_ShouldRefreshStockRisk_WhenStockChanges() {
+        ProductPatchReq patch = ProductPatchReq.builder().stockQuantity(3).reorderThreshold(5).build();
+        when(productRepository.patch(1L, patch)).thenReturn(1);
+        when(productRepository.findResponseById(1L)).thenReturn(Optional.of(ProductResponse.from(product1)));
+
+        productService.patchProduct(1L, patch);
+
+        verify(stockRiskMonitor).refresh(List.of(1L));
+        verify(categoryAggregateStore).refresh(List.of(1L));
+    }
+
+    @Test
+    void patchProduct_ShouldFail_WhenNothingUpdated() {
+        ProductPatchReq patch = ProductPatchReq.builder().name("Renamed").build();
+        when(productRepository.patch(99L, patch)).thenReturn(0);
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> productService.patchProduct(99L, patch));
+        assertFalse(e instanceof IllegalArgumentException);
+        verify(productRepository, never()).findResponseById(any());
+    }
+
+    @Test
+    void patchProduct_ShouldRejectInvalidFields() {
+        assertThrows(IllegalArgumentException.class,
+                () -> productService.patchProduct(1L, new ProductPatchReq()));
+        assertThrows(IllegalArgumentException.class,
+                () -> productService.patchProduct(1L, ProductPatchReq.builder().stockQuantity(-1).build()));
+        assertThrows(IllegalArgumentException.class,
+                () -> productService.patchProduct(1L, ProductPatchReq.builder().reorderThreshold(-1).build()));
+        verify(productRepository, never()).patch(any(), any());
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.dto.ProductResponse;
+import com.seowon.coding.domain.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductStreamServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProductStreamService productStreamService;
+
+    @BeforeEach
+    void setUp() {
+        productStreamService = new ProductStreamService(productRepository, transactionManager);
+    }
+
+    @Test
+    void streamProducts_ShouldFollowKeysetUntilShortPage() {
+        when(productRepository.findResponsesAfter(eq(0L), any(Limit.class))).thenReturn(products(1, 2));
+        when(productRepository.findResponsesAfter(eq(2L), any(Limit.class))).thenReturn(products(3));
+
+        StepVerifier.create(productStreamService.streamProducts(2))
+                .expectNextMatches(p -> p.id() == 1L)
+                .expectNextMatches(p -> p.id() == 2L)
+                .expectNextMatches(p -> p.id() == 3L)
+                .verifyComplete();
+
+        verify(productRepository, times(2)).findResponsesAfter(anyLong(), any(Limit.class));
+    }
+
+    @Test
+    void streamProducts_ShouldNotReadAhead_WithoutDemand() {
+        when(productRepository.findResponsesAfter(eq(0L), any(Limit.class))).thenReturn(products(1, 2));
+
+        StepVerifier.create(productStreamService.streamProducts(2), 0)
+                .thenRequest(1)
+                .expectNextMatches(p -> p.id() == 1L)
+                .thenCancel()
+                .verify();
+
+        // 첫 페이지를 다 소비하기 전에는 다음 페이지를 조회하지 않는다
+        verify(productRepository, never()).findResponsesAfter(eq(2L), any(Limit.class));
+    }
+
+    @Test
+    void streamProducts_ShouldRejectInvalidPageSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> productStreamService.streamProducts(ProductStreamService.MAX_PAGE_SIZE + 1));
+    }
+
+    private List<ProductResponse> products(long... ids) {
+        return LongStream.of(ids)
+                .mapToObj(id -> new ProductResponse(id, "Product " + id, null, BigDecimal.TEN, 1, null, null))
+                .toList();
+    }
+}
@@ -0,0 +1,145 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.dto.StockLevel;
+import com.seowon.coding.domain.model.StockAdjustmentReq;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.inventory.CategoryAggregateStore;
+import com.seowon.coding.inventory.StockRiskMonitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockAdjustmentServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private StockRiskMonitor stockRiskMonitor;
+
+    @Mock
+    private CategoryAggregateStore categoryAggregateStore;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StockAdjustmentService stockAdjustmentService;
+
+    @BeforeEach
+    void setUp() {
+        stockAdjustmentService = new StockAdjustmentService(jdbcTemplate, productRepository, stockRiskMonitor, categoryAggregateStore,
+                transactionManager);
+    }
+
+    @Test
+    void adjustStock_ShouldReportPerLineResults_InRequestOrder() {
+        List<StockAdjustmentReq> adjustments = List.of(
+                new StockAdjustmentReq(2L, 5),
+                new StockAdjustmentReq(1L, -3),
+                new StockAdjustmentReq(3L, -100),
+                new StockAdjustmentReq(9L, 1));
+        // update 는 id 순서(1, 2, 3, 9)로 실행된다
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1, 1, 0, 0});
+        Instant modified = Instant.parse("2025-01-01T00:00:00Z");
+        StockLevel first = new StockLevel(1L, "First", 7, 0, modified);
+        StockLevel second = new StockLevel(2L, "Second", 15, 0, modified);
+        StockLevel third = new StockLevel(3L, "Third", 4, 10, modified);
+        when(productRepository.findStockLevelsByIdIn(List.of(1L, 2L, 3L, 9L))).thenReturn(List.of(first, second, third));
+
+        List<StockAdjustmentResult> results = stockAdjustmentService.adjustStock(adjustments);
+
+        assertEquals(StockAdjustmentResult.applied(0, 2L, 15), results.get(0));
+        assertEquals(StockAdjustmentResult.applied(1, 1L, 7), results.get(1));
+        assertFalse(results.get(2).applied());
+        assertEquals(4, results.get(2).stockQuantity());
+        assertFalse(results.get(3).applied());
+        assertNull(results.get(3).stockQuantity());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), args.capture());
+        assertEquals(List.of(1L, 2L, 3L, 9L), args.getValue().stream().map(row -> row[2]).toList());
+        assertArrayEquals(new Object[]{-3, args.getValue().get(0)[1], 1L, -3}, args.getValue().get(0));
+        verify(stockRiskMonitor).record(first);
+        verify(stockRiskMonitor).record(third);
+        verify(categoryAggregateStore).recordStock(1L, 7, modified);
+        verify(categoryAggregateStore).recordStock(3L, 4, modified);
+    }
+
+    @Test
+    void adjustStock_ShouldKeepRequestOrder_ForSameProduct() {
+        List<StockAdjustmentReq> adjustments = List.of(
+                new StockAdjustmentReq(5L, -4),
+                new StockAdjustmentReq(1L, 1),
+                new StockAdjustmentReq(5L, 10));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1, 1, 1});
+        when(productRepository.findStockLevelsByIdIn(List.of(1L, 5L)))
+                .thenReturn(List.of(new StockLevel(1L, "One", 2, 0), new StockLevel(5L, "Five", 8, 0)));
+
+        stockAdjustmentService.adjustStock(adjustments);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), args.capture());
+        assertEquals(List.of(1L, 5L, 5L), args.getValue().stream().map(row -> row[2]).toList());
+        assertEquals(List.of(1, -4, 10), args.getValue().stream().map(row -> row[0]).toList());
+    }
+
+    @Test
+    void adjustStock_ShouldRollBackOnlyFailedBatch() {
+        List<StockAdjustmentReq> adjustments = new ArrayList<>();
+        for (long id = 1; id <= StockAdjustmentService.BATCH_SIZE + 2; id++) {
+            adjustments.add(new StockAdjustmentReq(id, 1));
+        }
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenAnswer(invocation -> {
+                    int[] counts = new int[invocation.<List<?>>getArgument(1).size()];
+                    Arrays.fill(counts, 1);
+                    return counts;
+                })
+                .thenThrow(new QueryTimeoutException("timeout"));
+        when(productRepository.findStockLevelsByIdIn(anyList()))
+                .thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).stream()
+                        .map(id -> new StockLevel(id, "Product " + id, 1, 0))
+                        .toList());
+
+        List<StockAdjustmentResult> results = stockAdjustmentService.adjustStock(adjustments);
+
+        assertEquals(StockAdjustmentService.BATCH_SIZE + 2, results.size());
+        assertTrue(results.subList(0, StockAdjustmentService.BATCH_SIZE).stream().allMatch(StockAdjustmentResult::applied));
+        assertTrue(results.subList(StockAdjustmentService.BATCH_SIZE, results.size()).stream().noneMatch(StockAdjustmentResult::applied));
+        verify(transactionManager, times(1)).commit(any());
+        verify(transactionManager, times(1)).rollback(any());
+    }
+
+    @Test
+    void adjustStock_ShouldRejectInvalidRequest() {
+        assertThrows(IllegalArgumentException.class, () -> stockAdjustmentService.adjustStock(List.of()));
+        assertThrows(IllegalArgumentException.class,
+                () -> stockAdjustmentService.adjustStock(List.of(new StockAdjustmentReq(null, 1))));
+        assertThrows(IllegalArgumentException.class,
+                () -> stockAdjustmentService.adjustStock(List.of(new StockAdjustmentReq(1L, 0))));
+        verifyNoInteractions(jdbcTemplate, transactionManager);
+    }
+}
@@ -0,0 +1,56 @@
+package com.seowon.coding.service.pricing;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 1,000 라인 장바구니 + 쿠폰 수십 개 기준 quote 성능 측정 (./gradlew benchmark)
+ */
+@Tag("benchmark")
+class PricingEngineBenchmark {
+
+    private static final int LINES = 1_000;
+    private static final int COUPONS = 48;
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 50_000;
+
+    @Test
+    void quoteLargeCart() {
+        PricingProperties properties = new PricingProperties();
+        properties.setTaxRate(new BigDecimal("0.10"));
+        List<PricingProperties.CouponSpec> coupons = new ArrayList<>();
+        for (int i = 0; i < COUPONS; i++) {
+            coupons.add(new PricingProperties.CouponSpec("PROMO" + i, i % 2 == 0,
+                    i % 3 == 0 ? Coupon.Type.PERCENT : Coupon.Type.FIXED, BigDecimal.valueOf(5 + i), null));
+        }
+        properties.setCoupons(coupons);
+        PricingEngine engine = new PricingEngine(properties);
+
+        List<PricingLine> cart = new ArrayList<>(LINES);
+        for (int i = 0; i < LINES; i++) {
+            cart.add(new PricingLine((long) i, BigDecimal.valueOf(1_000 + i, 2), 1 + i % 5));
+        }
+
+        BigDecimal sink = BigDecimal.ZERO;
+        for (int i = 0; i < WARMUP; i++) {
+            sink = sink.add(engine.quote(cart, "PROMO" + (i % COUPONS)).total());
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink = sink.add(engine.quote(cart, "PROMO" + (i % COUPONS)).total());
+        }
+        long elapsed = System.nanoTime() - start;
+
+        double microsPerQuote = elapsed / 1_000.0 / ITERATIONS;
+        System.out.printf("PricingEngine.quote: lines=%d coupons=%d -> %.2f us/quote (checksum %s)%n",
+                LINES, COUPONS, microsPerQuote, sink);
+        assertTrue(sink.signum() > 0);
+    }
+}
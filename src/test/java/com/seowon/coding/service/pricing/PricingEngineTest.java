@@ -0,0 +1,78 @@
+package com.seowon.coding.service.pricing;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PricingEngineTest {
+
+    private PricingEngine pricingEngine;
+
+    @BeforeEach
+    void setUp() {
+        PricingProperties properties = new PricingProperties();
+        properties.setCoupons(List.of(
+                new PricingProperties.CouponSpec("SALE", true, Coupon.Type.FIXED, new BigDecimal("10.00"), null),
+                new PricingProperties.CouponSpec("SALE20", true, Coupon.Type.PERCENT, new BigDecimal("20"), null),
+                new PricingProperties.CouponSpec("VIP", false, Coupon.Type.FIXED, new BigDecimal("30.00"), new BigDecimal("200.00"))
+        ));
+        pricingEngine = new PricingEngine(properties);
+    }
+
+    @DisplayName("소계가 무료배송 기준 미만이면 배송비가 부과되어야 합니다.")
+    @Test
+    void quote_ShouldChargeShipping_WhenBelowThreshold() {
+        PriceQuote quote = pricingEngine.quote(List.of(new PricingLine(1L, new BigDecimal("30.00"), 2)), null);
+
+        assertEquals(0, new BigDecimal("60.00").compareTo(quote.subtotal()));
+        assertEquals(0, new BigDecimal("5.00").compareTo(quote.shipping()));
+        assertEquals(0, new BigDecimal("65.00").compareTo(quote.total()));
+    }
+
+    @DisplayName("SALE 로 시작하는 쿠폰은 10.00 할인되어야 합니다.")
+    @Test
+    void quote_ShouldApplyPrefixCoupon() {
+        PriceQuote quote = pricingEngine.quote(List.of(new PricingLine(1L, new BigDecimal("100.00"), 2)), "SALE2025");
+
+        assertEquals(0, BigDecimal.ZERO.compareTo(quote.shipping()));
+        assertEquals(0, new BigDecimal("10.00").compareTo(quote.discount()));
+        assertEquals(0, new BigDecimal("190.00").compareTo(quote.total()));
+    }
+
+    @DisplayName("더 긴 prefix 쿠폰이 우선 적용되어야 합니다.")
+    @Test
+    void quote_ShouldPreferLongestPrefix() {
+        PriceQuote quote = pricingEngine.quote(List.of(new PricingLine(1L, new BigDecimal("100.00"), 2)), "SALE20-SPRING");
+
+        assertEquals(0, new BigDecimal("40.00").compareTo(quote.discount()));
+    }
+
+    @DisplayName("최소 주문금액을 만족하지 않으면 쿠폰이 적용되지 않아야 합니다.")
+    @Test
+    void quote_ShouldIgnoreCoupon_WhenBelowMinSubtotal() {
+        PriceQuote quote = pricingEngine.quote(List.of(new PricingLine(1L, new BigDecimal("150.00"), 1)), "VIP");
+
+        assertEquals(0, BigDecimal.ZERO.compareTo(quote.discount()));
+        assertEquals(0, new BigDecimal("150.00").compareTo(quote.total()));
+    }
+
+    @DisplayName("세율이 설정되면 할인 후 금액에 세금이 부과되어야 합니다.")
+    @Test
+    void quote_ShouldApplyTax_AfterDiscount() {
+        PricingProperties properties = new PricingProperties();
+        properties.setTaxRate(new BigDecimal("0.10"));
+        properties.setCoupons(List.of(
+                new PricingProperties.CouponSpec("SALE", true, Coupon.Type.FIXED, new BigDecimal("10.00"), null)));
+
+        PriceQuote quote = new PricingEngine(properties)
+                .quote(List.of(new PricingLine(1L, new BigDecimal("110.00"), 1)), "SALE");
+
+        assertEquals(0, new BigDecimal("10.00").compareTo(quote.tax()));
+        assertEquals(0, new BigDecimal("110.00").compareTo(quote.total()));
+    }
+}
@@ -0,0 +1,45 @@
+package com.seowon.coding.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * 트랜잭션 매니저 없이 트랜잭션 동기화 callback 만 흉내 내는 단위 테스트용 helper.
+ * begin 후 commit/rollback 하고, 테스트가 중간에 끝나도 다음 테스트에 남지 않도록 @AfterEach 에서 cleanUp 을 호출한다.
+ */
+public final class TestTransactions {
+
+    private TestTransactions() {
+    }
+
+    public static void begin() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    public static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(sync -> sync.beforeCommit(false));
+        synchronizations.forEach(TransactionSynchronization::beforeCompletion);
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    public static void rollback() {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::beforeCompletion);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+    }
+
+    public static void cleanUp() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            complete(TransactionSynchronization.STATUS_UNKNOWN);
+        }
+    }
+
+    private static void complete(int status) {
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(status));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
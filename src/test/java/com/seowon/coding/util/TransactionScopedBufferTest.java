@@ -0,0 +1,68 @@
+package com.seowon.coding.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionScopedBufferTest {
+
+    private final List<List<String>> flushed = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        TestTransactions.cleanUp();
+    }
+
+    @Test
+    void current_ShouldBeNull_WithoutTransaction() {
+        TransactionScopedBuffer<List<String>> buffer = buffer(TransactionScopedBuffer.Phase.AFTER_COMMIT);
+
+        assertNull(buffer.current());
+    }
+
+    @Test
+    void current_ShouldReturnSameBuffer_UntilCommit() {
+        TransactionScopedBuffer<List<String>> buffer = buffer(TransactionScopedBuffer.Phase.AFTER_COMMIT);
+        TestTransactions.begin();
+
+        buffer.current().add("a");
+        buffer.current().add("b");
+        assertTrue(flushed.isEmpty());
+        TestTransactions.commit();
+
+        assertEquals(List.of(List.of("a", "b")), flushed);
+        assertFalse(TransactionSynchronizationManager.hasResource(buffer));
+    }
+
+    @Test
+    void current_ShouldFlushBeforeCommit_ForBeforeCommitPhase() {
+        TransactionScopedBuffer<List<String>> buffer = buffer(TransactionScopedBuffer.Phase.BEFORE_COMMIT);
+        TestTransactions.begin();
+
+        buffer.current().add("a");
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+
+        assertEquals(List.of(List.of("a")), flushed);
+    }
+
+    @Test
+    void current_ShouldDiscardBuffer_OnRollback() {
+        TransactionScopedBuffer<List<String>> buffer = buffer(TransactionScopedBuffer.Phase.AFTER_COMMIT);
+        TestTransactions.begin();
+
+        buffer.current().add("a");
+        TestTransactions.rollback();
+
+        assertTrue(flushed.isEmpty());
+        assertFalse(TransactionSynchronizationManager.hasResource(buffer));
+    }
+
+    private TransactionScopedBuffer<List<String>> buffer(TransactionScopedBuffer.Phase phase) {
+        return new TransactionScopedBuffer<>(phase, ArrayList::new, flushed::add);
+    }
+}